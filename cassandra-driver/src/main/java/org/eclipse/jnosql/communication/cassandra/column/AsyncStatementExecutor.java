@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import jakarta.nosql.column.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Executes statements through {@link CqlSession#executeAsync(Statement)} completing the results at the
+ * {@link Executor}, so the driver I/O threads never run the conversion or the callbacks.
+ * It bounds the requests in flight: when the limit is reached, the statement waits in a queue and starts when a
+ * request finishes, so the caller is never blocked. The queue is bounded too, when it is full the returned stage
+ * fails with {@link RejectedExecutionException}, so a caller faster than Cassandra gets back pressure instead of
+ * an ever growing queue.
+ */
+final class AsyncStatementExecutor {
+
+    static final int DEFAULT_MAX_IN_FLIGHT = 1_024;
+
+    static final int DEFAULT_QUEUED_PER_IN_FLIGHT = 4;
+
+    private final Executor executor;
+
+    private final Semaphore inFlight;
+
+    private final int maxInFlight;
+
+    private final int maxQueued;
+
+    private final BlockingQueue<Runnable> pending;
+
+    AsyncStatementExecutor(Executor executor, int maxInFlight, int maxQueued) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("The max in flight requests must be positive: " + maxInFlight);
+        }
+        if (maxQueued <= 0) {
+            throw new IllegalArgumentException("The max queued requests must be positive: " + maxQueued);
+        }
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.pending = new LinkedBlockingQueue<>(maxQueued);
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    int getPending() {
+        return pending.size();
+    }
+
+    <T> CompletionStage<T> execute(CqlSession session, Statement<?> statement, Function<AsyncResultSet, T> mapper) {
+        return compose(session, statement, r -> CompletableFuture.completedFuture(mapper.apply(r)));
+    }
+
+    <T> CompletionStage<T> compose(CqlSession session, Statement<?> statement,
+                                   Function<AsyncResultSet, CompletionStage<T>> mapper) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Runnable start = () -> start(session, statement, mapper, result);
+        if (inFlight.tryAcquire()) {
+            start.run();
+        } else if (pending.offer(start)) {
+            drain();
+        } else {
+            result.completeExceptionally(new RejectedExecutionException("There are already " + maxQueued
+                    + " asynchronous requests waiting for the " + maxInFlight + " in flight"));
+        }
+        return result;
+    }
+
+    /**
+     * Runs with a permit, that is released when the mapper completes, even when the executor rejects it.
+     */
+    private <T> void start(CqlSession session, Statement<?> statement,
+                           Function<AsyncResultSet, CompletionStage<T>> mapper, CompletableFuture<T> result) {
+        final CompletionStage<AsyncResultSet> stage;
+        try {
+            stage = session.executeAsync(statement);
+        } catch (RuntimeException exp) {
+            release();
+            result.completeExceptionally(exp);
+            return;
+        }
+        composeAsync(stage, mapper).whenComplete((value, error) -> {
+            release();
+            complete(result, value, error);
+        });
+    }
+
+    private void release() {
+        inFlight.release();
+        drain();
+    }
+
+    /**
+     * Starts the queued statements while there are permits, the queue is checked again after the permit is taken,
+     * so a statement queued while a request finishes is not left behind.
+     */
+    private void drain() {
+        while (!pending.isEmpty() && inFlight.tryAcquire()) {
+            final Runnable next = pending.poll();
+            if (next == null) {
+                inFlight.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+
+    /**
+     * Applies the mapper at the executor. Unlike {@link CompletionStage#thenComposeAsync(Function, Executor)}, when
+     * the executor rejects the task the result completes with the rejection instead of never completing.
+     */
+    private <T, R> CompletionStage<R> composeAsync(CompletionStage<T> stage,
+                                                   Function<T, CompletionStage<R>> mapper) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        stage.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        mapper.apply(value).whenComplete((r, e) -> complete(result, r, e));
+                    } catch (RuntimeException exp) {
+                        result.completeExceptionally(exp);
+                    }
+                });
+            } catch (RuntimeException exp) {
+                result.completeExceptionally(exp);
+            }
+        });
+        return result;
+    }
+
+    private static <T> void complete(CompletableFuture<T> result, T value, Throwable error) {
+        if (error == null) {
+            result.complete(value);
+        } else {
+            result.completeExceptionally(error);
+        }
+    }
+
+    CompletionStage<List<ColumnEntity>> fetchAll(AsyncResultSet resultSet, SchemaMetadataCache metadata) {
+        return fetchAll(resultSet, 0L, metadata);
+    }
+
+    /**
+     * Fetches all the pages before completing, the first skip rows are discarded without being converted.
+     */
+    CompletionStage<List<ColumnEntity>> fetchAll(AsyncResultSet resultSet, long skip, SchemaMetadataCache metadata) {
+        return fetchAll(resultSet, new ArrayList<>(), skip, metadata);
+    }
+
+    private CompletionStage<List<ColumnEntity>> fetchAll(AsyncResultSet resultSet, List<ColumnEntity> entities,
+                                                         long skip, SchemaMetadataCache metadata) {
+        long toSkip = skip;
+        for (Row row : resultSet.currentPage()) {
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            entities.add(CassandraConverter.toDocumentEntity(row, metadata));
+        }
+        if (resultSet.hasMorePages()) {
+            final long remaining = toSkip;
+            return composeAsync(resultSet.fetchNextPage(), r -> fetchAll(r, entities, remaining, metadata));
+        }
+        return CompletableFuture.completedFuture(entities);
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncStatementExecutor{" +
+                "executor=" + executor +
+                ", maxInFlight=" + maxInFlight +
+                ", maxQueued=" + maxQueued +
+                ", inFlight=" + getInFlight() +
+                ", pending=" + getPending() +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the bulk writes of a {@link CassandraColumnFamilyManager}. A batch is a round trip to the cluster:
+ * an UNLOGGED batch at {@link BulkWriteStrategy#UNLOGGED_BATCH} or a single row on the other strategies.
+ */
+public final class BulkWriteMetrics {
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder failedRows = new LongAdder();
+
+    private final LongAdder latency = new LongAdder();
+
+    private final LongAccumulator maxLatency = new LongAccumulator(Long::max, 0L);
+
+    BulkWriteMetrics() {
+    }
+
+    void onSuccess(int rows, long nanos) {
+        record(rows, nanos);
+    }
+
+    void onFailure(int rows, long nanos) {
+        record(rows, nanos);
+        this.failures.increment();
+        this.failedRows.add(rows);
+    }
+
+    private void record(int rows, long nanos) {
+        this.batches.increment();
+        this.rows.add(rows);
+        this.latency.add(nanos);
+        this.maxLatency.accumulate(nanos);
+    }
+
+    /**
+     * @return the number of batches executed, successfully or not
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * @return the number of rows sent, successfully or not
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * @return the number of batches that failed
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the number of rows in the batches that failed
+     */
+    public long getFailedRows() {
+        return failedRows.sum();
+    }
+
+    /**
+     * @return the average latency of a batch
+     */
+    public Duration getAverageLatency() {
+        final long count = batches.sum();
+        if (count == 0L) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(latency.sum() / count);
+    }
+
+    /**
+     * @return the highest latency of a batch
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteMetrics{" +
+                "batches=" + batches +
+                ", rows=" + rows +
+                ", failures=" + failures +
+                ", failedRows=" + failedRows +
+                ", averageLatency=" + getAverageLatency() +
+                ", maxLatency=" + getMaxLatency() +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import java.util.Locale;
+
+/**
+ * The strategies to write an {@link Iterable} of entities, defined by {@link CassandraConfigurations#BULK_STRATEGY}.
+ *
+ * @see BulkWriteMetrics
+ */
+public enum BulkWriteStrategy {
+
+    /**
+     * Writes one entity at a time, one synchronous round trip per row.
+     */
+    SEQUENTIAL,
+    /**
+     * Groups the rows by table and partition key into UNLOGGED batches of at most
+     * {@link CassandraConfigurations#BULK_BATCH_SIZE} rows, running up to {@link CassandraConfigurations#BULK_CONCURRENCY}
+     * batches concurrently. A row whose statement has no routing key is written on its own.
+     */
+    UNLOGGED_BATCH,
+    /**
+     * Writes every row asynchronously, with up to {@link CassandraConfigurations#BULK_CONCURRENCY} writes in flight.
+     */
+    CONCURRENT;
+
+    static BulkWriteStrategy parse(String value) {
+        return BulkWriteStrategy.valueOf(value.trim().toUpperCase(Locale.US));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import jakarta.nosql.CommunicationException;
+import jakarta.nosql.column.ColumnEntity;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes an {@link Iterable} of entities following a {@link BulkWriteStrategy}, recording the {@link BulkWriteMetrics}.
+ * On the concurrent strategies every write is tried, and when any of them fails a {@link CommunicationException}
+ * is thrown at the end with the first failure as cause.
+ */
+final class BulkWriter {
+
+    static final int DEFAULT_BATCH_SIZE = 100;
+
+    static final int DEFAULT_CONCURRENCY = 32;
+
+    private final BulkWriteStrategy strategy;
+
+    private final int batchSize;
+
+    private final int concurrency;
+
+    private final BulkWriteMetrics metrics = new BulkWriteMetrics();
+
+    BulkWriter(BulkWriteStrategy strategy, int batchSize, int concurrency) {
+        if (batchSize <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("The bulk batch size and concurrency must be positive: "
+                    + batchSize + ", " + concurrency);
+        }
+        this.strategy = requireNonNull(strategy, "strategy is required");
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+    }
+
+    BulkWriteMetrics getMetrics() {
+        return metrics;
+    }
+
+    List<ColumnEntity> write(CqlSession session, Iterable<ColumnEntity> entities,
+                             Function<ColumnEntity, BoundStatement> statement, ConsistencyLevel level) {
+        switch (strategy) {
+            case UNLOGGED_BATCH:
+                return batch(session, entities, statement, level);
+            case CONCURRENT:
+                return concurrent(session, entities, statement);
+            case SEQUENTIAL:
+            default:
+                return sequential(session, entities, statement);
+        }
+    }
+
+    private List<ColumnEntity> sequential(CqlSession session, Iterable<ColumnEntity> entities,
+                                          Function<ColumnEntity, BoundStatement> statement) {
+        List<ColumnEntity> result = new ArrayList<>();
+        for (ColumnEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            final BoundStatement bound = statement.apply(entity);
+            final long start = System.nanoTime();
+            try {
+                session.execute(bound);
+                metrics.onSuccess(1, System.nanoTime() - start);
+            } catch (RuntimeException exp) {
+                metrics.onFailure(1, System.nanoTime() - start);
+                throw exp;
+            }
+            result.add(entity);
+        }
+        return result;
+    }
+
+    private List<ColumnEntity> concurrent(CqlSession session, Iterable<ColumnEntity> entities,
+                                          Function<ColumnEntity, BoundStatement> statement) {
+        List<ColumnEntity> result = new ArrayList<>();
+        Window window = new Window(session);
+        for (ColumnEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            window.submit(statement.apply(entity), 1);
+            result.add(entity);
+        }
+        window.await();
+        return result;
+    }
+
+    private List<ColumnEntity> batch(CqlSession session, Iterable<ColumnEntity> entities,
+                                     Function<ColumnEntity, BoundStatement> statement, ConsistencyLevel level) {
+        List<ColumnEntity> result = new ArrayList<>();
+        Window window = new Window(session);
+        Map<Partition, List<BoundStatement>> partitions = new LinkedHashMap<>();
+        int pending = 0;
+        for (ColumnEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            final BoundStatement bound = statement.apply(entity);
+            result.add(entity);
+            //without the partition key the statement cannot be told apart, so it is not batched
+            if (bound.getRoutingKey() == null) {
+                window.submit(bound, 1);
+                continue;
+            }
+            final Partition key = new Partition(bound.getRoutingKeyspace(), entity.getName(), bound.getRoutingKey());
+            final List<BoundStatement> partition = partitions.computeIfAbsent(key, k -> new ArrayList<>());
+            partition.add(bound);
+            pending++;
+            if (partition.size() == batchSize) {
+                window.submit(toBatch(partition, level), partition.size());
+                pending -= partition.size();
+                partitions.remove(key);
+            }
+            if (pending >= batchSize * concurrency) {
+                flush(window, partitions, level);
+                pending = 0;
+            }
+        }
+        flush(window, partitions, level);
+        window.await();
+        return result;
+    }
+
+    private void flush(Window window, Map<Partition, List<BoundStatement>> partitions, ConsistencyLevel level) {
+        for (List<BoundStatement> partition : partitions.values()) {
+            window.submit(toBatch(partition, level), partition.size());
+        }
+        partitions.clear();
+    }
+
+    private static Statement<?> toBatch(List<BoundStatement> statements, ConsistencyLevel level) {
+        if (statements.size() == 1) {
+            return statements.get(0);
+        }
+        BatchStatement batch = BatchStatement.newInstance(BatchType.UNLOGGED)
+                .addAll(statements);
+        if (Objects.nonNull(level)) {
+            batch = batch.setConsistencyLevel(level);
+        }
+        return batch;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriter{" +
+                "strategy=" + strategy +
+                ", batchSize=" + batchSize +
+                ", concurrency=" + concurrency +
+                ", metrics=" + metrics +
+                '}';
+    }
+
+    /**
+     * The partition of a statement, the routing key alone may be the same on two tables.
+     */
+    private static final class Partition {
+
+        private final CqlIdentifier keyspace;
+
+        private final String table;
+
+        private final ByteBuffer routingKey;
+
+        private Partition(CqlIdentifier keyspace, String table, ByteBuffer routingKey) {
+            this.keyspace = keyspace;
+            this.table = table;
+            this.routingKey = routingKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Partition partition = (Partition) o;
+            return Objects.equals(keyspace, partition.keyspace)
+                    && Objects.equals(table, partition.table)
+                    && Objects.equals(routingKey, partition.routingKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyspace, table, routingKey);
+        }
+    }
+
+    /**
+     * The concurrency window of a single bulk write call.
+     */
+    private final class Window {
+
+        private final CqlSession session;
+
+        private final Semaphore permits = new Semaphore(concurrency);
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Window(CqlSession session) {
+            this.session = session;
+        }
+
+        private void submit(Statement<?> statement, int rows) {
+            acquire(1);
+            final long start = System.nanoTime();
+            try {
+                session.executeAsync(statement).whenComplete((r, e) -> {
+                    final long elapsed = System.nanoTime() - start;
+                    if (e == null) {
+                        metrics.onSuccess(rows, elapsed);
+                    } else {
+                        metrics.onFailure(rows, elapsed);
+                        error.compareAndSet(null, e);
+                    }
+                    permits.release();
+                });
+            } catch (RuntimeException exp) {
+                metrics.onFailure(rows, System.nanoTime() - start);
+                permits.release();
+                throw exp;
+            }
+        }
+
+        private void await() {
+            acquire(concurrency);
+            permits.release(concurrency);
+            final Throwable failure = error.get();
+            if (failure != null) {
+                throw new CommunicationException("There is an error at the bulk write", failure);
+            }
+        }
+
+        private void acquire(int size) {
+            try {
+                permits.acquire(size);
+            } catch (InterruptedException exp) {
+                Thread.currentThread().interrupt();
+                throw new CommunicationException("The bulk write was interrupted", exp);
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import jakarta.nosql.column.ColumnQuery;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 /**
@@ -34,6 +35,13 @@ import java.util.stream.Stream;
  * <p>{@link CassandraColumnFamilyManager#cql(String)}</p>
  * <p>{@link CassandraColumnFamilyManager#nativeQueryPrepare(String)}</p>
  * <p>{@link CassandraColumnFamilyManager#delete(ColumnDeleteQuery, ConsistencyLevel)}</p>
+ * <p>The streams returned by select and cql are lazy: the rows are fetched page by page while the stream is
+ * consumed, and closing the stream releases the result set.</p>
+ * <p>The asynchronous methods, such as {@link CassandraColumnFamilyManager#insertAsync(ColumnEntity)}, run through
+ * {@link com.datastax.oss.driver.api.core.CqlSession#executeAsync(com.datastax.oss.driver.api.core.cql.Statement)}
+ * and complete at the executor defined at the {@link CassandraColumnFamilyManagerFactory}. The number of asynchronous
+ * requests in flight is bounded, when the limit is reached the request is queued and starts when one of them
+ * finishes, the caller is never blocked.</p>
  */
 public interface CassandraColumnFamilyManager extends ColumnFamilyManager {
 
@@ -101,6 +109,16 @@ public interface CassandraColumnFamilyManager extends ColumnFamilyManager {
      */
     Stream<ColumnEntity> select(ColumnQuery query, ConsistencyLevel level) throws NullPointerException;
 
+    /**
+     * Finds fetching the rows page by page while the stream is consumed
+     *
+     * @param query    the query
+     * @param pageSize the number of rows fetched per page
+     * @return the result of this query
+     * @throws NullPointerException when query is null
+     */
+    Stream<ColumnEntity> select(ColumnQuery query, int pageSize) throws NullPointerException;
+
     /**
      * Executes CQL
      *
@@ -110,6 +128,27 @@ public interface CassandraColumnFamilyManager extends ColumnFamilyManager {
      */
     Stream<ColumnEntity> cql(String query) throws NullPointerException;
 
+    /**
+     * Executes CQL fetching the rows page by page while the stream is consumed
+     *
+     * @param query    the Cassndra query language
+     * @param pageSize the number of rows fetched per page
+     * @return the result of this query
+     * @throws NullPointerException when query is null
+     */
+    Stream<ColumnEntity> cql(String query, int pageSize) throws NullPointerException;
+
+    /**
+     * Reads the whole column family splitting it by the token ranges of the ring, the ranges are read concurrently
+     * and the result has no order. The stream must be closed when it is not consumed up to the end.
+     *
+     * @param columnFamily the column family name
+     * @return all the entities of the column family
+     * @throws NullPointerException          when columnFamily is null
+     * @throws jakarta.nosql.CommunicationException when the token metadata or the column family is not available
+     */
+    Stream<ColumnEntity> scan(String columnFamily) throws NullPointerException;
+
 
     /**
      * Executes CQL using the provided named values.
@@ -139,4 +178,117 @@ public interface CassandraColumnFamilyManager extends ColumnFamilyManager {
      * @throws NullPointerException when query is null
      */
     CassandraPreparedStatement nativeQueryPrepare(String query) throws NullPointerException;
+
+    /**
+     * Inserts an entity asynchronously
+     *
+     * @param entity the entity
+     * @return the stage that completes with the entity inserted
+     * @throws NullPointerException when entity is null
+     */
+    CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity) throws NullPointerException;
+
+    /**
+     * Inserts an entity asynchronously with time to live
+     *
+     * @param entity the entity
+     * @param ttl    the ttl
+     * @return the stage that completes with the entity inserted
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity, Duration ttl) throws NullPointerException;
+
+    /**
+     * Saves an entity asynchronously using {@link ConsistencyLevel}
+     *
+     * @param entity the entity
+     * @param level  the level
+     * @return the stage that completes with the entity saved
+     * @throws NullPointerException when either entity or level are null
+     */
+    CompletionStage<ColumnEntity> saveAsync(ColumnEntity entity, ConsistencyLevel level) throws NullPointerException;
+
+    /**
+     * Saves an entity asynchronously using {@link ConsistencyLevel} and time to live
+     *
+     * @param entity the entity
+     * @param ttl    the ttl
+     * @param level  the level
+     * @return the stage that completes with the entity saved
+     * @throws NullPointerException when either entity or ttl or level are null
+     */
+    CompletionStage<ColumnEntity> saveAsync(ColumnEntity entity, Duration ttl, ConsistencyLevel level)
+            throws NullPointerException;
+
+    /**
+     * Finds asynchronously
+     * <p>It is eager: every page is fetched and held in memory before the stage completes, unlike
+     * {@link #select(ColumnQuery)} that fetches the pages as the stream is read, thus prefer that one for large
+     * results.</p>
+     *
+     * @param query the query
+     * @return the stage that completes with the result of this query
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Stream<ColumnEntity>> selectAsync(ColumnQuery query) throws NullPointerException;
+
+    /**
+     * Finds asynchronously using a consistency level
+     * <p>It is eager as {@link #selectAsync(ColumnQuery)}.</p>
+     *
+     * @param query the query
+     * @param level the consistency level
+     * @return the stage that completes with the result of this query
+     * @throws NullPointerException when either query or level are null
+     */
+    CompletionStage<Stream<ColumnEntity>> selectAsync(ColumnQuery query, ConsistencyLevel level)
+            throws NullPointerException;
+
+    /**
+     * Deletes asynchronously
+     *
+     * @param query the query
+     * @return the stage that completes when the information is deleted
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) throws NullPointerException;
+
+    /**
+     * Deletes asynchronously using {@link ConsistencyLevel}
+     *
+     * @param query the query
+     * @param level the level
+     * @return the stage that completes when the information is deleted
+     * @throws NullPointerException when either query or level are null
+     */
+    CompletionStage<Void> deleteAsync(ColumnDeleteQuery query, ConsistencyLevel level) throws NullPointerException;
+
+    /**
+     * Executes CQL asynchronously
+     * <p>It is eager, the stage completes once every page is fetched, whereas {@link #cql(String)} fetches them
+     * as the stream is read.</p>
+     *
+     * @param query the Cassndra query language
+     * @return the stage that completes with the result of this query
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Stream<ColumnEntity>> cqlAsync(String query) throws NullPointerException;
+
+    /**
+     * Returns the cache of the prepared statements used by the insert, select and delete operations,
+     * that also has the hits and misses counters to size it.
+     *
+     * @return the {@link PreparedStatementCache} instance
+     * @see CassandraConfigurations#PREPARED_STATEMENT_CACHE_SIZE
+     */
+    PreparedStatementCache getPreparedStatementCache();
+
+    /**
+     * Returns the counters of the writes of an {@link Iterable} of entities, such as the per-batch latency and
+     * the failures.
+     *
+     * @return the {@link BulkWriteMetrics} instance
+     * @see CassandraConfigurations#BULK_STRATEGY
+     */
+    BulkWriteMetrics getBulkWriteMetrics();
 }
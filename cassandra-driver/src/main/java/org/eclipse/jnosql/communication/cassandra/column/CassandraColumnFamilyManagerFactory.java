@@ -18,47 +18,165 @@ package org.eclipse.jnosql.communication.cassandra.column;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metrics.Metrics;
 import jakarta.nosql.column.ColumnFamilyManagerFactory;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Executor;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * The Cassandra implementation to {@link ColumnFamilyManagerFactory}
+ * <p>The factory owns a single {@link CqlSession}, created on the first use and shared by all the managers,
+ * whatever the keyspace, since every statement qualifies its keyspace. Closing a manager keeps the session open,
+ * it is closed by {@link CassandraColumnFamilyManagerFactory#close()}, after which the factory no longer creates
+ * managers.</p>
+ * <p>The factory registers its schema metadata cache as the schema change listener of the session builder it
+ * receives, replacing any listener set before, since the driver builder cannot be copied. Thus a builder must not be
+ * shared by two factories nor carry its own schema change listener.</p>
  */
 public class CassandraColumnFamilyManagerFactory implements ColumnFamilyManagerFactory {
 
     private final CqlSessionBuilder sessionBuilder;
 
-    private final Executor executor;
+    private final AsyncStatementExecutor executor;
+
+    private final CassandraProperties properties;
+
+    private final SchemaMetadataCache metadata = new SchemaMetadataCache();
+
+    private volatile SharedSession shared;
+
+    private boolean closed;
 
-    CassandraColumnFamilyManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries, Executor executor) {
-        this.sessionBuilder = sessionBuilder;
-        this.executor = executor;
-        load(queries);
+    CassandraColumnFamilyManagerFactory(final CqlSessionBuilder sessionBuilder, CassandraProperties properties,
+                                        Executor executor) {
+        this.sessionBuilder = sessionBuilder.withSchemaChangeListener(metadata);
+        this.executor = new AsyncStatementExecutor(executor, properties.getMaxInFlight(),
+                properties.getMaxQueued());
+        this.properties = properties;
+        load(properties.getQueries());
     }
 
     void load(List<String> queries) {
-        final CqlSession session = sessionBuilder.build();
+        if (queries.isEmpty()) {
+            return;
+        }
+        final CqlSession session = getSession();
         queries.forEach(session::execute);
-        session.close();
     }
 
     @Override
     public CassandraColumnFamilyManager get(String database) {
-        return new DefaultCassandraColumnFamilyManager(sessionBuilder.build(), executor, database);
+        requireNonNull(database, "database is required");
+        final SharedSession current = getShared();
+        return new DefaultCassandraColumnFamilyManager(current.session, current.statements, executor, metadata,
+                database, properties);
+    }
+
+    /**
+     * Returns the number of open connections to each node of the shared session, keyed by the node end point.
+     * It is empty when no manager has been created yet.
+     *
+     * @return the open connections per node
+     */
+    public Map<String, Integer> getOpenConnections() {
+        final SharedSession current = shared;
+        if (current == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> connections = new HashMap<>();
+        for (Node node : current.session.getMetadata().getNodes().values()) {
+            connections.put(node.getEndPoint().toString(), node.getOpenConnections());
+        }
+        return connections;
+    }
+
+    /**
+     * Returns the driver metrics of the shared session, such as the pool and request metrics.
+     * It is empty when no manager has been created yet or when the metrics are disabled at the driver configuration.
+     *
+     * @return the driver {@link Metrics}
+     */
+    public Optional<Metrics> getSessionMetrics() {
+        final SharedSession current = shared;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return current.session.getMetrics();
+    }
+
+    /**
+     * Returns the cache of the prepared statements of the shared session.
+     * It is empty when no manager has been created yet.
+     *
+     * @return the {@link PreparedStatementCache}
+     */
+    public Optional<PreparedStatementCache> getPreparedStatementCache() {
+        return Optional.ofNullable(shared).map(s -> s.statements);
     }
 
+    /**
+     * Closes the shared session, a later {@link #get(String)} throws {@link IllegalStateException}.
+     */
     @Override
     public void close() {
+        synchronized (this) {
+            closed = true;
+            if (shared != null) {
+                shared.session.close();
+                shared = null;
+            }
+        }
+    }
+
+    CqlSession getSession() {
+        return getShared().session;
+    }
+
+    /**
+     * The session and its statement cache, read together under the lock so a concurrent close never hands out
+     * one without the other.
+     */
+    private SharedSession getShared() {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The Cassandra factory is closed");
+            }
+            if (shared == null) {
+                final CqlSession session = sessionBuilder.build();
+                shared = new SharedSession(session,
+                        new PreparedStatementCache(session, properties.getPreparedStatementCacheSize()));
+            }
+            return shared;
+        }
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("CassandraColumnFamilyManagerFactory{");
         sb.append("cluster=").append(sessionBuilder);
+        sb.append(", session=").append(Optional.ofNullable(shared).map(s -> s.session).orElse(null));
         sb.append(", executor=").append(executor);
         sb.append('}');
         return sb.toString();
     }
+
+    private static final class SharedSession {
+
+        private final CqlSession session;
+
+        private final PreparedStatementCache statements;
+
+        private SharedSession(CqlSession session, PreparedStatementCache statements) {
+            this.session = session;
+            this.statements = statements;
+        }
+    }
 }
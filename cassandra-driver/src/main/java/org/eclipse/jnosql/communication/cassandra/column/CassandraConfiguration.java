@@ -23,6 +23,7 @@ import org.eclipse.jnosql.communication.driver.ConfigurationReader;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import static java.util.Objects.requireNonNull;
@@ -36,9 +37,23 @@ import static java.util.Objects.requireNonNull;
  * <p>cassandra.query.: The Cassandra query to run when an instance is started, you can set how much you want just
  * setting the order number, eg: cassandra.query.1=cql, cassandra.query.2=cql2... </p>
  * <p>cassandra.threads.number: The number of executor to run on Async process, if it isn't defined that will use the number of processor</p>
+ * <p>cassandra.async.max.in.flight: The maximum number of asynchronous requests in flight, the default value is 1024</p>
+ * <p>cassandra.async.max.queued: The maximum number of asynchronous requests waiting for the in flight ones, beyond
+ * it a request fails with {@link java.util.concurrent.RejectedExecutionException}, the default value is four times
+ * the max in flight</p>
+ * <p>cassandra.bulk.strategy: How to write an Iterable of entities: SEQUENTIAL, UNLOGGED_BATCH or CONCURRENT,
+ * the default value is SEQUENTIAL</p>
+ * <p>cassandra.bulk.batch.size: The maximum number of rows in an UNLOGGED batch, the default value is 100</p>
+ * <p>cassandra.bulk.concurrency: The number of batches or rows written concurrently, the default value is 32</p>
+ * <p>cassandra.page.size: The number of rows fetched per page by select and cql, if it isn't defined that will use
+ * the driver configuration</p>
+ * <p>cassandra.scan.parallelism: The number of token ranges read concurrently by a full table scan, if it isn't
+ * defined that will use the number of processor</p>
  * <p>cassandra.ssl: Define ssl, the default value is false</p>
  * <p>cassandra.metrics: enable metrics, the default value is true</p>
  * <p>cassandra.jmx: enable JMX, the default value is true</p>
+ * <p>cassandra.prepared.statement.cache.size: the maximum number of prepared statements cached per session,
+ * the default value is 1000</p>
  *
  * @see CassandraConfigurations
  * @see OldCassandraConfigurations
@@ -52,16 +67,44 @@ public final class CassandraConfiguration implements ColumnConfiguration {
         requireNonNull(configurations);
         CassandraProperties properties = CassandraProperties.of(configurations);
         ExecutorService executorService = properties.createExecutorService();
-        return new CassandraColumnFamilyManagerFactory(properties.createCluster(), properties.getQueries(), executorService);
+        return new CassandraColumnFamilyManagerFactory(properties.createCluster(), properties, executorService);
     }
 
+    /**
+     * Creates a {@link CassandraColumnFamilyManagerFactory} from a session builder, the factory sets its own schema
+     * change listener at the builder, so the builder must not be shared by another factory.
+     *
+     * @param sessionBuilder the session builder
+     * @return a new {@link CassandraColumnFamilyManagerFactory} instance
+     * @throws NullPointerException when sessionBuilder is null
+     */
     public CassandraColumnFamilyManagerFactory getEntityManagerFactory(CqlSessionBuilder sessionBuilder) {
         requireNonNull(sessionBuilder, "sessionBuilder is required");
 
         Map<String, String> configuration = ConfigurationReader.from(CASSANDRA_FILE_CONFIGURATION);
         CassandraProperties properties = CassandraProperties.of(configuration);
         ExecutorService executorService = properties.createExecutorService();
-        return new CassandraColumnFamilyManagerFactory(sessionBuilder, properties.getQueries(), executorService);
+        return new CassandraColumnFamilyManagerFactory(sessionBuilder, properties, executorService);
+    }
+
+    /**
+     * Creates a {@link CassandraColumnFamilyManagerFactory} whose asynchronous operations complete at the executor,
+     * the factory sets its own schema change listener at the builder, so the builder must not be shared by another
+     * factory.
+     *
+     * @param sessionBuilder the session builder
+     * @param executor       the executor to complete the asynchronous operations
+     * @return a new {@link CassandraColumnFamilyManagerFactory} instance
+     * @throws NullPointerException when either sessionBuilder or executor are null
+     */
+    public CassandraColumnFamilyManagerFactory getEntityManagerFactory(CqlSessionBuilder sessionBuilder,
+                                                                       Executor executor) {
+        requireNonNull(sessionBuilder, "sessionBuilder is required");
+        requireNonNull(executor, "executor is required");
+
+        Map<String, String> configuration = ConfigurationReader.from(CASSANDRA_FILE_CONFIGURATION);
+        CassandraProperties properties = CassandraProperties.of(configuration);
+        return new CassandraColumnFamilyManagerFactory(sessionBuilder, properties, executor);
     }
 
     @Override
@@ -22,7 +22,16 @@ public enum CassandraConfigurations implements Supplier<String> {
     NAME("cassandra.name"),
     PORT("cassandra.port"),
     QUERY("cassandra.query"),
-    DATA_CENTER("cassandra.data.center");
+    DATA_CENTER("cassandra.data.center"),
+    PREPARED_STATEMENT_CACHE_SIZE("cassandra.prepared.statement.cache.size"),
+    THREADS_NUMBER("cassandra.threads.number"),
+    ASYNC_MAX_IN_FLIGHT("cassandra.async.max.in.flight"),
+    ASYNC_MAX_QUEUED("cassandra.async.max.queued"),
+    BULK_STRATEGY("cassandra.bulk.strategy"),
+    BULK_BATCH_SIZE("cassandra.bulk.batch.size"),
+    BULK_CONCURRENCY("cassandra.bulk.concurrency"),
+    PAGE_SIZE("cassandra.page.size"),
+    SCAN_PARALLELISM("cassandra.scan.parallelism");
 
     private final String configuration;
 
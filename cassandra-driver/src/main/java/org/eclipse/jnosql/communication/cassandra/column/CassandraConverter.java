@@ -16,14 +16,12 @@
 package org.eclipse.jnosql.communication.cassandra.column;
 
 
-import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
-import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.protocol.internal.ProtocolConstants;
 import jakarta.nosql.Value;
 import jakarta.nosql.column.Column;
@@ -34,28 +32,26 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.StreamSupport;
 
-import static java.util.stream.Collectors.toList;
-
 final class CassandraConverter {
 
     private CassandraConverter() {
     }
 
-    public static ColumnEntity toDocumentEntity(Row row) {
+    static ColumnEntity toDocumentEntity(Row row, SchemaMetadataCache metadata) {
         List<Column> columns = new ArrayList<>();
         String columnFamily = "";
         for (ColumnDefinition definition : row.getColumnDefinitions()) {
             columnFamily = definition.getTable().asInternal();
-            Object result = CassandraConverter.get(definition, row);
+            Object result = CassandraConverter.get(definition, row, metadata);
             if (Objects.nonNull(result)) {
-                columns.add(getColumn(definition, result));
+                columns.add(getColumn(definition, result, metadata));
             }
         }
         return ColumnEntity.of(columnFamily, columns);
     }
 
 
-    private static Column getColumn(ColumnDefinition definition, Object result) {
+    private static Column getColumn(ColumnDefinition definition, Object result, SchemaMetadataCache metadata) {
 
         final DataType type = definition.getType();
         switch (type.getProtocolCode()) {
@@ -65,7 +61,7 @@ final class CassandraConverter {
             case ProtocolConstants.DataType.SET:
                 if (isUDTIterable(result)) {
                     return UDT.builder(getUserType(result)).withName(definition.getName().asInternal())
-                            .addUDTs(getColumns(definition, result)).build();
+                            .addUDTs(getColumns(definition, result, metadata)).build();
                 }
                 return Column.of(definition.getName().asInternal(), Value.of(result));
             default:
@@ -73,28 +69,26 @@ final class CassandraConverter {
         }
     }
 
-    static Object get(ColumnDefinition definition, Row row) {
+    static Object get(ColumnDefinition definition, Row row, SchemaMetadataCache metadata) {
 
         String name = definition.getName().asInternal();
         final DataType type = definition.getType();
         if (type instanceof UserDefinedType) {
-            return getUDT(definition, row.getUdtValue(name));
+            return getUDT(definition, row.getUdtValue(name), metadata);
         }
         final TypeCodec<Object> codec = row.codecRegistry().codecFor(type);
         return row.get(name, codec);
     }
 
-    private static UDT getUDT(ColumnDefinition definition, UdtValue udtValue) {
+    private static UDT getUDT(ColumnDefinition definition, UdtValue udtValue, SchemaMetadataCache metadata) {
         String name = definition.getName().asInternal();
         final UserDefinedType type = udtValue.getType();
+        final UDTFields fields = metadata.getFields(type);
         List<Column> columns = new ArrayList<>();
-        List<String> names = type.getFieldNames().stream().map(CqlIdentifier::asInternal).collect(toList());
-        for (CqlIdentifier fieldName : type.getFieldNames()) {
-            final int index = names.indexOf(fieldName.asInternal());
-            DataType fieldType = type.getFieldTypes().get(index);
-            Object elementValue = udtValue.get(fieldName, CodecRegistry.DEFAULT.codecFor(fieldType));
+        for (int index = 0; index < fields.size(); index++) {
+            Object elementValue = udtValue.get(index, fields.getCodec(index));
             if (elementValue != null) {
-                columns.add(Column.of(fieldName.asInternal(), elementValue));
+                columns.add(Column.of(fields.getName(index), elementValue));
             }
         }
         return UDT.builder(type.getName().asInternal()).withName(name).addUDT(columns).build();
@@ -108,12 +102,13 @@ final class CassandraConverter {
                 .get().toString();
     }
 
-    private static Iterable<Iterable<Column>> getColumns(ColumnDefinition definition, Object result) {
+    private static Iterable<Iterable<Column>> getColumns(ColumnDefinition definition, Object result,
+                                                         SchemaMetadataCache metadata) {
 
         List<Iterable<Column>> columns = new ArrayList<>();
         for (Object value : Iterable.class.cast(result)) {
             final UdtValue udtValue = UdtValue.class.cast(value);
-            final UDT udt = getUDT(definition, udtValue);
+            final UDT udt = getUDT(definition, udtValue, metadata);
             columns.add((Iterable<Column>) udt.get());
         }
 
@@ -31,17 +31,26 @@ public class CassandraPreparedStatement {
 
     private final CqlSession session;
 
+    private final SchemaMetadataCache metadata;
+
     private BoundStatement boundStatement;
 
-    CassandraPreparedStatement(com.datastax.oss.driver.api.core.cql.PreparedStatement prepare, CqlSession session) {
+    CassandraPreparedStatement(com.datastax.oss.driver.api.core.cql.PreparedStatement prepare, CqlSession session,
+                               SchemaMetadataCache metadata) {
         this.prepare = prepare;
         this.session = session;
+        this.metadata = metadata;
     }
 
+    /**
+     * Executes the query, the rows are fetched page by page while the stream is consumed
+     *
+     * @return the result of this query
+     */
     public Stream<ColumnEntity> executeQuery() {
         load();
         ResultSet resultSet = session.execute(boundStatement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return ResultSetStream.of(resultSet, metadata);
     }
 
 
@@ -28,7 +28,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 class CassandraProperties {
 
@@ -36,6 +38,8 @@ class CassandraProperties {
 
     private static final String DEFAULT_DATA_CENTER = "datacenter1";
 
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
     private final List<String> queries = new ArrayList<>();
 
     private final List<String> nodes = new ArrayList<>();
@@ -50,6 +54,24 @@ class CassandraProperties {
 
     private String dataCenter;
 
+    private int preparedStatementCacheSize;
+
+    private int threads;
+
+    private int maxInFlight;
+
+    private int maxQueued;
+
+    private BulkWriteStrategy bulkStrategy;
+
+    private int bulkBatchSize;
+
+    private int bulkConcurrency;
+
+    private int pageSize;
+
+    private int scanParallelism;
+
     public void addQuery(String query) {
         this.queries.add(query);
     }
@@ -62,6 +84,10 @@ class CassandraProperties {
         return queries;
     }
 
+    public int getPreparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
     public CqlSessionBuilder createCluster() {
         CqlSessionBuilder builder = CqlSession.builder();
         nodes.stream().map(h -> new InetSocketAddress(h, port)).forEach(builder::addContactPoint);
@@ -73,8 +99,31 @@ class CassandraProperties {
         return builder;
     }
 
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
+    public BulkWriter createBulkWriter() {
+        return new BulkWriter(bulkStrategy, bulkBatchSize, bulkConcurrency);
+    }
+
     public ExecutorService createExecutorService() {
-        return Executors.newCachedThreadPool();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     public static CassandraProperties of(Map<String, String> configurations) {
@@ -99,6 +148,30 @@ class CassandraProperties {
         cp.dataCenter = settings.get(CassandraConfigurations.DATA_CENTER.get()).map(Object::toString)
                 .orElse(DEFAULT_DATA_CENTER);
 
+        cp.preparedStatementCacheSize = settings.get(CassandraConfigurations.PREPARED_STATEMENT_CACHE_SIZE.get())
+                .map(Object::toString).map(Integer::parseInt).orElse(PreparedStatementCache.DEFAULT_MAXIMUM_SIZE);
+
+        cp.threads = settings.get(CassandraConfigurations.THREADS_NUMBER.get())
+                .map(Object::toString).map(Integer::parseInt).orElse(Runtime.getRuntime().availableProcessors());
+
+        cp.maxInFlight = settings.get(CassandraConfigurations.ASYNC_MAX_IN_FLIGHT.get())
+                .map(Object::toString).map(Integer::parseInt).orElse(AsyncStatementExecutor.DEFAULT_MAX_IN_FLIGHT);
+        cp.maxQueued = settings.get(CassandraConfigurations.ASYNC_MAX_QUEUED.get())
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(cp.maxInFlight * AsyncStatementExecutor.DEFAULT_QUEUED_PER_IN_FLIGHT);
+
+        cp.bulkStrategy = settings.get(CassandraConfigurations.BULK_STRATEGY.get())
+                .map(Object::toString).map(BulkWriteStrategy::parse).orElse(BulkWriteStrategy.SEQUENTIAL);
+        cp.bulkBatchSize = settings.get(CassandraConfigurations.BULK_BATCH_SIZE.get())
+                .map(Object::toString).map(Integer::parseInt).orElse(BulkWriter.DEFAULT_BATCH_SIZE);
+        cp.bulkConcurrency = settings.get(CassandraConfigurations.BULK_CONCURRENCY.get())
+                .map(Object::toString).map(Integer::parseInt).orElse(BulkWriter.DEFAULT_CONCURRENCY);
+
+        cp.pageSize = settings.get(CassandraConfigurations.PAGE_SIZE.get())
+                .map(Object::toString).map(Integer::parseInt).orElse(0);
+        cp.scanParallelism = settings.get(CassandraConfigurations.SCAN_PARALLELISM.get())
+                .map(Object::toString).map(Integer::parseInt).orElse(Runtime.getRuntime().availableProcessors());
+
         cp.user = settings.get(Configurations.USER.get()).map(Object::toString);
         cp.password = settings.get(Configurations.PASSWORD.get()).map(Object::toString);
         return cp;
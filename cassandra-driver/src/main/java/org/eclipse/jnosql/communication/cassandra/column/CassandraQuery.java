@@ -21,23 +21,28 @@ import jakarta.nosql.column.ColumnCondition;
 import jakarta.nosql.column.ColumnQuery;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 /**
  * A Cassandra specialization of {@link ColumnQuery} that allows query with paging state which can do pagination.
+ * The paging state is kept as the opaque bytes the driver returns, and its {@link String} form, that a client can
+ * store and send back, is the URL safe Base64 of these bytes.
  *
  * @see CassandraQuery#of(ColumnQuery)
  * @see CassandraQuery#of(ColumnQuery, String)
+ * @see CassandraQuery#of(ColumnQuery, ByteBuffer)
  */
 public final class CassandraQuery implements ColumnQuery {
 
     private static final String EXHAUSTED = "EXHAUSTED";
-    private static final Predicate<String> EQUALS = EXHAUSTED::equals;
-    private static final Predicate<String> NOT_EQUALS = EQUALS.negate();
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
 
     private final ColumnQuery query;
 
@@ -45,7 +50,9 @@ public final class CassandraQuery implements ColumnQuery {
      * This object represents the next page to be fetched if the query is multi page.
      * It can be saved and reused later on the same statement.
      */
-    private String pagingState;
+    private byte[] pagingState;
+
+    private boolean exhausted;
 
 
     private CassandraQuery(ColumnQuery query) {
@@ -54,21 +61,44 @@ public final class CassandraQuery implements ColumnQuery {
 
 
     /**
-     * {@link CassandraQuery#pagingState}
+     * {@link CassandraQuery#pagingState} as URL safe Base64, or "EXHAUSTED" when there is no page left.
      *
      * @return the {@link CassandraQuery#pagingState}
      */
     public Optional<String> getPagingState() {
-        return Optional.ofNullable(pagingState);
+        synchronized (this) {
+            if (exhausted) {
+                return Optional.of(EXHAUSTED);
+            }
+            return Optional.ofNullable(pagingState).map(ENCODER::encodeToString);
+        }
+    }
+
+    /**
+     * {@link CassandraQuery#pagingState} as the bytes the driver returned, it is empty when there is no page left.
+     *
+     * @return the {@link CassandraQuery#pagingState}
+     */
+    public Optional<ByteBuffer> getPagingStateBytes() {
+        return toPaginate().map(ByteBuffer::asReadOnlyBuffer);
     }
 
     Optional<ByteBuffer> toPaginate() {
-        return getPagingState().filter(NOT_EQUALS).map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)));
+        synchronized (this) {
+            if (exhausted || pagingState == null) {
+                return Optional.empty();
+            }
+            return Optional.of(ByteBuffer.wrap(pagingState.clone()));
+        }
     }
 
     void setPagingState(ByteBuffer pagingState) {
         if (pagingState != null) {
-            this.pagingState = StandardCharsets.UTF_8.decode(pagingState).toString();
+            final byte[] bytes = new byte[pagingState.remaining()];
+            pagingState.duplicate().get(bytes);
+            synchronized (this) {
+                this.pagingState = bytes;
+            }
         }
     }
 
@@ -76,14 +106,16 @@ public final class CassandraQuery implements ColumnQuery {
     void setExhausted(boolean exhausted) {
         synchronized (this) {
             if (exhausted) {
-                this.pagingState = EXHAUSTED;
+                this.exhausted = true;
             }
         }
     }
 
 
     boolean isExhausted() {
-        return EXHAUSTED.equals(pagingState);
+        synchronized (this) {
+            return exhausted;
+        }
     }
 
     @Override
@@ -125,20 +157,21 @@ public final class CassandraQuery implements ColumnQuery {
             return false;
         }
         CassandraQuery that = (CassandraQuery) o;
-        return Objects.equals(query, that.query) &&
-                Objects.equals(pagingState, that.pagingState);
+        return exhausted == that.exhausted &&
+                Objects.equals(query, that.query) &&
+                Arrays.equals(pagingState, that.pagingState);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, pagingState);
+        return 31 * Objects.hash(query, exhausted) + Arrays.hashCode(pagingState);
     }
 
     @Override
     public String toString() {
-        final StringBuilder sb = new StringBuilder("CouchDBDocumentQuery{");
+        final StringBuilder sb = new StringBuilder("CassandraQuery{");
         sb.append("query=").append(query);
-        sb.append(", pagingState='").append(pagingState).append('\'');
+        sb.append(", pagingState='").append(getPagingState().orElse(null)).append('\'');
         sb.append('}');
         return sb.toString();
     }
@@ -159,15 +192,36 @@ public final class CassandraQuery implements ColumnQuery {
      * returns a new instance of {@link CassandraQuery}
      *
      * @param query       the {@link ColumnQuery}
-     * @param pagingState {@link CassandraQuery#pagingState}
+     * @param pagingState {@link CassandraQuery#pagingState} as returned by {@link CassandraQuery#getPagingState()}
      * @return a new instance
-     * @throws NullPointerException when there is null parameter
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when pagingState is not a valid URL safe Base64
      */
     public static CassandraQuery of(ColumnQuery query, String pagingState) {
         Objects.requireNonNull(query, "query is required ");
         Objects.requireNonNull(pagingState, "pagingState is required ");
         CassandraQuery cassandraQuery = new CassandraQuery(query);
-        cassandraQuery.pagingState = pagingState;
+        if (EXHAUSTED.equals(pagingState)) {
+            cassandraQuery.exhausted = true;
+        } else {
+            cassandraQuery.pagingState = DECODER.decode(pagingState);
+        }
+        return cassandraQuery;
+    }
+
+    /**
+     * returns a new instance of {@link CassandraQuery}
+     *
+     * @param query       the {@link ColumnQuery}
+     * @param pagingState {@link CassandraQuery#pagingState} as returned by {@link CassandraQuery#getPagingStateBytes()}
+     * @return a new instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static CassandraQuery of(ColumnQuery query, ByteBuffer pagingState) {
+        Objects.requireNonNull(query, "query is required ");
+        Objects.requireNonNull(pagingState, "pagingState is required ");
+        CassandraQuery cassandraQuery = new CassandraQuery(query);
+        cassandraQuery.setPagingState(pagingState);
         return cassandraQuery;
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
@@ -31,11 +32,11 @@ import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -44,21 +45,38 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
 
     private final CqlSession session;
 
-    private final Executor executor;
+    private final AsyncStatementExecutor executor;
 
     private final String keyspace;
 
-    DefaultCassandraColumnFamilyManager(CqlSession session, Executor executor, String keyspace) {
+    private final PreparedStatementCache statements;
+
+    private final BulkWriter bulkWriter;
+
+    private final int pageSize;
+
+    private final SchemaMetadataCache metadata;
+
+    private final TokenRangeScanner scanner;
+
+    DefaultCassandraColumnFamilyManager(CqlSession session, PreparedStatementCache statements,
+                                        AsyncStatementExecutor executor, SchemaMetadataCache metadata,
+                                        String keyspace, CassandraProperties properties) {
         this.session = session;
+        this.statements = statements;
         this.executor = executor;
+        this.metadata = metadata;
         this.keyspace = keyspace;
+        this.bulkWriter = properties.createBulkWriter();
+        this.pageSize = properties.getPageSize();
+        this.scanner = new TokenRangeScanner(session, statements, properties.getScanParallelism(), pageSize,
+                metadata);
     }
 
     @Override
     public ColumnEntity insert(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build());
+        session.execute(insertStatement(entity, null));
         return entity;
     }
 
@@ -66,8 +84,7 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     public ColumnEntity insert(ColumnEntity entity, Duration duration) {
         requireNonNull(entity, "entity is required");
         requireNonNull(duration, "duration is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, duration);
-        session.execute(insert.build());
+        session.execute(insertStatement(entity, duration));
         return entity;
     }
 
@@ -85,18 +102,14 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     @Override
     public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        return bulkWriter.write(session, entities, e -> insertStatement(e, null), null);
     }
 
     @Override
     public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration duration) {
         requireNonNull(entities, "entities is required");
         requireNonNull(duration, "entities is duration");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(d -> insert(d, duration))
-                .collect(Collectors.toList());
+        return bulkWriter.write(session, entities, e -> insertStatement(e, duration), null);
     }
 
     @Override
@@ -104,8 +117,7 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(entity, "entities is required");
         requireNonNull(level, "level is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build().setConsistencyLevel(level));
+        session.execute(insertStatement(entity, null).setConsistencyLevel(level));
         return entity;
     }
 
@@ -115,8 +127,7 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, ttl);
-        session.execute(insert.build().setConsistencyLevel(level));
+        session.execute(insertStatement(entity, ttl).setConsistencyLevel(level));
         return entity;
     }
 
@@ -124,8 +135,7 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     public Iterable<ColumnEntity> save(Iterable<ColumnEntity> entities, ConsistencyLevel level) {
         requireNonNull(entities, "entities is required");
         requireNonNull(level, "level is required");
-        return StreamSupport.stream(entities.spliterator(), false).map(c -> this.save(c, level))
-                .collect(Collectors.toList());
+        return bulkWriter.write(session, entities, e -> insertStatement(e, null).setConsistencyLevel(level), level);
     }
 
     @Override
@@ -133,8 +143,35 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(entities, "entities is required");
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false).map(c -> this.save(c, ttl, level))
-                .collect(Collectors.toList());
+        return bulkWriter.write(session, entities, e -> insertStatement(e, ttl).setConsistencyLevel(level), level);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return executor.execute(session, insertStatement(entity, null), r -> entity);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return executor.execute(session, insertStatement(entity, ttl), r -> entity);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> saveAsync(ColumnEntity entity, ConsistencyLevel level) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(level, "level is required");
+        return executor.execute(session, insertStatement(entity, null).setConsistencyLevel(level), r -> entity);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> saveAsync(ColumnEntity entity, Duration ttl, ConsistencyLevel level) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        requireNonNull(level, "level is required");
+        return executor.execute(session, insertStatement(entity, ttl).setConsistencyLevel(level), r -> entity);
     }
 
     @Override
@@ -148,7 +185,29 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     public Stream<ColumnEntity> select(ColumnQuery query, ConsistencyLevel level) throws NullPointerException {
         requireNonNull(query, "query is required");
         QueryExecutor executor = QueryExecutor.of(query);
-        return executor.execute(keyspace, query, level, this);
+        return executor.execute(keyspace, query, level, pageSize, this);
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query, int pageSize) {
+        requireNonNull(query, "query is required");
+        QueryExecutor executor = QueryExecutor.of(query);
+        return executor.execute(keyspace, query, null, pageSize, this);
+    }
+
+    @Override
+    public CompletionStage<Stream<ColumnEntity>> selectAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        QueryExecutor executor = QueryExecutor.of(query);
+        return executor.executeAsync(keyspace, query, null, pageSize, this);
+    }
+
+    @Override
+    public CompletionStage<Stream<ColumnEntity>> selectAsync(ColumnQuery query, ConsistencyLevel level) {
+        requireNonNull(query, "query is required");
+        requireNonNull(level, "level is required");
+        QueryExecutor executor = QueryExecutor.of(query);
+        return executor.executeAsync(keyspace, query, level, pageSize, this);
     }
 
     @Override
@@ -161,32 +220,55 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
 
     @Override
     public void close() {
-        session.close();
+        //the session is shared by the managers of a factory, so CassandraColumnFamilyManagerFactory closes it
     }
 
     @Override
     public void delete(ColumnDeleteQuery query, ConsistencyLevel level) {
         requireNonNull(query, "query is required");
         requireNonNull(level, "level is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        final SimpleStatement build = delete.build();
-        final SimpleStatement simpleStatement = build.setConsistencyLevel(level);
-        session.execute(simpleStatement);
+        session.execute(deleteStatement(query).setConsistencyLevel(level));
     }
 
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        session.execute(delete.build());
+        session.execute(deleteStatement(query));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return executor.execute(session, deleteStatement(query), r -> null);
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(ColumnDeleteQuery query, ConsistencyLevel level) {
+        requireNonNull(query, "query is required");
+        requireNonNull(level, "level is required");
+        return executor.execute(session, deleteStatement(query).setConsistencyLevel(level), r -> null);
     }
 
 
     @Override
     public Stream<ColumnEntity> cql(String query) {
         requireNonNull(query, "query is required");
-        final ResultSet resultSet = session.execute(query);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return cql(query, pageSize);
+    }
+
+    @Override
+    public Stream<ColumnEntity> cql(String query, int pageSize) {
+        requireNonNull(query, "query is required");
+        final ResultSet resultSet = session.execute(withPageSize(SimpleStatement.newInstance(query), pageSize));
+        return ResultSetStream.of(resultSet, metadata);
+    }
+
+    @Override
+    public CompletionStage<Stream<ColumnEntity>> cqlAsync(String query) {
+        requireNonNull(query, "query is required");
+        return executor.compose(session, withPageSize(SimpleStatement.newInstance(query), pageSize),
+                r -> executor.fetchAll(r, metadata))
+                .thenApply(List::stream);
     }
 
     @Override
@@ -199,34 +281,82 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
             final TypeCodec<Object> codec = CodecRegistry.DEFAULT.codecFor((Class<Object>) entry.getValue().getClass());
             statement = statement.set(entry.getKey(), entry.getValue(), codec);
         }
-        final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        final ResultSet resultSet = session.execute(withPageSize(statement, pageSize));
+        return ResultSetStream.of(resultSet, metadata);
     }
 
     @Override
     public Stream<ColumnEntity> execute(SimpleStatement statement) {
         requireNonNull(statement, "statement is required");
-        final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        final ResultSet resultSet = session.execute(withPageSize(statement, pageSize));
+        return ResultSetStream.of(resultSet, metadata);
+    }
+
+    @Override
+    public Stream<ColumnEntity> scan(String columnFamily) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return scanner.scan(keyspace, columnFamily);
     }
 
     @Override
     public CassandraPreparedStatement nativeQueryPrepare(String query) {
         requireNonNull(query, "query is required");
         final PreparedStatement prepare = session.prepare(query);
-        return new CassandraPreparedStatement(prepare, session);
+        return new CassandraPreparedStatement(prepare, session, metadata);
+    }
+
+
+    @Override
+    public PreparedStatementCache getPreparedStatementCache() {
+        return statements;
     }
 
+    @Override
+    public BulkWriteMetrics getBulkWriteMetrics() {
+        return bulkWriter.getMetrics();
+    }
 
     CqlSession getSession() {
         return session;
     }
 
+    AsyncStatementExecutor getAsyncExecutor() {
+        return executor;
+    }
+
+    SchemaMetadataCache getSchemaMetadataCache() {
+        return metadata;
+    }
+
+    int getPageSize() {
+        return pageSize;
+    }
+
+    private static <T extends Statement<T>> T withPageSize(T statement, int pageSize) {
+        if (pageSize > 0 && statement.getPageSize() <= 0) {
+            return statement.setPageSize(pageSize);
+        }
+        return statement;
+    }
+
+    private BoundStatement insertStatement(ColumnEntity entity, Duration ttl) {
+        final List<Object> values = new ArrayList<>();
+        final Insert insert = QueryUtils.insert(entity, keyspace, session, metadata, ttl, values);
+        return statements.bind(insert, values);
+    }
+
+    private BoundStatement deleteStatement(ColumnDeleteQuery query) {
+        final List<Object> values = new ArrayList<>();
+        final Delete delete = DeleteQueryConverter.delete(query, keyspace, values);
+        return statements.bind(delete, values);
+    }
+
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("CassandraColumnFamilyManager{");
         sb.append("session=").append(session);
+        sb.append(", keyspace=").append(keyspace);
         sb.append('}');
         return sb.toString();
     }
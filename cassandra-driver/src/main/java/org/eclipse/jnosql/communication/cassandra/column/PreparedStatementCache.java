@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.querybuilder.BuildableQuery;
+import jakarta.nosql.Value;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, least recently used, cache of {@link PreparedStatement} of a {@link CqlSession}.
+ * The statements are keyed by their CQL with bind markers, thus by the statement shape: the table, the column set,
+ * whether there is TTL or not and the condition tree, so the values never create a new entry.
+ * It also keeps the hits, misses and evictions counters to size the cache.
+ */
+public final class PreparedStatementCache {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private final CqlSession session;
+
+    private final int maximumSize;
+
+    private final Map<String, PreparedStatement> statements;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    PreparedStatementCache(CqlSession session, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The prepared statement cache size must be positive: " + maximumSize);
+        }
+        this.session = session;
+        this.maximumSize = maximumSize;
+        this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                boolean remove = size() > PreparedStatementCache.this.maximumSize;
+                if (remove) {
+                    evictions.increment();
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * @return the number of the statements found at the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of the statements that were prepared because they were not at the cache
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of the statements removed from the cache to respect the maximum size
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of the statements currently at the cache
+     */
+    public int getSize() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    /**
+     * @return the maximum number of statements this cache holds
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    PreparedStatement prepare(String query) {
+        PreparedStatement prepared;
+        synchronized (statements) {
+            prepared = statements.get(query);
+        }
+        if (prepared != null) {
+            hits.increment();
+            return prepared;
+        }
+        misses.increment();
+        prepared = session.prepare(query);
+        synchronized (statements) {
+            final PreparedStatement current = statements.putIfAbsent(query, prepared);
+            return current == null ? prepared : current;
+        }
+    }
+
+    BoundStatement bind(BuildableQuery query, List<Object> values) {
+        final PreparedStatement prepared = prepare(query.asCql());
+        final BoundStatementBuilder builder = prepared.boundStatementBuilder();
+        final ColumnDefinitions variables = prepared.getVariableDefinitions();
+        final CodecRegistry registry = builder.codecRegistry();
+        for (int index = 0; index < values.size(); index++) {
+            final Object value = values.get(index);
+            if (value == null) {
+                builder.setToNull(index);
+                continue;
+            }
+            set(builder, index, variables.get(index).getType(), value, registry);
+        }
+        return builder.build();
+    }
+
+    private static void set(BoundStatementBuilder builder, int index, DataType type, Object value,
+                            CodecRegistry registry) {
+        try {
+            final TypeCodec<Object> codec = registry.codecFor(type, value);
+            builder.set(index, value, codec);
+        } catch (CodecNotFoundException exp) {
+            final TypeCodec<Object> codec = registry.codecFor(type);
+            final Object converted = Value.of(value).get(codec.getJavaType().getRawType());
+            builder.set(index, converted, codec);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedStatementCache{" +
+                "maximumSize=" + maximumSize +
+                ", size=" + getSize() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+}
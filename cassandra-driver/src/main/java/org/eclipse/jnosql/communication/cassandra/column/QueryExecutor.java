@@ -18,6 +18,7 @@ import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
 
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 interface QueryExecutor {
@@ -31,7 +32,10 @@ interface QueryExecutor {
 
     Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, DefaultCassandraColumnFamilyManager manager);
 
-    Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, ConsistencyLevel level,
+    Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, ConsistencyLevel level, int pageSize,
                                  DefaultCassandraColumnFamilyManager manager);
 
+    CompletionStage<Stream<ColumnEntity>> executeAsync(String keyspace, ColumnQuery query, ConsistencyLevel level,
+                                                       int pageSize, DefaultCassandraColumnFamilyManager manager);
+
 }
\ No newline at end of file
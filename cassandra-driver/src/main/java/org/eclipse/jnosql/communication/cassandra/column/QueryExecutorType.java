@@ -15,9 +15,9 @@
 package org.eclipse.jnosql.communication.cassandra.column;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
@@ -26,17 +26,21 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+
 enum QueryExecutorType implements QueryExecutor {
     PAGING_STATE {
         @Override
         public Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, DefaultCassandraColumnFamilyManager manager) {
-            return execute(keyspace, query, null, manager);
+            return execute(keyspace, query, null, manager.getPageSize(), manager);
         }
 
         @Override
-        public Stream<ColumnEntity> execute(String keyspace, ColumnQuery q, ConsistencyLevel level,
+        public Stream<ColumnEntity> execute(String keyspace, ColumnQuery q, ConsistencyLevel level, int pageSize,
                                             DefaultCassandraColumnFamilyManager manager) {
 
             CassandraQuery query = CassandraQuery.class.cast(q);
@@ -44,17 +48,8 @@ enum QueryExecutorType implements QueryExecutor {
             if (query.isExhausted()) {
                 return Stream.empty();
             }
-            Select select = QueryUtils.select(query, keyspace);
-            SimpleStatement simpleStatement = select.build();
-            if (Objects.nonNull(level)) {
-                simpleStatement = simpleStatement.setConsistencyLevel(level);
-            }
-
-            if (query.toPaginate().isPresent()) {
-                simpleStatement = simpleStatement.setPagingState(query.toPaginate().get());
-            }
 
-            ResultSet resultSet = manager.getSession().execute(simpleStatement);
+            ResultSet resultSet = manager.getSession().execute(statement(keyspace, query, level, pageSize, manager));
 
             final ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
             query.setPagingState(pagingState);
@@ -62,7 +57,7 @@ enum QueryExecutorType implements QueryExecutor {
             List<ColumnEntity> entities = new ArrayList<>();
 
             for (Row row : resultSet) {
-                entities.add(CassandraConverter.toDocumentEntity(row));
+                entities.add(CassandraConverter.toDocumentEntity(row, manager.getSchemaMetadataCache()));
                 if (resultSet.getAvailableWithoutFetching() == 0) {
                     query.setExhausted(resultSet.isFullyFetched());
                     break;
@@ -71,32 +66,94 @@ enum QueryExecutorType implements QueryExecutor {
             return entities.stream();
         }
 
+        @Override
+        public CompletionStage<Stream<ColumnEntity>> executeAsync(String keyspace, ColumnQuery q, ConsistencyLevel level,
+                                                                  int pageSize,
+                                                                  DefaultCassandraColumnFamilyManager manager) {
+
+            CassandraQuery query = CassandraQuery.class.cast(q);
+
+            if (query.isExhausted()) {
+                return CompletableFuture.completedFuture(Stream.empty());
+            }
+
+            BoundStatement statement = statement(keyspace, query, level, pageSize, manager);
+            return manager.getAsyncExecutor().execute(manager.getSession(), statement, resultSet -> {
+                query.setPagingState(resultSet.getExecutionInfo().getPagingState());
+                List<ColumnEntity> entities = new ArrayList<>();
+                for (Row row : resultSet.currentPage()) {
+                    entities.add(CassandraConverter.toDocumentEntity(row, manager.getSchemaMetadataCache()));
+                }
+                query.setExhausted(!resultSet.hasMorePages());
+                return entities.stream();
+            });
+        }
+
+        private BoundStatement statement(String keyspace, CassandraQuery query, ConsistencyLevel level, int pageSize,
+                                         DefaultCassandraColumnFamilyManager manager) {
+            List<Object> values = new ArrayList<>();
+            Select select = QueryUtils.select(query, keyspace, values);
+            BoundStatement statement = manager.getPreparedStatementCache().bind(select, values);
+            if (Objects.nonNull(level)) {
+                statement = statement.setConsistencyLevel(level);
+            }
+            if (pageSize > 0) {
+                statement = statement.setPageSize(pageSize);
+            }
+
+            if (query.toPaginate().isPresent()) {
+                statement = statement.setPagingState(query.toPaginate().get());
+            }
+            return statement;
+        }
+
     },
     DEFAULT {
         @Override
         public Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, DefaultCassandraColumnFamilyManager manager) {
-            return execute(keyspace, query, null, manager);
+            return execute(keyspace, query, null, manager.getPageSize(), manager);
         }
 
         @Override
-        public Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, ConsistencyLevel level,
+        public Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, ConsistencyLevel level, int pageSize,
                                             DefaultCassandraColumnFamilyManager manager) {
 
-            Select cassandraSelect = QueryUtils.select(query, keyspace);
+            ResultSet resultSet = manager.getSession().execute(statement(keyspace, query, level, pageSize, manager));
+            return ResultSetStream.of(resultSet, query.getSkip(), manager.getSchemaMetadataCache());
+        }
+
+        @Override
+        public CompletionStage<Stream<ColumnEntity>> executeAsync(String keyspace, ColumnQuery query, ConsistencyLevel level,
+                                                                  int pageSize,
+                                                                  DefaultCassandraColumnFamilyManager manager) {
+
+            AsyncStatementExecutor executor = manager.getAsyncExecutor();
+            SchemaMetadataCache metadata = manager.getSchemaMetadataCache();
+            BoundStatement statement = statement(keyspace, query, level, pageSize, manager);
+            return executor.compose(manager.getSession(), statement, r -> executor.fetchAll(r, query.getSkip(), metadata))
+                    .thenApply(List::stream);
+        }
+
+        private BoundStatement statement(String keyspace, ColumnQuery query, ConsistencyLevel level, int pageSize,
+                                         DefaultCassandraColumnFamilyManager manager) {
+            List<Object> values = new ArrayList<>();
+            Select cassandraSelect = QueryUtils.select(query, keyspace, values);
 
-            if (query.getLimit() > 0 && query.getSkip() == 0) {
-                cassandraSelect = cassandraSelect.limit((int) query.getLimit());
+            //the skipped rows are discarded while the pages are read, so the coordinator stops at skip + limit;
+            //the limit is a bind marker, thus one prepared statement serves every page
+            if (query.getLimit() > 0) {
+                cassandraSelect = cassandraSelect.limit(bindMarker());
+                values.add((int) Math.min(Integer.MAX_VALUE, query.getSkip() + query.getLimit()));
             }
 
-            SimpleStatement select = cassandraSelect.build();
+            BoundStatement select = manager.getPreparedStatementCache().bind(cassandraSelect, values);
             if (Objects.nonNull(level)) {
                 select = select.setConsistencyLevel(level);
             }
-            ResultSet resultSet = manager.getSession().execute(select);
-            if (query.getLimit() > 0 && query.getSkip() > 0) {
-                return resultSet.all().stream().skip(query.getSkip()).limit(query.getLimit()).map(CassandraConverter::toDocumentEntity);
+            if (pageSize > 0) {
+                select = select.setPageSize(pageSize);
             }
-            return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+            return select;
         }
     }
 }
@@ -16,13 +16,9 @@
 package org.eclipse.jnosql.communication.cassandra.column;
 
 
-import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
-import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.SetType;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
@@ -48,11 +44,11 @@ import org.eclipse.jnosql.communication.driver.ValueUtil;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -63,27 +59,30 @@ final class QueryUtils {
     }
 
 
-    static Insert insert(ColumnEntity entity, String keyspace, CqlSession session, Duration duration) {
+    static Insert insert(ColumnEntity entity, String keyspace, CqlSession session, SchemaMetadataCache metadata,
+                         Duration duration, List<Object> values) {
 
-        Map<String, Term> values = new HashMap<>();
+        Map<String, Term> terms = new LinkedHashMap<>();
         InsertInto insert = QueryBuilder.insertInto(keyspace, entity.getName());
         entity.getColumns().stream()
+                .sorted(Comparator.comparing(Column::getName))
                 .forEach(c -> {
                     if (UDT.class.isInstance(c)) {
-                        insertUDT(UDT.class.cast(c), keyspace, entity.getName(), session, values);
+                        insertUDT(UDT.class.cast(c), keyspace, entity.getName(), session, metadata, terms, values);
                     } else {
-                        insertSingleField(c, values);
+                        insertSingleField(c, terms, values);
                     }
                 });
 
-        RegularInsert regularInsert = insert.values(values);
+        RegularInsert regularInsert = insert.values(terms);
         if (duration != null) {
-            return regularInsert.usingTtl((int) duration.getSeconds());
+            values.add((int) duration.getSeconds());
+            return regularInsert.usingTtl(QueryBuilder.bindMarker());
         }
         return regularInsert;
     }
 
-    public static Select select(ColumnQuery query, String keyspace) {
+    public static Select select(ColumnQuery query, String keyspace, List<Object> values) {
         String columnFamily = query.getColumnFamily();
         final List<String> columns = query.getColumns();
 
@@ -94,7 +93,7 @@ final class QueryUtils {
             select = QueryBuilder.selectFrom(keyspace, columnFamily).columns(columns);
         }
 
-        select = select.where(Relations.createClause(query.getCondition().orElse(null)));
+        select = select.where(Relations.createClause(query.getCondition().orElse(null), values));
         final Map<String, ClusteringOrder> sort = query.getSorts().stream().collect(Collectors.toMap(s -> s.getName(), mapSort()));
         select = select.orderBy(sort);
         return select;
@@ -106,54 +105,42 @@ final class QueryUtils {
     }
 
     private static void insertUDT(UDT udt, String keyspace, String columnFamily, CqlSession session,
-                                  Map<String, Term> values) {
+                                  SchemaMetadataCache metadata, Map<String, Term> terms, List<Object> values) {
 
-        final Optional<KeyspaceMetadata> keyspaceMetadata = session.getMetadata().getKeyspace(keyspace);
-        UserDefinedType userType = keyspaceMetadata
-                .flatMap(ks -> ks.getUserDefinedType(udt.getUserType()))
-                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
-
-        final TableMetadata tableMetadata = keyspaceMetadata
-                .flatMap(k -> k.getTable(columnFamily))
-                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
-
-        final ColumnMetadata columnMetadata = tableMetadata.getColumn(getName(udt))
-                .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
-
-        final DataType type = columnMetadata.getType();
+        final SchemaMetadataCache.UDTColumn column = metadata.get(session, keyspace, columnFamily, udt);
         Iterable elements = Iterable.class.cast(udt.get());
-        Object udtValue = getUdtValue(userType, elements, type);
-        values.put(getName(udt), QueryBuilder.literal(udtValue));
+        Object udtValue = getUdtValue(column.getFields(), elements, column.getType());
+        terms.put(getName(udt), QueryBuilder.bindMarker());
+        values.add(udtValue);
     }
 
-    private static Object getUdtValue(UserDefinedType userType, Iterable elements, DataType type) {
+    private static Object getUdtValue(UDTFields fields, Iterable elements, DataType type) {
 
         Collection<Object> udtValues = getCollectionUdt(type);
 
+        final UserDefinedType userType = fields.getType();
         UdtValue udtValue = userType.newValue();
-        final List<String> udtNames = userType.getFieldNames().stream().map(CqlIdentifier::asInternal)
-                .collect(Collectors.toList());
         for (Object object : elements) {
             if (Column.class.isInstance(object)) {
                 Column column = Column.class.cast(object);
                 Object convert = ValueUtil.convert(column.getValue());
 
-                final int index = udtNames.indexOf(column.getName());
+                final int index = fields.indexOf(column.getName());
                 if (index < 0) {
                     throw new CommunicationException("This field has not been found: " + column.getName() +
-                            " the fields available are " + udtNames + " in the UDT type " + userType.getName()
+                            " the fields available are " + fields.getNames() + " in the UDT type " + userType.getName()
                             .asCql(true) + " at the keyspace " + userType.getKeyspace());
                 }
-                DataType fieldType = userType.getFieldTypes().get(index);
-                TypeCodec<Object> objectTypeCodec = CodecRegistry.DEFAULT.codecFor(fieldType);
+                DataType fieldType = fields.getFieldType(index);
+                TypeCodec<Object> objectTypeCodec = fields.getCodec(index);
                 if (fieldType instanceof SetType) {
-                    udtValue.set(getName(column), new HashSet<Object>((Collection<?>) convert), objectTypeCodec);
+                    udtValue.set(index, new HashSet<Object>((Collection<?>) convert), objectTypeCodec);
                 } else {
-                    udtValue.set(getName(column), convert, objectTypeCodec);
+                    udtValue.set(index, convert, objectTypeCodec);
                 }
 
             } else if (Iterable.class.isInstance(object)) {
-                udtValues.add(getUdtValue(userType, Iterable.class.cast(Iterable.class.cast(object)), type));
+                udtValues.add(getUdtValue(fields, Iterable.class.cast(Iterable.class.cast(object)), type));
             }
         }
         if (udtValues.isEmpty()) {
@@ -171,13 +158,14 @@ final class QueryUtils {
         }
     }
 
-    private static void insertSingleField(Column column, Map<String, Term> values) {
+    private static void insertSingleField(Column column, Map<String, Term> terms, List<Object> values) {
         Object value = column.get();
+        terms.put(getName(column), QueryBuilder.bindMarker());
         try {
             CodecRegistry.DEFAULT.codecFor(value);
-            values.put(getName(column), QueryBuilder.literal(value));
+            values.add(value);
         } catch (CodecNotFoundException exp) {
-            values.put(getName(column), QueryBuilder.literal(ValueUtil.convert(column.getValue())));
+            values.add(ValueUtil.convert(column.getValue()));
         }
     }
 
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import jakarta.nosql.column.ColumnEntity;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Creates a lazy {@link Stream} from a {@link ResultSet}: the rows are converted while the stream is consumed,
+ * and the driver fetches the next page only when the current one is exhausted.
+ * Closing the stream releases the result set, so no further page is fetched.
+ */
+final class ResultSetStream {
+
+    private ResultSetStream() {
+    }
+
+    static Stream<ColumnEntity> of(ResultSet resultSet, SchemaMetadataCache metadata) {
+        return of(resultSet, 0L, metadata);
+    }
+
+    /**
+     * The skipped rows are read from the pages and discarded before the conversion.
+     */
+    static Stream<ColumnEntity> of(ResultSet resultSet, long skip, SchemaMetadataCache metadata) {
+        if (skip > 0) {
+            return rows(resultSet).skip(skip).map(r -> CassandraConverter.toDocumentEntity(r, metadata));
+        }
+        return rows(resultSet).map(r -> CassandraConverter.toDocumentEntity(r, metadata));
+    }
+
+    static Stream<Row> rows(ResultSet resultSet) {
+        final RowIterator iterator = new RowIterator(resultSet.iterator());
+        final Spliterator<Row> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    private static final class RowIterator implements Iterator<Row> {
+
+        private Iterator<Row> rows;
+
+        private RowIterator(Iterator<Row> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no row left at the result set");
+            }
+            return rows.next();
+        }
+
+        private void close() {
+            this.rows = Collections.emptyIterator();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.SchemaChangeListenerBase;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the schema metadata of a factory session: for the insert path, the {@link UserDefinedType} of a UDT column
+ * with its {@link UDTFields} and the column {@link DataType}; for the read path, the {@link UDTFields} of each type.
+ * It is registered as the session schema change listener, so any change at a keyspace, at one of its tables or at
+ * one of its types invalidates the entries of that keyspace.
+ */
+final class SchemaMetadataCache extends SchemaChangeListenerBase {
+
+    private final Map<ColumnKey, UDTColumn> columns = new ConcurrentHashMap<>();
+
+    private final Map<UserDefinedType, UDTFields> fields = new ConcurrentHashMap<>();
+
+    UDTColumn get(CqlSession session, String keyspace, String table, UDT udt) {
+        final ColumnKey key = new ColumnKey(CqlIdentifier.fromCql(keyspace), table, QueryUtils.getName(udt),
+                udt.getUserType());
+        return columns.computeIfAbsent(key, k -> load(session, k));
+    }
+
+    UDTFields getFields(UserDefinedType type) {
+        return fields.computeIfAbsent(type, UDTFields::new);
+    }
+
+    private UDTColumn load(CqlSession session, ColumnKey key) {
+        final Optional<KeyspaceMetadata> keyspaceMetadata = session.getMetadata().getKeyspace(key.keyspace);
+        UserDefinedType userType = keyspaceMetadata
+                .flatMap(ks -> ks.getUserDefinedType(key.userType))
+                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
+
+        final TableMetadata tableMetadata = keyspaceMetadata
+                .flatMap(k -> k.getTable(key.table))
+                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
+
+        final ColumnMetadata columnMetadata = tableMetadata.getColumn(key.column)
+                .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
+
+        return new UDTColumn(getFields(userType), columnMetadata.getType());
+    }
+
+    void invalidate(CqlIdentifier keyspace) {
+        columns.keySet().removeIf(k -> k.keyspace.equals(keyspace));
+        fields.keySet().removeIf(t -> keyspace.equals(t.getKeyspace()));
+    }
+
+    @Override
+    public void onKeyspaceDropped(KeyspaceMetadata keyspace) {
+        invalidate(keyspace.getName());
+    }
+
+    @Override
+    public void onKeyspaceUpdated(KeyspaceMetadata current, KeyspaceMetadata previous) {
+        invalidate(current.getName());
+    }
+
+    @Override
+    public void onTableDropped(TableMetadata table) {
+        invalidate(table.getKeyspace());
+    }
+
+    @Override
+    public void onTableUpdated(TableMetadata current, TableMetadata previous) {
+        invalidate(current.getKeyspace());
+    }
+
+    @Override
+    public void onUserDefinedTypeDropped(UserDefinedType type) {
+        invalidate(type.getKeyspace());
+    }
+
+    @Override
+    public void onUserDefinedTypeUpdated(UserDefinedType current, UserDefinedType previous) {
+        invalidate(current.getKeyspace());
+    }
+
+    int size() {
+        return columns.size();
+    }
+
+    /**
+     * The metadata of a UDT column.
+     */
+    static final class UDTColumn {
+
+        private final UDTFields fields;
+
+        private final DataType type;
+
+        private UDTColumn(UDTFields fields, DataType type) {
+            this.fields = fields;
+            this.type = type;
+        }
+
+        UDTFields getFields() {
+            return fields;
+        }
+
+        DataType getType() {
+            return type;
+        }
+    }
+
+    private static final class ColumnKey {
+
+        private final CqlIdentifier keyspace;
+
+        private final String table;
+
+        private final String column;
+
+        private final String userType;
+
+        private ColumnKey(CqlIdentifier keyspace, String table, String column, String userType) {
+            this.keyspace = keyspace;
+            this.table = table;
+            this.column = column;
+            this.userType = userType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ColumnKey that = (ColumnKey) o;
+            return Objects.equals(keyspace, that.keyspace) &&
+                    Objects.equals(table, that.table) &&
+                    Objects.equals(column, that.column) &&
+                    Objects.equals(userType, that.userType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyspace, table, column, userType);
+        }
+    }
+}
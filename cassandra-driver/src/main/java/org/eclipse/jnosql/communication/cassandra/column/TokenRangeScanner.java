@@ -0,0 +1,271 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import jakarta.nosql.CommunicationException;
+import jakarta.nosql.column.ColumnEntity;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.selectFrom;
+
+/**
+ * Reads a whole table splitting it by the token ranges of the ring: each range is a
+ * {@code token(partition key) > ? AND token(partition key) <= ?} query, and a fixed number of workers read the ranges
+ * concurrently through {@link CqlSession#executeAsync(com.datastax.oss.driver.api.core.cql.Statement)} and
+ * {@link AsyncResultSet#fetchNextPage()}, so the scan never holds a thread. A worker fetches its next page only after
+ * the returned {@link Stream} consumes the current one, thus there are at most a page per worker in memory, and the
+ * rows are converted by the consumer, with no order between the workers.
+ * The stream must be closed to stop the workers when it is not consumed up to the end.
+ */
+final class TokenRangeScanner {
+
+    private static final Object END = new Object();
+
+    private final CqlSession session;
+
+    private final PreparedStatementCache statements;
+
+    private final int parallelism;
+
+    private final int pageSize;
+
+    private final SchemaMetadataCache metadata;
+
+    TokenRangeScanner(CqlSession session, PreparedStatementCache statements, int parallelism, int pageSize,
+                      SchemaMetadataCache metadata) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The scan parallelism must be positive: " + parallelism);
+        }
+        this.session = session;
+        this.statements = statements;
+        this.parallelism = parallelism;
+        this.pageSize = pageSize;
+        this.metadata = metadata;
+    }
+
+    Stream<ColumnEntity> scan(String keyspace, String table) {
+        final TokenMap tokenMap = session.getMetadata().getTokenMap()
+                .orElseThrow(() -> new CommunicationException("The token metadata is not available, check if the " +
+                        "driver metadata is enabled"));
+        final CqlIdentifier[] partitionKey = session.getMetadata().getKeyspace(keyspace)
+                .flatMap(k -> k.getTable(table))
+                .map(t -> t.getPartitionKey().stream().map(ColumnMetadata::getName).toArray(CqlIdentifier[]::new))
+                .orElseThrow(() -> new CommunicationException("The table " + keyspace + '.' + table
+                        + " was not found"));
+
+        final Queue<BoundStatement> ranges = new ConcurrentLinkedQueue<>();
+        for (TokenRange range : tokenMap.getTokenRanges()) {
+            for (TokenRange unwrapped : range.unwrap()) {
+                ranges.add(statement(keyspace, table, partitionKey, unwrapped));
+            }
+        }
+
+        final Scan scan = new Scan(ranges, Math.min(parallelism, Math.max(1, ranges.size())));
+        scan.start();
+        final Spliterator<ColumnEntity> spliterator = Spliterators.spliteratorUnknownSize(scan,
+                Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(scan::cancel);
+    }
+
+    private BoundStatement statement(String keyspace, String table, CqlIdentifier[] partitionKey, TokenRange range) {
+        final Token start = range.getStart();
+        final Token end = range.getEnd();
+        final Select select = selectFrom(keyspace, table).all();
+        final BoundStatementBuilder builder;
+        if (start.compareTo(end) < 0) {
+            builder = statements.prepare(select.whereToken(partitionKey).isGreaterThan(bindMarker())
+                    .whereToken(partitionKey).isLessThanOrEqualTo(bindMarker()).asCql())
+                    .boundStatementBuilder().setToken(0, start).setToken(1, end);
+        } else if (start.equals(end)) {
+            builder = statements.prepare(select.asCql()).boundStatementBuilder();
+        } else {
+            //once unwrapped, the end is only lower than the start when it is the minimum token: the end of the ring
+            builder = statements.prepare(select.whereToken(partitionKey).isGreaterThan(bindMarker()).asCql())
+                    .boundStatementBuilder().setToken(0, start);
+        }
+        if (pageSize > 0) {
+            builder.setPageSize(pageSize);
+        }
+        return builder.build();
+    }
+
+    /**
+     * The state of a single scan: the ranges left and the pages fetched by the workers, waiting for the consumer.
+     */
+    private final class Scan implements Iterator<ColumnEntity> {
+
+        private final Queue<BoundStatement> ranges;
+
+        private final int workers;
+
+        private final AtomicInteger running;
+
+        private final BlockingQueue<Object> pages = new LinkedBlockingQueue<>();
+
+        private volatile boolean cancelled;
+
+        private AsyncResultSet current;
+
+        private Iterator<Row> rows = Collections.emptyIterator();
+
+        private boolean finished;
+
+        private Scan(Queue<BoundStatement> ranges, int workers) {
+            this.ranges = ranges;
+            this.workers = workers;
+            this.running = new AtomicInteger(workers);
+        }
+
+        private void start() {
+            for (int index = 0; index < workers; index++) {
+                nextRange();
+            }
+        }
+
+        private void nextRange() {
+            final BoundStatement statement = cancelled ? null : ranges.poll();
+            if (statement == null) {
+                done();
+                return;
+            }
+            try {
+                fetch(session.executeAsync(statement));
+            } catch (RuntimeException exp) {
+                fail(exp);
+            }
+        }
+
+        /**
+         * The page is only queued at the driver thread, the consumer reads it.
+         */
+        private void fetch(CompletionStage<AsyncResultSet> page) {
+            page.whenComplete((resultSet, error) -> {
+                if (error == null) {
+                    pages.add(resultSet);
+                } else {
+                    fail(error);
+                }
+            });
+        }
+
+        /**
+         * Called by the consumer when a page is read, the worker goes on with the next page or range.
+         */
+        private void resume(AsyncResultSet resultSet) {
+            if (cancelled) {
+                done();
+            } else if (resultSet.hasMorePages()) {
+                try {
+                    fetch(resultSet.fetchNextPage());
+                } catch (RuntimeException exp) {
+                    fail(exp);
+                }
+            } else {
+                nextRange();
+            }
+        }
+
+        private void fail(Throwable error) {
+            cancelled = true;
+            pages.add(new CommunicationException("There is an error scanning the token ranges", error));
+            done();
+        }
+
+        private void done() {
+            if (running.decrementAndGet() == 0) {
+                pages.add(END);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!rows.hasNext()) {
+                if (current != null) {
+                    final AsyncResultSet read = current;
+                    current = null;
+                    resume(read);
+                }
+                if (finished) {
+                    return false;
+                }
+                final Object page = take();
+                if (page == END) {
+                    finished = true;
+                    return false;
+                } else if (page instanceof CommunicationException) {
+                    cancel();
+                    throw (CommunicationException) page;
+                }
+                current = (AsyncResultSet) page;
+                rows = current.currentPage().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public ColumnEntity next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no entity left at the token range scan");
+            }
+            return CassandraConverter.toDocumentEntity(rows.next(), metadata);
+        }
+
+        private Object take() {
+            try {
+                return pages.take();
+            } catch (InterruptedException exp) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new CommunicationException("The token range scan was interrupted", exp);
+            }
+        }
+
+        /**
+         * The pages in flight are discarded when they arrive, no worker goes on since the consumer stops.
+         */
+        private void cancel() {
+            cancelled = true;
+            finished = true;
+            current = null;
+            rows = Collections.emptyIterator();
+            pages.clear();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The pre-computed fields of a {@link UserDefinedType}: the internal names, the index of each name and the codecs,
+ * so reading or writing a UDT does not walk the type definition on every row.
+ * The instances are cached by type at the {@link SchemaMetadataCache} of each factory.
+ */
+final class UDTFields {
+
+    private final UserDefinedType type;
+
+    private final List<String> names;
+
+    private final Map<String, Integer> indexes;
+
+    private final List<TypeCodec<Object>> codecs;
+
+    UDTFields(UserDefinedType type) {
+        this.type = type;
+        final List<CqlIdentifier> fieldNames = type.getFieldNames();
+        final List<DataType> fieldTypes = type.getFieldTypes();
+        final List<String> names = new ArrayList<>(fieldNames.size());
+        final Map<String, Integer> indexes = new HashMap<>();
+        final List<TypeCodec<Object>> codecs = new ArrayList<>(fieldNames.size());
+        for (int index = 0; index < fieldNames.size(); index++) {
+            final String name = fieldNames.get(index).asInternal();
+            names.add(name);
+            indexes.putIfAbsent(name, index);
+            codecs.add(CodecRegistry.DEFAULT.codecFor(fieldTypes.get(index)));
+        }
+        this.names = Collections.unmodifiableList(names);
+        this.indexes = indexes;
+        this.codecs = Collections.unmodifiableList(codecs);
+    }
+
+    UserDefinedType getType() {
+        return type;
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    int indexOf(String name) {
+        return indexes.getOrDefault(name, -1);
+    }
+
+    String getName(int index) {
+        return names.get(index);
+    }
+
+    List<String> getNames() {
+        return names;
+    }
+
+    DataType getFieldType(int index) {
+        return type.getFieldTypes().get(index);
+    }
+
+    TypeCodec<Object> getCodec(int index) {
+        return codecs.get(index);
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CassandraColumnFamilyManagerFactoryTest {
 
@@ -57,4 +58,13 @@ public class CassandraColumnFamilyManagerFactoryTest {
         assertNotNull(columnEntityManager);
     }
 
+    @Test
+    public void shouldReturnErrorWhenFactoryIsClosed() {
+        assertNotNull(subject.get(Constants.KEY_SPACE));
+        subject.close();
+        assertThrows(IllegalStateException.class, () -> subject.get(Constants.KEY_SPACE));
+        assertTrue(subject.getOpenConnections().isEmpty());
+        subject.close();
+    }
+
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
 package org.eclipse.jnosql.communication.cassandra.column;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import jakarta.nosql.NonUniqueResultException;
+import jakarta.nosql.Settings;
 import jakarta.nosql.Value;
 import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnDeleteQuery;
@@ -42,6 +45,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static jakarta.nosql.column.ColumnDeleteQuery.delete;
 import static jakarta.nosql.column.ColumnQuery.select;
@@ -55,6 +65,8 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -80,12 +92,27 @@ public class CassandraColumnFamilyManagerTest {
 
     @Test
     public void shouldClose() throws Exception {
-        entityManager.close();
-        DefaultCassandraColumnFamilyManager cassandraColumnFamilyManager = DefaultCassandraColumnFamilyManager.class.cast(entityManager);
-        CqlSession session = cassandraColumnFamilyManager.getSession();
+        CassandraColumnFamilyManagerFactory managerFactory = ManagerFactorySupplier.INSTANCE.get();
+        CassandraColumnFamilyManager manager = managerFactory.get(Constants.KEY_SPACE);
+        manager.close();
+        CqlSession session = DefaultCassandraColumnFamilyManager.class.cast(manager).getSession();
+        assertFalse(session.isClosed());
+        managerFactory.close();
         assertTrue(session.isClosed());
     }
 
+    @Test
+    public void shouldShareSession() {
+        CassandraColumnFamilyManagerFactory managerFactory = ManagerFactorySupplier.INSTANCE.get();
+        CassandraColumnFamilyManager manager = managerFactory.get(Constants.KEY_SPACE);
+        CassandraColumnFamilyManager otherManager = managerFactory.get("system");
+        assertEquals(DefaultCassandraColumnFamilyManager.class.cast(manager).getSession(),
+                DefaultCassandraColumnFamilyManager.class.cast(otherManager).getSession());
+        assertEquals(manager.getPreparedStatementCache(), otherManager.getPreparedStatementCache());
+        assertFalse(managerFactory.getOpenConnections().isEmpty());
+        managerFactory.close();
+    }
+
     @Test
     public void shouldInsertJustKey() {
         Column key = Columns.of("id", 10L);
@@ -367,6 +394,164 @@ public class CassandraColumnFamilyManagerTest {
         assertEquals(Integer.valueOf(2), Integer.valueOf(columnFamilyEntities.size()));
     }
 
+    @Test
+    public void shouldReusePreparedStatement() {
+        PreparedStatementCache cache = entityManager.getPreparedStatementCache();
+        for (long index = 1; index <= 3; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+        assertEquals(1L, cache.getMisses());
+        assertEquals(2L, cache.getHits());
+        assertEquals(1, cache.getSize());
+
+        ColumnQuery query = select().from(Constants.COLUMN_FAMILY).where("id").eq(2L).build();
+        assertTrue(entityManager.singleResult(query).isPresent());
+        query = select().from(Constants.COLUMN_FAMILY).where("id").eq(3L).build();
+        assertTrue(entityManager.singleResult(query).isPresent());
+        assertEquals(2L, cache.getMisses());
+        assertEquals(3L, cache.getHits());
+    }
+
+    @Test
+    public void shouldInsertAndSelectAsync() throws Exception {
+        ColumnEntity columnEntity = getColumnFamily();
+        ColumnEntity inserted = entityManager.insertAsync(columnEntity).toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(columnEntity, inserted);
+
+        ColumnQuery query = select().from(Constants.COLUMN_FAMILY).where("id").eq(10L).build();
+        List<ColumnEntity> entities = entityManager.selectAsync(query, CONSISTENCY_LEVEL).toCompletableFuture()
+                .get(10, TimeUnit.SECONDS).collect(toList());
+        assertEquals(1, entities.size());
+
+        ColumnDeleteQuery deleteQuery = delete().from(Constants.COLUMN_FAMILY).where("id").eq(10L).build();
+        entityManager.deleteAsync(deleteQuery).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        entities = entityManager.cqlAsync("select * from newKeySpace.newColumnFamily where id=10;")
+                .toCompletableFuture().get(10, TimeUnit.SECONDS).collect(toList());
+        assertTrue(entities.isEmpty());
+    }
+
+    @Test
+    public void shouldQueueAsyncRequestsOverTheLimit() throws Exception {
+        Map<String, Object> configuration = new HashMap<>();
+        ManagerFactorySupplier.INSTANCE.getSettings().forEach(configuration::put);
+        configuration.put(CassandraConfigurations.ASYNC_MAX_IN_FLIGHT.get(), "1");
+        CassandraColumnFamilyManager manager = new CassandraConfiguration().get(Settings.of(configuration))
+                .get(Constants.KEY_SPACE);
+
+        List<CompletableFuture<ColumnEntity>> inserts = new ArrayList<>();
+        for (long index = 1; index <= 20; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            inserts.add(manager.insertAsync(columnFamily).toCompletableFuture());
+        }
+        CompletableFuture.allOf(inserts.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        AsyncStatementExecutor executor = ((DefaultCassandraColumnFamilyManager) manager).getAsyncExecutor();
+        assertEquals(0, executor.getInFlight());
+        assertEquals(0, executor.getPending());
+        ColumnQuery query = select().from(Constants.COLUMN_FAMILY).build();
+        assertEquals(20L, manager.select(query).count());
+    }
+
+    @Test
+    public void shouldRejectAsyncRequestsWhenTheQueueIsFull() throws Exception {
+        Map<String, String> configuration = new HashMap<>();
+        ManagerFactorySupplier.INSTANCE.getSettings().forEach((k, v) -> configuration.put(k, v.toString()));
+        configuration.put(CassandraConfigurations.ASYNC_MAX_IN_FLIGHT.get(), "1");
+        configuration.put(CassandraConfigurations.ASYNC_MAX_QUEUED.get(), "1");
+        CassandraProperties properties = CassandraProperties.of(configuration);
+        //the results wait at this executor, so the request in flight holds its permit until they run
+        BlockingQueue<Runnable> held = new LinkedBlockingQueue<>();
+        CassandraColumnFamilyManagerFactory factory = new CassandraColumnFamilyManagerFactory(
+                properties.createCluster(), properties, held::add);
+        try {
+            CassandraColumnFamilyManager manager = factory.get(Constants.KEY_SPACE);
+            List<CompletableFuture<ColumnEntity>> inserts = new ArrayList<>();
+            for (long index = 1; index <= 3; index++) {
+                ColumnEntity columnFamily = getColumnFamily();
+                columnFamily.add("id", index);
+                inserts.add(manager.insertAsync(columnFamily).toCompletableFuture());
+            }
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> inserts.get(2).get());
+            assertThat(exception.getCause(), Matchers.instanceOf(RejectedExecutionException.class));
+
+            while (!inserts.get(0).isDone() || !inserts.get(1).isDone()) {
+                Runnable next = held.poll(10, TimeUnit.SECONDS);
+                assertNotNull(next);
+                next.run();
+            }
+            assertNotNull(inserts.get(0).get());
+            assertNotNull(inserts.get(1).get());
+            AsyncStatementExecutor executor = ((DefaultCassandraColumnFamilyManager) manager).getAsyncExecutor();
+            assertEquals(0, executor.getPending());
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenAsyncParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> entityManager.insertAsync(null));
+        assertThrows(NullPointerException.class, () -> entityManager.saveAsync(getColumnFamily(), null));
+        assertThrows(NullPointerException.class, () -> entityManager.selectAsync(null));
+        assertThrows(NullPointerException.class, () -> entityManager.deleteAsync(null));
+        assertThrows(NullPointerException.class, () -> entityManager.cqlAsync(null));
+    }
+
+    @Test
+    public void shouldInsertIterableInUnloggedBatches() {
+        assertBulkInsert(BulkWriteStrategy.UNLOGGED_BATCH);
+    }
+
+    @Test
+    public void shouldInsertIterableConcurrently() {
+        assertBulkInsert(BulkWriteStrategy.CONCURRENT);
+    }
+
+    @Test
+    public void shouldNotBatchTheSamePartitionKeyOfTwoTables() {
+        Map<String, Object> configuration = new HashMap<>();
+        ManagerFactorySupplier.INSTANCE.getSettings().forEach(configuration::put);
+        configuration.put(CassandraConfigurations.BULK_STRATEGY.get(), BulkWriteStrategy.UNLOGGED_BATCH.name());
+        configuration.put(CassandraConfigurations.BULK_BATCH_SIZE.get(), "2");
+        CassandraColumnFamilyManager manager = new CassandraConfiguration().get(Settings.of(configuration))
+                .get(Constants.KEY_SPACE);
+        ColumnEntity columnFamily = ColumnEntity.of(Constants.COLUMN_FAMILY, asList(Columns.of("id", 1L),
+                Columns.of("name", "Cassandra")));
+        ColumnEntity person = ColumnEntity.of("person", asList(Columns.of("id", 1L), Columns.of("name", "Ada")));
+
+        manager.insert(asList(columnFamily, person));
+        BulkWriteMetrics metrics = manager.getBulkWriteMetrics();
+        assertEquals(2L, metrics.getRows());
+        assertEquals(2L, metrics.getBatches());
+        assertEquals(0L, metrics.getFailures());
+
+        manager.delete(delete().from("person").where("id").eq(1L).build());
+        manager.close();
+    }
+
+    private void assertBulkInsert(BulkWriteStrategy strategy) {
+        Map<String, Object> configuration = new HashMap<>();
+        ManagerFactorySupplier.INSTANCE.getSettings().forEach(configuration::put);
+        configuration.put(CassandraConfigurations.BULK_STRATEGY.get(), strategy.name());
+        configuration.put(CassandraConfigurations.BULK_BATCH_SIZE.get(), "2");
+        CassandraColumnFamilyManager manager = new CassandraConfiguration().get(Settings.of(configuration))
+                .get(Constants.KEY_SPACE);
+
+        manager.save(getEntities(), CONSISTENCY_LEVEL);
+        BulkWriteMetrics metrics = manager.getBulkWriteMetrics();
+        assertEquals(3L, metrics.getRows());
+        assertEquals(0L, metrics.getFailures());
+        assertTrue(metrics.getBatches() > 0);
+
+        List<ColumnEntity> entities = manager.select(select().from(Constants.COLUMN_FAMILY).build()).collect(toList());
+        assertEquals(3, entities.size());
+        manager.close();
+    }
+
     private List<ColumnEntity> getEntities() {
         Map<String, Object> fields = new HashMap<>();
         fields.put("name", "Cassandra");
@@ -405,6 +590,30 @@ public class CassandraColumnFamilyManagerTest {
                 Column.of("lastname", "Lovelace")));
     }
 
+    @Test
+    public void shouldCacheUDTMetadata() {
+        SchemaMetadataCache metadata = DefaultCassandraColumnFamilyManager.class.cast(entityManager)
+                .getSchemaMetadataCache();
+        metadata.invalidate(CqlIdentifier.fromCql(Constants.KEY_SPACE));
+        for (String nickname : asList("ada", "grace")) {
+            ColumnEntity entity = ColumnEntity.of("users");
+            entity.add(Column.of("nickname", nickname));
+            entity.add(UDT.builder("fullname").withName("name")
+                    .addUDT(singletonList(Column.of("firstname", nickname))).build());
+            entityManager.insert(entity);
+        }
+        assertEquals(1, metadata.size());
+        UserDefinedType type = DefaultCassandraColumnFamilyManager.class.cast(entityManager).getSession()
+                .getMetadata().getKeyspace(Constants.KEY_SPACE)
+                .flatMap(k -> k.getUserDefinedType("fullname")).get();
+        UDTFields fields = metadata.getFields(type);
+        assertSame(fields, metadata.getFields(type));
+
+        metadata.invalidate(CqlIdentifier.fromCql(Constants.KEY_SPACE));
+        assertEquals(0, metadata.size());
+        assertNotSame(fields, metadata.getFields(type));
+    }
+
     @Test
     public void shouldSupportAnUDTElement() {
         ColumnEntity entity = ColumnEntity.of("users");
@@ -493,6 +702,43 @@ public class CassandraColumnFamilyManagerTest {
         assertTrue(cassandraQuery.getPagingState().isPresent());
     }
 
+    @Test
+    public void shouldResumeFromPagingState() {
+        for (long index = 1; index <= 10; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+
+        ColumnQuery query = select().from(Constants.COLUMN_FAMILY).build();
+        CassandraQuery firstPage = CassandraQuery.of(query);
+        assertEquals(4L, entityManager.select(firstPage, 4).count());
+        String pagingState = firstPage.getPagingState().get();
+        assertTrue(firstPage.getPagingStateBytes().isPresent());
+
+        CassandraQuery fromString = CassandraQuery.of(query, pagingState);
+        CassandraQuery fromBytes = CassandraQuery.of(query, firstPage.getPagingStateBytes().get());
+        assertEquals(fromString, fromBytes);
+        assertEquals(4L, entityManager.select(fromString, 4).count());
+        assertEquals(4L, entityManager.select(fromBytes, 4).count());
+    }
+
+    @Test
+    public void shouldScanByTokenRange() {
+        for (long index = 1; index <= 10; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+
+        try (Stream<ColumnEntity> entities = entityManager.scan(Constants.COLUMN_FAMILY)) {
+            assertEquals(10L, entities.map(e -> e.find("id").get().get()).distinct().count());
+        }
+        try (Stream<ColumnEntity> entities = entityManager.scan(Constants.COLUMN_FAMILY)) {
+            assertEquals(1L, entities.limit(1L).count());
+        }
+    }
+
     @Test
     public void shouldPaginate() {
         for (long index = 1; index <= 10; index++) {
@@ -506,6 +752,59 @@ public class CassandraColumnFamilyManagerTest {
         assertEquals(4, entities.size());
     }
 
+    @Test
+    public void shouldReusePreparedStatementAcrossPages() {
+        for (long index = 1; index <= 10; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+        PreparedStatementCache cache = entityManager.getPreparedStatementCache();
+        ColumnQuery first = select().from(Constants.COLUMN_FAMILY).limit(4).build();
+        assertEquals(4L, entityManager.select(first).count());
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+
+        ColumnQuery second = select().from(Constants.COLUMN_FAMILY).limit(4).skip(4).build();
+        assertEquals(4L, entityManager.select(second).count());
+        assertEquals(hits + 1L, cache.getHits());
+        assertEquals(misses, cache.getMisses());
+    }
+
+    @Test
+    public void shouldSkipOnPages() throws Exception {
+        for (long index = 1; index <= 10; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+
+        ColumnQuery onlySkip = select().from(Constants.COLUMN_FAMILY).skip(7).build();
+        assertEquals(3L, entityManager.select(onlySkip, 2).count());
+        ColumnQuery deepSkip = select().from(Constants.COLUMN_FAMILY).limit(4).skip(8).build();
+        assertEquals(2L, entityManager.select(deepSkip, 3).count());
+        ColumnQuery query = select().from(Constants.COLUMN_FAMILY).limit(4).skip(2).build();
+        assertEquals(4L, entityManager.selectAsync(query).toCompletableFuture()
+                .get(10, TimeUnit.SECONDS).count());
+    }
+
+    @Test
+    public void shouldFetchPageByPage() {
+        for (long index = 1; index <= 10; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+
+        ColumnQuery query = select().from(Constants.COLUMN_FAMILY).build();
+        try (Stream<ColumnEntity> entities = entityManager.select(query, 3)) {
+            assertEquals(10L, entities.count());
+        }
+        try (Stream<ColumnEntity> entities = entityManager.cql("select * from newKeySpace.newColumnFamily", 3)) {
+            assertEquals(2L, entities.limit(2L).count());
+        }
+    }
+
     @Test
     public void shouldCreateUDTWithSet() {
         ColumnEntity entity = createEntityWithIterableSet();
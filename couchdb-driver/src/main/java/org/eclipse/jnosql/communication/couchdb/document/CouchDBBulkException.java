@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import jakarta.nosql.CommunicationException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown by the {@link Iterable} insert and update when some documents were not written. The other documents were
+ * written and their entities have the new {@code _id} and {@code _rev}.
+ */
+public class CouchDBBulkException extends CommunicationException {
+
+    private final List<CouchDBBulkFailure> failures;
+
+    CouchDBBulkException(List<CouchDBBulkFailure> failures) {
+        super("There are " + failures.size() + " documents not written at the bulk request: " + failures);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return the documents that were not written, on the order of the entities
+     */
+    public List<CouchDBBulkFailure> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.Objects;
+
+/**
+ * The result of a document that was not written by a {@code _bulk_docs} request, e.g. a conflict because its
+ * revision is not the current one.
+ *
+ * @see CouchDBBulkException
+ */
+public final class CouchDBBulkFailure {
+
+    private final DocumentEntity entity;
+
+    private final String id;
+
+    private final String error;
+
+    private final String reason;
+
+    CouchDBBulkFailure(DocumentEntity entity, String id, String error, String reason) {
+        this.entity = entity;
+        this.id = id;
+        this.error = error;
+        this.reason = reason;
+    }
+
+    /**
+     * @return the entity that was not written
+     */
+    public DocumentEntity getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return the document id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the error returned by CouchDB, such as conflict or forbidden
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return the reason returned by CouchDB
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * @return true when the document was changed by another client, thus the revision is not the current one
+     */
+    public boolean isConflict() {
+        return CouchDBConstant.CONFLICT_ERROR.equals(error);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CouchDBBulkFailure that = (CouchDBBulkFailure) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(error, that.error) &&
+                Objects.equals(reason, that.reason);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, error, reason);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CouchDBBulkFailure{");
+        sb.append("id='").append(id).append('\'');
+        sb.append(", error='").append(error).append('\'');
+        sb.append(", reason='").append(reason).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
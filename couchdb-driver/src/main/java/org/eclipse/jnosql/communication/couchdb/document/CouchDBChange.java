@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A change of a document read from the {@code _changes} feed.
+ */
+public final class CouchDBChange {
+
+    private final String sequence;
+
+    private final String id;
+
+    private final String revision;
+
+    private final boolean deleted;
+
+    private final DocumentEntity entity;
+
+    CouchDBChange(String sequence, String id, String revision, boolean deleted, DocumentEntity entity) {
+        this.sequence = sequence;
+        this.id = id;
+        this.revision = revision;
+        this.deleted = deleted;
+        this.entity = entity;
+    }
+
+    /**
+     * @return the sequence of this change
+     */
+    public String getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the document id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the revision of the document after this change
+     */
+    public String getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return true when the document was deleted
+     */
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    /**
+     * @return the entity when the feed includes the documents, the document is not deleted and it was written
+     * as an entity
+     */
+    public Optional<DocumentEntity> getEntity() {
+        return Optional.ofNullable(entity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CouchDBChange that = (CouchDBChange) o;
+        return Objects.equals(sequence, that.sequence) &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(revision, that.revision);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, id, revision);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CouchDBChange{");
+        sb.append("sequence='").append(sequence).append('\'');
+        sb.append(", id='").append(id).append('\'');
+        sb.append(", revision='").append(revision).append('\'');
+        sb.append(", deleted=").append(deleted);
+        sb.append(", entity=").append(entity);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import jakarta.nosql.document.DocumentEntity;
+import org.apache.commons.codec.EncoderException;
+import org.apache.commons.codec.net.URLCodec;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Listens to the {@code _changes} feed of a database at a daemon thread, sending every change to the consumer
+ * in the feed order. The changes are read in batches of up to the batch size: after the consumer receives a batch,
+ * its last sequence is the checkpoint, sent to the checkpoint callback of the {@link CouchDBChangesOptions}.
+ * <p>When the connection is lost, the listener reconnects from the last checkpoint after the retry delay,
+ * thus a change may be received more than once, but never skipped. When the consumer throws an exception,
+ * the listener stops without moving the checkpoint.</p>
+ * <p>The feed holds a connection of the pool of the factory while the listener runs, so it must be closed.
+ * The listeners still running are closed with the factory, and a listener stops when the pool is shut down.
+ * The content of the feed is never closed before its end, that would read it up to the end, instead the request is
+ * aborted.</p>
+ */
+public final class CouchDBChangesListener implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(CouchDBChangesListener.class.getName());
+
+    private static final JsonReaderFactory FACTORY = Json.createReaderFactory(Collections.emptyMap());
+
+    private static final URLCodec CODEC = new URLCodec();
+
+    private final CouchDBHttpConfiguration configuration;
+
+    private final CouchDBHttpPool pool;
+
+    private final String database;
+
+    private final CouchDBChangesOptions options;
+
+    private final Consumer<CouchDBChange> consumer;
+
+    private final LongAdder changes = new LongAdder();
+
+    private final LongAdder reconnections = new LongAdder();
+
+    private volatile String lastSequence;
+
+    private volatile boolean running = true;
+
+    private volatile HttpGet request;
+
+    private CouchDBChangesListener(CouchDBHttpConfiguration configuration, CouchDBHttpPool pool,
+                                   String database, CouchDBChangesOptions options,
+                                   Consumer<CouchDBChange> consumer) {
+        this.configuration = configuration;
+        this.pool = pool;
+        this.database = database;
+        this.options = options;
+        this.consumer = consumer;
+        this.lastSequence = options.getSince();
+    }
+
+    static CouchDBChangesListener start(CouchDBHttpConfiguration configuration, CouchDBHttpPool pool,
+                                        String database, CouchDBChangesOptions options,
+                                        Consumer<CouchDBChange> consumer) {
+        CouchDBChangesListener listener = new CouchDBChangesListener(configuration, pool, database,
+                options, consumer);
+        pool.register(listener);
+        Thread thread = new Thread(listener::run, "jnosql-couchdb-changes-" + database);
+        thread.setDaemon(true);
+        thread.start();
+        return listener;
+    }
+
+    /**
+     * @return the sequence of the last checkpoint, or the since option when no batch was consumed yet
+     */
+    public String getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @return the number of changes sent to the consumer
+     */
+    public long getChanges() {
+        return changes.sum();
+    }
+
+    /**
+     * @return the number of reconnections after an error
+     */
+    public long getReconnections() {
+        return reconnections.sum();
+    }
+
+    /**
+     * @return true while the listener reads the feed
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops the listener, aborting the request in progress
+     */
+    @Override
+    public void close() {
+        running = false;
+        final HttpGet current = request;
+        if (current != null) {
+            current.abort();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                try {
+                    listen();
+                } catch (ConsumerException exp) {
+                    LOGGER.log(Level.SEVERE, "The consumer of the changes of " + database
+                            + " failed, the listener stops at the sequence " + lastSequence, exp.getCause());
+                    running = false;
+                } catch (IllegalStateException exp) {
+                    LOGGER.log(Level.FINE, "The connection pool is shut down, the listener of the changes of "
+                            + database + " stops at the sequence " + lastSequence, exp);
+                    running = false;
+                } catch (IOException | RuntimeException exp) {
+                    if (running) {
+                        reconnections.increment();
+                        LOGGER.log(Level.WARNING, "The changes feed of " + database
+                                + " was lost, reconnecting from the sequence " + lastSequence, exp);
+                        sleep();
+                    }
+                }
+            }
+        } finally {
+            pool.unregister(this);
+        }
+    }
+
+    private void listen() throws IOException {
+        HttpGet get = new HttpGet(getUrl());
+        get.setConfig(configuration.getRequestConfig(getSocketTimeout()));
+        get.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        configuration.getHashPassword().ifPresent(s -> get.setHeader(HttpHeaders.AUTHORIZATION, s));
+        this.request = get;
+        if (!running) {
+            return;
+        }
+        try (CloseableHttpResponse response = pool.getClient().execute(get)) {
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                throw new CouchDBHttpClientException("There is an error when read the changes of " + database
+                        + " status: " + response.getStatusLine().getStatusCode());
+            }
+            try {
+                InputStream content = response.getEntity().getContent();
+                if (CouchDBChangesOptions.Feed.CONTINUOUS.equals(options.getFeed())) {
+                    readContinuous(content);
+                } else {
+                    readLongPoll(content);
+                }
+                if (running) {
+                    EntityUtils.consume(response.getEntity());
+                }
+            } catch (IOException | RuntimeException exp) {
+                get.abort();
+                throw exp;
+            }
+        } finally {
+            this.request = null;
+        }
+    }
+
+    /**
+     * A change per line, a heartbeat is an empty line. The batch is sent when it is full, or when there is no other
+     * change already received, so a change is not delayed up to the next one.
+     */
+    private void readContinuous(InputStream content) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(content, UTF_8));
+        List<CouchDBChange> batch = new ArrayList<>();
+        String line;
+        while (running && (line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                JsonObject json = read(new StringReader(line));
+                if (json.containsKey(CouchDBConstant.LAST_SEQ_RESPONSE)) {
+                    accept(batch, toSequence(json.get(CouchDBConstant.LAST_SEQ_RESPONSE)));
+                    return;
+                }
+                batch.add(toChange(json));
+            }
+            if (batch.size() >= options.getBatchSize() || !reader.ready()) {
+                accept(batch, null);
+            }
+        }
+        accept(batch, null);
+    }
+
+    private void readLongPoll(InputStream content) {
+        JsonObject json = read(new InputStreamReader(content, UTF_8));
+        JsonArray results = json.getJsonArray(CouchDBConstant.RESULTS_RESPONSE);
+        List<CouchDBChange> batch = new ArrayList<>(results.size());
+        for (JsonValue result : results) {
+            batch.add(toChange(result.asJsonObject()));
+        }
+        accept(batch, toSequence(json.get(CouchDBConstant.LAST_SEQ_RESPONSE)));
+    }
+
+    private void accept(List<CouchDBChange> batch, String sequence) {
+        String checkpoint = sequence;
+        for (CouchDBChange change : batch) {
+            if (!running) {
+                return;
+            }
+            try {
+                consumer.accept(change);
+            } catch (RuntimeException exp) {
+                throw new ConsumerException(exp);
+            }
+            changes.increment();
+        }
+        if (checkpoint == null && !batch.isEmpty()) {
+            checkpoint = batch.get(batch.size() - 1).getSequence();
+        }
+        batch.clear();
+        if (checkpoint != null && !checkpoint.equals(lastSequence)) {
+            lastSequence = checkpoint;
+            options.getCheckpoint().accept(checkpoint);
+        }
+    }
+
+    private String getUrl() {
+        final boolean continuous = CouchDBChangesOptions.Feed.CONTINUOUS.equals(options.getFeed());
+        StringBuilder url = new StringBuilder(configuration.getUrl())
+                .append(database).append(CouchDBConstant.CHANGES)
+                .append("?feed=").append(continuous ? "continuous" : "longpoll")
+                .append("&since=").append(encode(lastSequence))
+                .append("&include_docs=").append(options.isIncludeDocs());
+        final long heartbeat = options.getHeartbeat().toMillis();
+        if (continuous) {
+            url.append("&heartbeat=").append(heartbeat);
+        } else {
+            url.append("&limit=").append(options.getBatchSize())
+                    .append("&timeout=").append(heartbeat);
+        }
+        return url.toString();
+    }
+
+    /**
+     * The feed is quiet up to the heartbeat, thus the socket timeout is twice it.
+     */
+    private int getSocketTimeout() {
+        return (int) Math.min(Integer.MAX_VALUE, options.getHeartbeat().toMillis() * 2);
+    }
+
+    private static CouchDBChange toChange(JsonObject json) {
+        final String sequence = toSequence(json.get(CouchDBConstant.SEQ_RESPONSE));
+        final String id = json.getString(CouchDBConstant.ID_RESPONSE, null);
+        final boolean deleted = json.getBoolean(CouchDBConstant.DELETED_RESPONSE, false);
+        String revision = null;
+        final JsonArray revisions = json.getJsonArray(CouchDBConstant.CHANGES_RESPONSE);
+        if (revisions != null && !revisions.isEmpty()) {
+            revision = revisions.getJsonObject(0).getString(CouchDBConstant.REV_RESPONSE, null);
+        }
+        DocumentEntity entity = null;
+        final JsonValue doc = json.get(CouchDBConstant.DOC_RESPONSE);
+        if (!deleted && doc != null && JsonValue.ValueType.OBJECT.equals(doc.getValueType())) {
+            final Map<String, Object> map = FindResultStream.toMap(doc.asJsonObject());
+            if (map.get(CouchDBConstant.ENTITY) != null) {
+                entity = HttpExecute.toEntity(map);
+            }
+        }
+        return new CouchDBChange(sequence, id, revision, deleted, entity);
+    }
+
+    /**
+     * The sequence is a string since CouchDB 2.0 and a number before.
+     */
+    private static String toSequence(JsonValue value) {
+        if (value == null || JsonValue.NULL.equals(value)) {
+            return null;
+        }
+        if (value instanceof JsonString) {
+            return ((JsonString) value).getString();
+        }
+        return value.toString();
+    }
+
+    private static JsonObject read(Reader reader) {
+        try (JsonReader json = FACTORY.createReader(reader)) {
+            return json.readObject();
+        }
+    }
+
+    private static String encode(String value) {
+        try {
+            return CODEC.encode(value);
+        } catch (EncoderException exp) {
+            throw new CouchDBHttpClientException("There is an error to encode the sequence " + value, exp);
+        }
+    }
+
+    private void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(options.getRetryDelay().toMillis());
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CouchDBChangesListener{" +
+                "database='" + database + '\'' +
+                ", options=" + options +
+                ", lastSequence='" + lastSequence + '\'' +
+                ", running=" + running +
+                '}';
+    }
+
+    /**
+     * Wraps the failure of the consumer, so it is not taken as a lost connection.
+     */
+    private static final class ConsumerException extends RuntimeException {
+
+        private ConsumerException(RuntimeException cause) {
+            super(cause);
+        }
+    }
+}
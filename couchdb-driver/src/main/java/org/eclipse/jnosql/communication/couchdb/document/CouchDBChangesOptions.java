@@ -0,0 +1,270 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The options of a {@link CouchDBDocumentCollectionManager#changes(CouchDBChangesOptions, Consumer)} listener.
+ * The defaults are the continuous feed since the beginning, with the documents, in batches of up to 100 changes,
+ * a heartbeat of ten seconds and one second between the reconnections.
+ *
+ * @see CouchDBChangesOptions#builder()
+ */
+public final class CouchDBChangesOptions {
+
+    /**
+     * The kind of {@code _changes} feed
+     */
+    public enum Feed {
+        /**
+         * A single request that stays open, the changes are sent as they happen
+         */
+        CONTINUOUS,
+        /**
+         * A request per batch, it waits until there is a change or the heartbeat time ends
+         */
+        LONGPOLL
+    }
+
+    private final Feed feed;
+
+    private final String since;
+
+    private final boolean includeDocs;
+
+    private final int batchSize;
+
+    private final Duration heartbeat;
+
+    private final Duration retryDelay;
+
+    private final Consumer<String> checkpoint;
+
+    private CouchDBChangesOptions(Builder builder) {
+        this.feed = builder.feed;
+        this.since = builder.since;
+        this.includeDocs = builder.includeDocs;
+        this.batchSize = builder.batchSize;
+        this.heartbeat = builder.heartbeat;
+        this.retryDelay = builder.retryDelay;
+        this.checkpoint = builder.checkpoint;
+    }
+
+    /**
+     * @return the kind of feed
+     */
+    public Feed getFeed() {
+        return feed;
+    }
+
+    /**
+     * @return the sequence the listener starts from, e.g. 0 or now
+     */
+    public String getSince() {
+        return since;
+    }
+
+    /**
+     * @return true when the changes have the documents
+     */
+    public boolean isIncludeDocs() {
+        return includeDocs;
+    }
+
+    /**
+     * @return the maximum number of changes between two checkpoints
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the time between the heartbeats of the continuous feed, and the wait of the long poll feed
+     */
+    public Duration getHeartbeat() {
+        return heartbeat;
+    }
+
+    /**
+     * @return the time waiting before a reconnection after an error
+     */
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    Consumer<String> getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * @return a {@link Builder} with the default options
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the default options
+     */
+    public static CouchDBChangesOptions of() {
+        return builder().build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CouchDBChangesOptions that = (CouchDBChangesOptions) o;
+        return includeDocs == that.includeDocs &&
+                batchSize == that.batchSize &&
+                feed == that.feed &&
+                Objects.equals(since, that.since) &&
+                Objects.equals(heartbeat, that.heartbeat) &&
+                Objects.equals(retryDelay, that.retryDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(feed, since, includeDocs, batchSize, heartbeat, retryDelay);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CouchDBChangesOptions{");
+        sb.append("feed=").append(feed);
+        sb.append(", since='").append(since).append('\'');
+        sb.append(", includeDocs=").append(includeDocs);
+        sb.append(", batchSize=").append(batchSize);
+        sb.append(", heartbeat=").append(heartbeat);
+        sb.append(", retryDelay=").append(retryDelay);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * The builder of {@link CouchDBChangesOptions}
+     */
+    public static final class Builder {
+
+        private Feed feed = Feed.CONTINUOUS;
+
+        private String since = "0";
+
+        private boolean includeDocs = true;
+
+        private int batchSize = 100;
+
+        private Duration heartbeat = Duration.ofSeconds(10);
+
+        private Duration retryDelay = Duration.ofSeconds(1);
+
+        private Consumer<String> checkpoint = s -> {
+        };
+
+        private Builder() {
+        }
+
+        /**
+         * @param feed the kind of feed
+         * @return this builder
+         * @throws NullPointerException when feed is null
+         */
+        public Builder withFeed(Feed feed) {
+            this.feed = requireNonNull(feed, "feed is required");
+            return this;
+        }
+
+        /**
+         * @param since the sequence to start from, e.g. a checkpoint, 0 or now
+         * @return this builder
+         * @throws NullPointerException when since is null
+         */
+        public Builder withSince(String since) {
+            this.since = requireNonNull(since, "since is required");
+            return this;
+        }
+
+        /**
+         * @param includeDocs whether the changes have the documents
+         * @return this builder
+         */
+        public Builder withIncludeDocs(boolean includeDocs) {
+            this.includeDocs = includeDocs;
+            return this;
+        }
+
+        /**
+         * @param batchSize the maximum number of changes between two checkpoints
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is not positive
+         */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param heartbeat the time between the heartbeats, or the wait of the long poll
+         * @return this builder
+         * @throws NullPointerException when heartbeat is null
+         */
+        public Builder withHeartbeat(Duration heartbeat) {
+            this.heartbeat = requireNonNull(heartbeat, "heartbeat is required");
+            return this;
+        }
+
+        /**
+         * @param retryDelay the time waiting before a reconnection after an error
+         * @return this builder
+         * @throws NullPointerException when retryDelay is null
+         */
+        public Builder withRetryDelay(Duration retryDelay) {
+            this.retryDelay = requireNonNull(retryDelay, "retryDelay is required");
+            return this;
+        }
+
+        /**
+         * Defines the callback of the checkpoints: after every batch of changes is consumed, it receives the
+         * sequence to use as {@link #withSince(String)} to resume from that point.
+         *
+         * @param checkpoint the callback
+         * @return this builder
+         * @throws NullPointerException when checkpoint is null
+         */
+        public Builder withCheckpoint(Consumer<String> checkpoint) {
+            this.checkpoint = requireNonNull(checkpoint, "checkpoint is required");
+            return this;
+        }
+
+        /**
+         * @return a new {@link CouchDBChangesOptions}
+         */
+        public CouchDBChangesOptions build() {
+            return new CouchDBChangesOptions(this);
+        }
+    }
+}
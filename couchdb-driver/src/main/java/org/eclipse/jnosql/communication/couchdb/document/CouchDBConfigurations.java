@@ -22,6 +22,11 @@ public enum  CouchDBConfigurations implements Supplier<String> {
 
     PORT("couchdb.port"),
     MAX_CONNECTIONS("couchdb.max.connections"),
+    MAX_CONNECTIONS_PER_ROUTE("couchdb.max.connections.per.route"),
+    KEEP_ALIVE("couchdb.keep.alive.millis"),
+    MAX_IDLE("couchdb.max.idle.millis"),
+    VALIDATE_AFTER_INACTIVITY("couchdb.validate.after.inactivity.millis"),
+    CONNECTION_REQUEST_TIMEOUT("couchdb.connection.request.timeout"),
     CONNECTION_TIMEOUT("couchdb.connection.timeout"),
     SOCKET_TIMEOUT("couchdb.socket.timeout"),
     MAX_OBJECT_SIZE_BYTES("couchdb.max.object.size.bytes"),
@@ -30,7 +35,9 @@ public enum  CouchDBConfigurations implements Supplier<String> {
     USER("couchdb.username"),
     PASSWORD("couchdb.password"),
     ENABLE_SSL("couchdb.enable.ssl"),
-    COMPRESSION("couchdb.compression");
+    COMPRESSION("couchdb.compression"),
+    BATCH_SIZE("couchdb.batch.size"),
+    INDEX_GUARD("couchdb.index.guard");
 
     private final String configuration;
 
@@ -29,6 +29,37 @@ final class CouchDBConstant {
     static final String REV_HEADER = "If-Match";
     static final String FIND = "/_find";
     static final String DOCS_RESPONSE = "docs";
+    static final String BULK_DOCS = "/_bulk_docs";
+    static final String ALL_DOCS = "/_all_docs";
+    static final String DOCS_REQUEST = "docs";
+    static final String KEYS_REQUEST = "keys";
+    static final String ROWS_RESPONSE = "rows";
+    static final String VALUE_RESPONSE = "value";
+    static final String ERROR_RESPONSE = "error";
+    static final String REASON_RESPONSE = "reason";
+    static final String DELETED_RESPONSE = "deleted";
+    static final String DELETED = "_deleted";
+    static final String CONFLICT_ERROR = "conflict";
+    static final String NOT_FOUND_ERROR = "not_found";
+    static final String CHANGES = "/_changes";
+    static final String SEQ_RESPONSE = "seq";
+    static final String LAST_SEQ_RESPONSE = "last_seq";
+    static final String UPDATE_SEQ_RESPONSE = "update_seq";
+    static final String RESULTS_RESPONSE = "results";
+    static final String CHANGES_RESPONSE = "changes";
+    static final String DOC_RESPONSE = "doc";
+    static final String INDEX = "/_index";
+    static final String EXPLAIN = "/_explain";
+    static final String INDEX_REQUEST = "index";
+    static final String INDEX_RESPONSE = "index";
+    static final String INDEXES_RESPONSE = "indexes";
+    static final String DEF_RESPONSE = "def";
+    static final String NAME = "name";
+    static final String DDOC = "ddoc";
+    static final String TYPE = "type";
+    static final String RESULT_RESPONSE = "result";
+    static final String CREATED_RESULT = "created";
+    static final String WARNING_RESPONSE = "warning";
 
     static final String COUNT = "/_all_docs?limit=0";
     static final String BOOKMARK = "bookmark";
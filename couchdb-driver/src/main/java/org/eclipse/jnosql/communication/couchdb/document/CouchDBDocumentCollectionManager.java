@@ -17,7 +17,28 @@
 package org.eclipse.jnosql.communication.couchdb.document;
 
 import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentQuery;
 
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The CouchDB implementation of {@link DocumentCollectionManager}.
+ * <p>The {@link Iterable} insert and update and the delete send the documents through {@code _bulk_docs} in chunks
+ * of up to {@link CouchDBConfigurations#BATCH_SIZE} documents. When some documents are not written, e.g. a conflict,
+ * a {@link CouchDBBulkException} is thrown after the other ones are written.</p>
+ * <p>The stream returned by select is lazy: the documents are parsed from the HTTP response while the stream is
+ * consumed. The response is closed when the stream reaches the end or is closed, so a stream that is not consumed
+ * up to the end, e.g. {@link Stream#findFirst()}, must be closed to return the connection to the pool. The bookmark
+ * of a {@link CouchDBDocumentQuery} is set only when its stream is read up to the end.</p>
+ * <p>{@link CouchDBDocumentCollectionManager#changes(CouchDBChangesOptions, Consumer)} listens to the
+ * {@code _changes} feed of the database.</p>
+ * <p>A select without a Mango index reads the whole database, the indexes are managed through
+ * {@link CouchDBDocumentCollectionManager#createIndex(CouchDBIndex)} and the query plan is returned by
+ * {@link CouchDBDocumentCollectionManager#explain(DocumentQuery)}. The {@link CouchDBConfigurations#INDEX_GUARD}
+ * either logs or fails the selects without an index.</p>
+ */
 public interface CouchDBDocumentCollectionManager extends DocumentCollectionManager {
 
     /**
@@ -27,4 +48,41 @@ public interface CouchDBDocumentCollectionManager extends DocumentCollectionMana
      * @throws UnsupportedOperationException when the database dot not have support
      */
     long count();
+
+    /**
+     * Listens to the changes of the database at a background thread, until the returned listener is closed.
+     * The listener reconnects from the last checkpoint when the connection is lost.
+     *
+     * @param options  the options of the feed
+     * @param consumer the consumer of every change, it is called by a single thread in the feed order
+     * @return the listener
+     * @throws NullPointerException when either options or consumer are null
+     * @see CouchDBChangesListener
+     */
+    CouchDBChangesListener changes(CouchDBChangesOptions options, Consumer<CouchDBChange> consumer);
+
+    /**
+     * Creates a Mango index at the database through {@code _index}
+     *
+     * @param index the index
+     * @return true when the index is created, false when it already exists
+     * @throws NullPointerException when index is null
+     */
+    boolean createIndex(CouchDBIndex index);
+
+    /**
+     * Returns the indexes of the database, including the primary one
+     *
+     * @return the indexes
+     */
+    List<CouchDBIndex> listIndexes();
+
+    /**
+     * Returns the query plan of a select through {@code _explain}, without running it
+     *
+     * @param query the query
+     * @return the query plan
+     * @throws NullPointerException when query is null
+     */
+    CouchDBQueryPlan explain(DocumentQuery query);
 }
@@ -20,26 +20,45 @@ import jakarta.nosql.document.DocumentCollectionManagerFactory;
 
 import java.util.Objects;
 
+/**
+ * The CouchDB implementation of {@link DocumentCollectionManagerFactory}. The managers share the HTTP client and the
+ * connection pool of the factory, which are released when the factory is closed, closing the
+ * {@link CouchDBChangesListener} started by the managers first.
+ */
 public class CouchDBDocumentCollectionManagerFactory implements DocumentCollectionManagerFactory {
 
 
     private final CouchDBHttpConfiguration configuration;
 
+    private final CouchDBHttpPool pool;
+
     CouchDBDocumentCollectionManagerFactory(CouchDBHttpConfiguration configuration) {
         this.configuration = configuration;
+        this.pool = configuration.createPool();
     }
 
     @Override
     public CouchDBDocumentCollectionManager get(String database) {
         Objects.requireNonNull(database, "database is required");
 
-        CouchDBHttpClient client = configuration.getClient(database);
+        CouchDBHttpClient client = configuration.getClient(pool, database);
         client.createDatabase();
         return new DefaultCouchDBDocumentCollectionManager(client);
     }
 
 
+    /**
+     * Returns the counters of the HTTP connection pool shared by the managers of this factory, such as the leases
+     * and the wait time.
+     *
+     * @return the {@link CouchDBPoolMetrics} instance
+     */
+    public CouchDBPoolMetrics getPoolMetrics() {
+        return pool.getMetrics();
+    }
+
     @Override
     public void close() {
+        pool.close();
     }
 }
@@ -31,6 +31,15 @@ import java.util.Objects;
  * {@link CouchDBDocumentCollectionManagerFactory}, settings:
  * <p>couchdb.port: </p>
  * <p>couchdb.max.connections: </p>
+ * <p>couchdb.max.connections.per.route: the maximum connections to the CouchDB host, the default value is
+ * couchdb.max.connections</p>
+ * <p>couchdb.keep.alive.millis: the time a connection is kept alive when the response has no Keep-Alive header,
+ * the default value 30000</p>
+ * <p>couchdb.max.idle.millis: the time after which an idle connection is closed, the default value 30000</p>
+ * <p>couchdb.validate.after.inactivity.millis: the idle time after which a connection is checked before it is
+ * leased, the default value 2000</p>
+ * <p>couchdb.connection.request.timeout: the milliseconds a request waits for a pooled connection before it fails,
+ * e.g. when streams that were not consumed up to the end are not closed, the default value 5000</p>
  * <p>couchdb.connection.timeout: </p>
  * <p>couchdb.socket.timeout: </p>
  * <p>couchdb.max.object.size.bytes: </p>
@@ -40,6 +49,9 @@ import java.util.Objects;
  * <p>couchdb.password: </p>
  * <p>couchdb.enable.ssl: </p>
  * <p>couchdb.compression: </p>
+ * <p>couchdb.batch.size: the maximum number of documents sent by a _bulk_docs request, the default value 500</p>
+ * <p>couchdb.index.guard: what a select does when it has no index, either NONE, WARN or FAIL,
+ * the default value NONE</p>
  *
  * @see CouchDBConfigurations
  */
@@ -72,12 +84,19 @@ public class CouchDBDocumentConfiguration implements DocumentConfiguration {
                 .ifPresent(configuration::withPassword);
         settings.computeIfPresent(CouchDBConfigurations.PORT.get(), (k, v) -> configuration.withPort(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.MAX_CONNECTIONS.get(), (k, v) -> configuration.withMaxConnections(Integer.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.MAX_CONNECTIONS_PER_ROUTE.get(), (k, v) -> configuration.withMaxConnectionsPerRoute(Integer.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.KEEP_ALIVE.get(), (k, v) -> configuration.withKeepAliveMillis(Long.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.MAX_IDLE.get(), (k, v) -> configuration.withMaxIdleMillis(Long.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.VALIDATE_AFTER_INACTIVITY.get(), (k, v) -> configuration.withValidateAfterInactivityMillis(Integer.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.CONNECTION_REQUEST_TIMEOUT.get(), (k, v) -> configuration.withConnectionRequestTimeout(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.CONNECTION_TIMEOUT.get(), (k, v) -> configuration.withConnectionTimeout(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.SOCKET_TIMEOUT.get(), (k, v) -> configuration.withSocketTimeout(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.MAX_OBJECT_SIZE_BYTES.get(), (k, v) -> configuration.withMaxObjectSizeBytes(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.MAX_CACHE_ENTRIES.get(), (k, v) -> configuration.withMaxCacheEntries(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.ENABLE_SSL.get(), (k, v) -> configuration.withEnableSSL(Boolean.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.COMPRESSION.get(), (k, v) -> configuration.withCompression(Boolean.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.BATCH_SIZE.get(), (k, v) -> configuration.withBatchSize(Integer.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.INDEX_GUARD.get(), (k, v) -> configuration.withIndexGuard(CouchDBIndexGuard.parse(v.toString())));
         return new CouchDBDocumentCollectionManagerFactory(configuration.build());
     }
 }
\ No newline at end of file
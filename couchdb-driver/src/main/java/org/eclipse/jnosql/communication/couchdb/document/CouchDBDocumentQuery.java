@@ -27,6 +27,9 @@ import java.util.Optional;
 
 /**
  * A CouchDB specialization of {@link DocumentQuery} that allows query with bookmark which can do pagination.
+ * <p>CouchDB sends the bookmark after the documents, thus the select sets it at this query once its stream has
+ * been read to the end, not when the select returns; a stream closed before the end leaves the bookmark as it
+ * was.</p>
  *
  * @see CouchDBDocumentQuery#of(DocumentQuery)
  * @see CouchDBDocumentQuery#of(DocumentQuery, String)
@@ -48,6 +51,7 @@ public final class CouchDBDocumentQuery implements DocumentQuery {
      * through result sets. Every query returns an opaque string under the bookmark key that can
      * then be passed back in a query to get the next page of results. If any part of the selector query
      * changes between requests, the results are undefined. Optional, default: null
+     * <p>It is the bookmark of the last select whose stream was read to the end.</p>
      *
      * @return the bookmark
      */
@@ -59,6 +63,10 @@ public final class CouchDBDocumentQuery implements DocumentQuery {
         json.computeIfPresent(CouchDBConstant.BOOKMARK, (k, v) -> this.bookmark = v.toString());
     }
 
+    void setBookmark(String bookmark) {
+        this.bookmark = bookmark;
+    }
+
     @Override
     public long getLimit() {
         return query.getLimit();
@@ -14,28 +14,26 @@
  */
 package org.eclipse.jnosql.communication.couchdb.document;
 
-import jakarta.nosql.CommunicationException;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
-import org.apache.http.impl.client.CloseableHttpClient;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+/**
+ * Runs the requests of a database through the HTTP client shared by the factory.
+ */
 final class CouchDBHttpClient {
 
-    private final CloseableHttpClient client;
-
     private final String database;
 
     private final HttpExecute httpExecute;
 
-    CouchDBHttpClient(CouchDBHttpConfiguration configuration, CloseableHttpClient client, String database) {
-        this.client = client;
+    CouchDBHttpClient(CouchDBHttpConfiguration configuration, CouchDBHttpPool pool, String database) {
         this.database = database;
-        this.httpExecute = new HttpExecute(configuration, client);
+        this.httpExecute = new HttpExecute(configuration, pool);
     }
 
     void createDatabase() {
@@ -50,10 +48,18 @@ final class CouchDBHttpClient {
         return this.httpExecute.insert(database, entity);
     }
 
+    public List<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        return this.httpExecute.insert(database, entities);
+    }
+
     public DocumentEntity update(DocumentEntity entity) {
         return this.httpExecute.update(database, entity);
     }
 
+    public List<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        return this.httpExecute.update(database, entities);
+    }
+
     public Stream<DocumentEntity> select(DocumentQuery query) {
         return this.httpExecute.select(database, query);
     }
@@ -62,17 +68,35 @@ final class CouchDBHttpClient {
         this.httpExecute.delete(database, query);
     }
 
+    public CouchDBChangesListener changes(CouchDBChangesOptions options, Consumer<CouchDBChange> consumer) {
+        return httpExecute.changes(database, options, consumer);
+    }
+
+    public boolean createIndex(CouchDBIndex index) {
+        return httpExecute.createIndex(database, index);
+    }
+
+    public List<CouchDBIndex> listIndexes() {
+        return httpExecute.listIndexes(database);
+    }
+
+    public CouchDBQueryPlan explain(DocumentQuery query) {
+        return httpExecute.explain(database, query);
+    }
+
     public long count() {
         return httpExecute.count(database);
     }
 
+    String getUpdateSequence() {
+        return httpExecute.getUpdateSequence(database);
+    }
+
 
+    /**
+     * The HTTP client belongs to the factory, thus there is nothing to release.
+     */
     public void close() {
-        try {
-            this.client.close();
-        } catch (IOException e) {
-            throw new CommunicationException("An error when try to close the http client", e);
-        }
     }
 
 }
@@ -15,20 +15,23 @@
 package org.eclipse.jnosql.communication.couchdb.document;
 
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.cache.CacheConfig;
 import org.apache.http.impl.client.cache.CachingHttpClients;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
 import java.util.Base64;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 class CouchDBHttpConfiguration {
 
     private final String host;
     private final int port;
     private final int maxConnections;
+    private final int maxConnectionsPerRoute;
     private final int connectionTimeout;
     private final int socketTimeout;
     private final boolean enableSSL;
@@ -40,18 +43,38 @@ class CouchDBHttpConfiguration {
     private final boolean compression;
     private final int maxObjectSizeBytes;
     private final int maxCacheEntries;
+    private final int batchSize;
+    private final long keepAliveMillis;
+    private final long maxIdleMillis;
+    private final int validateAfterInactivityMillis;
+    private final int connectionRequestTimeout;
+    private final CouchDBIndexGuard indexGuard;
     private final String url;
-    private String hashPassword;
+    private final String hashPassword;
 
 
-    CouchDBHttpConfiguration(String host, int port, int maxConnections,
+    CouchDBHttpConfiguration(String host, int port, int maxConnections, int maxConnectionsPerRoute,
                              int connectionTimeout, int socketTimeout,
                              boolean enableSSL, String username, String password,
                              boolean compression, int maxObjectSizeBytes,
-                             int maxCacheEntries) {
+                             int maxCacheEntries, int batchSize, long keepAliveMillis,
+                             long maxIdleMillis, int validateAfterInactivityMillis,
+                             int connectionRequestTimeout, CouchDBIndexGuard indexGuard) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        if (maxConnections <= 0 || maxConnectionsPerRoute <= 0) {
+            throw new IllegalArgumentException("The max connections must be positive: " + maxConnections
+                    + ", " + maxConnectionsPerRoute);
+        }
+        if (connectionRequestTimeout < 0) {
+            throw new IllegalArgumentException("The connection request timeout must not be negative: "
+                    + connectionRequestTimeout);
+        }
         this.host = host;
         this.port = port;
         this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
         this.connectionTimeout = connectionTimeout;
         this.socketTimeout = socketTimeout;
         this.enableSSL = enableSSL;
@@ -60,7 +83,18 @@ class CouchDBHttpConfiguration {
         this.compression = compression;
         this.maxObjectSizeBytes = maxObjectSizeBytes;
         this.maxCacheEntries = maxCacheEntries;
+        this.batchSize = batchSize;
+        this.keepAliveMillis = keepAliveMillis;
+        this.maxIdleMillis = maxIdleMillis;
+        this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        this.indexGuard = indexGuard;
         this.url = createUrl();
+        if (username != null) {
+            this.hashPassword = "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes());
+        } else {
+            this.hashPassword = null;
+        }
     }
 
     private String createUrl() {
@@ -74,39 +108,79 @@ class CouchDBHttpConfiguration {
         return url.toString();
     }
 
-    public CouchDBHttpClient getClient(String database) {
-        return new CouchDBHttpClient(this, getHttpClient(), database);
+    public CouchDBHttpClient getClient(CouchDBHttpPool pool, String database) {
+        return new CouchDBHttpClient(this, pool, database);
     }
 
     public String getUrl() {
         return url;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public CouchDBIndexGuard getIndexGuard() {
+        return indexGuard;
+    }
 
-    private CloseableHttpClient getHttpClient() {
+    /**
+     * Creates the HTTP client shared by the managers of a factory. The idle connections are closed after the max
+     * idle time by a background thread, and a connection idle for longer than the validate after inactivity time
+     * is checked before it is leased again. A request waits up to the connection request timeout for a connection,
+     * so an exhausted pool fails the request instead of blocking it forever.
+     */
+    CouchDBHttpPool createPool() {
         CacheConfig cacheConfig = CacheConfig.custom()
                 .setMaxCacheEntries(maxCacheEntries)
                 .setMaxObjectSize(maxObjectSizeBytes)
                 .build();
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(connectionTimeout)
-                .setSocketTimeout(socketTimeout)
-                .setContentCompressionEnabled(compression)
-                .build();
+        RequestConfig requestConfig = getRequestConfig(socketTimeout);
 
-        PoolingHttpClientConnectionManager pool = new PoolingHttpClientConnectionManager();
+        CouchDBHttpPool.MeteredConnectionManager pool = new CouchDBHttpPool.MeteredConnectionManager();
         pool.setMaxTotal(maxConnections);
+        pool.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        pool.setValidateAfterInactivity(validateAfterInactivityMillis);
 
         HttpClientBuilder builder = CachingHttpClients.custom()
                 .setCacheConfig(cacheConfig)
                 .setConnectionManager(pool)
+                .setKeepAliveStrategy(getKeepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(maxIdleMillis, TimeUnit.MILLISECONDS)
                 .setDefaultRequestConfig(requestConfig);
 
-        if (username != null) {
-            this.hashPassword = "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes());
-        }
-        return builder.build();
+        CloseableHttpClient client = builder.build();
+        return new CouchDBHttpPool(client, pool.getMetrics());
     }
+
+    /**
+     * Keeps a connection alive for the time of the Keep-Alive header of the response, or the keep alive time
+     * when there is no header.
+     */
+    private ConnectionKeepAliveStrategy getKeepAliveStrategy() {
+        return (response, context) -> {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            if (duration > 0) {
+                return duration;
+            }
+            return keepAliveMillis;
+        };
+    }
+
+    /**
+     * The request configuration of the client with the given socket timeout, the long running requests, such as the
+     * {@code _changes} feed, use a longer one.
+     */
+    RequestConfig getRequestConfig(int socketTimeout) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .setConnectTimeout(connectionTimeout)
+                .setSocketTimeout(socketTimeout)
+                .setContentCompressionEnabled(compression)
+                .build();
+    }
+
     public Optional<String> getHashPassword() {
         return Optional.ofNullable(hashPassword);
     }
@@ -14,11 +14,14 @@
  */
 package org.eclipse.jnosql.communication.couchdb.document;
 
+import java.util.Objects;
+
 class CouchDBHttpConfigurationBuilder {
 
     private String host = "localhost";
     private int port = 5984;
     private int maxConnections = 20;
+    private Integer maxConnectionsPerRoute;
     private int connectionTimeout = 1000;
     private int socketTimeout = 10000;
     private boolean enableSSL = false;
@@ -29,6 +32,12 @@ class CouchDBHttpConfigurationBuilder {
     private boolean compression = false;
     private int maxObjectSizeBytes = 8192;
     private int maxCacheEntries = 1000;
+    private int batchSize = 500;
+    private long keepAliveMillis = 30_000L;
+    private long maxIdleMillis = 30_000L;
+    private int validateAfterInactivityMillis = 2_000;
+    private int connectionRequestTimeout = 5_000;
+    private CouchDBIndexGuard indexGuard = CouchDBIndexGuard.NONE;
 
     public CouchDBHttpConfigurationBuilder withPort(int port) {
         this.port = port;
@@ -40,6 +49,31 @@ class CouchDBHttpConfigurationBuilder {
         return this;
     }
 
+    public CouchDBHttpConfigurationBuilder withMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withKeepAliveMillis(long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withMaxIdleMillis(long maxIdleMillis) {
+        this.maxIdleMillis = maxIdleMillis;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withValidateAfterInactivityMillis(int validateAfterInactivityMillis) {
+        this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withConnectionRequestTimeout(int connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        return this;
+    }
+
     public CouchDBHttpConfigurationBuilder withConnectionTimeout(int connectionTimeout) {
         this.connectionTimeout = connectionTimeout;
         return this;
@@ -81,16 +115,28 @@ class CouchDBHttpConfigurationBuilder {
         return this;
     }
 
+    public CouchDBHttpConfigurationBuilder withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withIndexGuard(CouchDBIndexGuard indexGuard) {
+        this.indexGuard = Objects.requireNonNull(indexGuard, "indexGuard is required");
+        return this;
+    }
+
     public CouchDBHttpConfigurationBuilder withEnableSSL(boolean enableSSL) {
         this.enableSSL = enableSSL;
         return this;
     }
 
     public CouchDBHttpConfiguration build() {
-        return new CouchDBHttpConfiguration(host, port, maxConnections, connectionTimeout,
+        int perRoute = maxConnectionsPerRoute == null ? maxConnections : maxConnectionsPerRoute;
+        return new CouchDBHttpConfiguration(host, port, maxConnections, perRoute, connectionTimeout,
                 socketTimeout, enableSSL, username, password,
                 compression,
-                maxObjectSizeBytes, maxCacheEntries);
+                maxObjectSizeBytes, maxCacheEntries, batchSize, keepAliveMillis,
+                maxIdleMillis, validateAfterInactivityMillis, connectionRequestTimeout, indexGuard);
     }
 
 
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import jakarta.nosql.CommunicationException;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The HTTP client shared by the managers of a {@link CouchDBDocumentCollectionManagerFactory}, with its connection
+ * pool. It is closed with the factory, after the {@link CouchDBChangesListener} running on it.
+ */
+final class CouchDBHttpPool {
+
+    private final CloseableHttpClient client;
+
+    private final CouchDBPoolMetrics metrics;
+
+    private final Set<CouchDBChangesListener> listeners = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    CouchDBHttpPool(CloseableHttpClient client, CouchDBPoolMetrics metrics) {
+        this.client = client;
+        this.metrics = metrics;
+    }
+
+    CloseableHttpClient getClient() {
+        return client;
+    }
+
+    CouchDBPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    void register(CouchDBChangesListener listener) {
+        if (closed) {
+            throw new IllegalStateException("The CouchDB factory is closed");
+        }
+        listeners.add(listener);
+        if (closed) {
+            listeners.remove(listener);
+            throw new IllegalStateException("The CouchDB factory is closed");
+        }
+    }
+
+    void unregister(CouchDBChangesListener listener) {
+        listeners.remove(listener);
+    }
+
+    int getListeners() {
+        return listeners.size();
+    }
+
+    void close() {
+        closed = true;
+        final List<CouchDBChangesListener> running = new ArrayList<>(listeners);
+        listeners.clear();
+        running.forEach(CouchDBChangesListener::close);
+        try {
+            client.close();
+        } catch (IOException e) {
+            throw new CommunicationException("An error when try to close the http client", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CouchDBHttpPool{" +
+                "metrics=" + metrics +
+                '}';
+    }
+
+    /**
+     * A {@link PoolingHttpClientConnectionManager} that records the time waiting for each lease.
+     */
+    static final class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final CouchDBPoolMetrics metrics = new CouchDBPoolMetrics(this);
+
+        CouchDBPoolMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            final ConnectionRequest request = super.requestConnection(route, state);
+            return new ConnectionRequest() {
+                @Override
+                public HttpClientConnection get(long timeout, TimeUnit unit) throws InterruptedException,
+                        ExecutionException, ConnectionPoolTimeoutException {
+                    final long start = System.nanoTime();
+                    try {
+                        final HttpClientConnection connection = request.get(timeout, unit);
+                        metrics.onLease(System.nanoTime() - start);
+                        return connection;
+                    } catch (InterruptedException | ExecutionException | ConnectionPoolTimeoutException
+                            | RuntimeException exp) {
+                        metrics.onFailure(System.nanoTime() - start);
+                        throw exp;
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return request.cancel();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A Mango index of a database. The selector of a query always has the {@code @entity} field, thus an index for the
+ * queries of a single entity may start with it.
+ *
+ * @see CouchDBDocumentCollectionManager#createIndex(CouchDBIndex)
+ */
+public final class CouchDBIndex {
+
+    private static final String JSON_TYPE = "json";
+
+    private final String name;
+
+    private final String designDocument;
+
+    private final String type;
+
+    private final List<Sort> fields;
+
+    CouchDBIndex(String name, String designDocument, String type, List<Sort> fields) {
+        this.name = name;
+        this.designDocument = designDocument;
+        this.type = type;
+        this.fields = Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * @return the index name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the design document of the index, when it is not the primary index
+     */
+    public Optional<String> getDesignDocument() {
+        return Optional.ofNullable(designDocument);
+    }
+
+    /**
+     * @return the index type, e.g. json, or special to the primary index
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return the fields of the index, in order, with their directions
+     */
+    public List<Sort> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns a copy of this index at a design document, by default CouchDB creates a design document per index.
+     *
+     * @param designDocument the design document
+     * @return a new {@link CouchDBIndex}
+     * @throws NullPointerException when designDocument is null
+     */
+    public CouchDBIndex withDesignDocument(String designDocument) {
+        requireNonNull(designDocument, "designDocument is required");
+        return new CouchDBIndex(name, designDocument, type, fields);
+    }
+
+    /**
+     * Creates an index with ascending fields
+     *
+     * @param name   the index name
+     * @param fields the fields, in order
+     * @return a new {@link CouchDBIndex}
+     * @throws NullPointerException     when either name or fields are null
+     * @throws IllegalArgumentException when fields is empty
+     */
+    public static CouchDBIndex of(String name, String... fields) {
+        requireNonNull(fields, "fields is required");
+        return of(name, Arrays.stream(fields)
+                .map(f -> Sort.of(requireNonNull(f, "field is required"), SortType.ASC))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates an index
+     *
+     * @param name   the index name
+     * @param fields the fields, in order, with their directions
+     * @return a new {@link CouchDBIndex}
+     * @throws NullPointerException     when either name or fields are null
+     * @throws IllegalArgumentException when fields is empty
+     */
+    public static CouchDBIndex of(String name, List<Sort> fields) {
+        requireNonNull(name, "name is required");
+        requireNonNull(fields, "fields is required");
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("The index " + name + " requires at least one field");
+        }
+        return new CouchDBIndex(name, null, JSON_TYPE, fields);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CouchDBIndex that = (CouchDBIndex) o;
+        return Objects.equals(name, that.name) &&
+                Objects.equals(designDocument, that.designDocument) &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(fields, that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, designDocument, type, fields);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CouchDBIndex{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", designDocument='").append(designDocument).append('\'');
+        sb.append(", type='").append(type).append('\'');
+        sb.append(", fields=").append(fields);
+        sb.append('}');
+        return sb.toString();
+    }
+}
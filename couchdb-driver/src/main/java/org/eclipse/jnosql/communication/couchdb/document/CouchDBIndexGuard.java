@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import java.util.Locale;
+
+/**
+ * What a select does when CouchDB has no index for it, thus it reads the whole database.
+ *
+ * @see CouchDBConfigurations#INDEX_GUARD
+ */
+public enum CouchDBIndexGuard {
+
+    /**
+     * Runs the select without any check.
+     */
+    NONE,
+    /**
+     * Runs the select and logs the warning of the {@code _find} response, such as a query without a matching index,
+     * without another request.
+     */
+    WARN,
+    /**
+     * Checks the query plan through {@code _explain} before the select, and throws an exception when the plan is a
+     * full scan. It costs a request per select.
+     */
+    FAIL;
+
+    static CouchDBIndexGuard parse(String value) {
+        return CouchDBIndexGuard.valueOf(value.trim().toUpperCase(Locale.US));
+    }
+}
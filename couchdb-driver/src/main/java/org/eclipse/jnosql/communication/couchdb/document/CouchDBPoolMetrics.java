@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the connections leased from the HTTP connection pool shared by the managers of a
+ * {@link CouchDBDocumentCollectionManagerFactory}.
+ */
+public final class CouchDBPoolMetrics {
+
+    private final ConnPoolControl<HttpRoute> pool;
+
+    private final LongAdder leases = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder waitTime = new LongAdder();
+
+    private final LongAccumulator maxWaitTime = new LongAccumulator(Long::max, 0L);
+
+    CouchDBPoolMetrics(ConnPoolControl<HttpRoute> pool) {
+        this.pool = pool;
+    }
+
+    void onLease(long nanos) {
+        this.leases.increment();
+        this.waitTime.add(nanos);
+        this.maxWaitTime.accumulate(nanos);
+    }
+
+    void onFailure(long nanos) {
+        this.failures.increment();
+        this.maxWaitTime.accumulate(nanos);
+    }
+
+    /**
+     * @return the number of connections leased from the pool
+     */
+    public long getLeases() {
+        return leases.sum();
+    }
+
+    /**
+     * @return the number of times the pool could not lease a connection, e.g. the timeout was reached
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the average time waiting for a connection from the pool
+     */
+    public Duration getAverageWaitTime() {
+        final long count = leases.sum();
+        if (count == 0L) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(waitTime.sum() / count);
+    }
+
+    /**
+     * @return the highest time waiting for a connection from the pool
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitTime.get());
+    }
+
+    /**
+     * @return the number of connections currently leased
+     */
+    public int getLeased() {
+        return pool.getTotalStats().getLeased();
+    }
+
+    /**
+     * @return the number of connections idle at the pool
+     */
+    public int getIdle() {
+        return pool.getTotalStats().getAvailable();
+    }
+
+    /**
+     * @return the number of requests waiting for a connection
+     */
+    public int getPending() {
+        return pool.getTotalStats().getPending();
+    }
+
+    /**
+     * @return the maximum number of connections of the pool
+     */
+    public int getMax() {
+        return pool.getMaxTotal();
+    }
+
+    /**
+     * @return the maximum number of connections to a single CouchDB host
+     */
+    public int getMaxPerRoute() {
+        return pool.getDefaultMaxPerRoute();
+    }
+
+    @Override
+    public String toString() {
+        final PoolStats stats = pool.getTotalStats();
+        return "CouchDBPoolMetrics{" +
+                "leases=" + leases +
+                ", failures=" + failures +
+                ", averageWaitTime=" + getAverageWaitTime() +
+                ", maxWaitTime=" + getMaxWaitTime() +
+                ", leased=" + stats.getLeased() +
+                ", idle=" + stats.getAvailable() +
+                ", pending=" + stats.getPending() +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The query plan of a select, as returned by {@code _explain}.
+ *
+ * @see CouchDBDocumentCollectionManager#explain(jakarta.nosql.document.DocumentQuery)
+ */
+public final class CouchDBQueryPlan {
+
+    private static final String SPECIAL_TYPE = "special";
+
+    private final CouchDBIndex index;
+
+    private final Map<String, Object> plan;
+
+    CouchDBQueryPlan(CouchDBIndex index, Map<String, Object> plan) {
+        this.index = index;
+        this.plan = Collections.unmodifiableMap(plan);
+    }
+
+    /**
+     * @return the index chosen by CouchDB
+     */
+    public CouchDBIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @return true when there is no index for the query, thus CouchDB reads the whole database through the
+     * primary index
+     */
+    public boolean isFullScan() {
+        return SPECIAL_TYPE.equals(index.getType());
+    }
+
+    /**
+     * @return the whole {@code _explain} response, such as the selector, the range and the options
+     */
+    public Map<String, Object> getPlan() {
+        return plan;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CouchDBQueryPlan that = (CouchDBQueryPlan) o;
+        return Objects.equals(index, that.index) &&
+                Objects.equals(plan, that.plan);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, plan);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CouchDBQueryPlan{");
+        sb.append("index=").append(index);
+        sb.append(", fullScan=").append(isFullScan());
+        sb.append(", plan=").append(plan);
+        sb.append('}');
+        return sb.toString();
+    }
+}
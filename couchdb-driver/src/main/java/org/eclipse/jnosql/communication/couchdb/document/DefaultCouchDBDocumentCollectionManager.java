@@ -16,12 +16,17 @@
  */
 package org.eclipse.jnosql.communication.couchdb.document;
 
+import jakarta.nosql.NonUniqueResultException;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
 
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -49,8 +54,7 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return connector.insert(entities);
     }
 
     @Override
@@ -70,8 +74,7 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return connector.update(entities);
     }
 
     @Override
@@ -86,11 +89,58 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
         return connector.select(query);
     }
 
+    @Override
+    public Optional<DocumentEntity> singleResult(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        try (Stream<DocumentEntity> entities = select(query)) {
+            final Iterator<DocumentEntity> iterator = entities.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final DocumentEntity entity = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(entity);
+            }
+            throw new NonUniqueResultException("No unique result found to the query: " + query);
+        }
+    }
+
+    @Override
+    public CouchDBChangesListener changes(CouchDBChangesOptions options, Consumer<CouchDBChange> consumer) {
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(consumer, "consumer is required");
+        return connector.changes(options, consumer);
+    }
+
+    @Override
+    public boolean createIndex(CouchDBIndex index) {
+        Objects.requireNonNull(index, "index is required");
+        return connector.createIndex(index);
+    }
+
+    @Override
+    public List<CouchDBIndex> listIndexes() {
+        return connector.listIndexes();
+    }
+
+    @Override
+    public CouchDBQueryPlan explain(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return connector.explain(query);
+    }
+
     @Override
     public long count() {
         return connector.count();
     }
 
+    /**
+     * The sequence of the last change of the database, unlike {@code since=now} it is resolved before any later write.
+     */
+    String getUpdateSequence() {
+        return connector.getUpdateSequence();
+    }
+
     @Override
     public long count(String documentCollection) {
        throw new UnsupportedOperationException("CouchDB does not have support to count by document Collection," +
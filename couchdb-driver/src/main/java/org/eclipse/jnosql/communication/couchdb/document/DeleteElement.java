@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.communication.couchdb.document;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -36,6 +37,17 @@ final class DeleteElement {
         return rev;
     }
 
+    /**
+     * @return the document that deletes this element at {@code _bulk_docs}
+     */
+    Map<String, Object> toJson() {
+        Map<String, Object> json = new HashMap<>();
+        json.put(CouchDBConstant.ID, id);
+        json.put(CouchDBConstant.REV, rev);
+        json.put(CouchDBConstant.DELETED, true);
+        return json;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
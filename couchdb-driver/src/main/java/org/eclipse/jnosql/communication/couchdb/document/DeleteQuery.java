@@ -32,13 +32,16 @@ final class DeleteQuery implements DocumentQuery {
     private static final List<String> DOCUMENTS = asList(CouchDBConstant.ID, CouchDBConstant.REV);
     private final DocumentDeleteQuery query;
 
-    DeleteQuery(DocumentDeleteQuery query) {
+    private final long limit;
+
+    DeleteQuery(DocumentDeleteQuery query, long limit) {
         this.query = query;
+        this.limit = limit;
     }
 
     @Override
     public long getLimit() {
-        return 10;
+        return limit;
     }
 
     @Override
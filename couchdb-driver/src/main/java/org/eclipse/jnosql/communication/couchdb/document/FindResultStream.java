@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the documents of a {@code _find} response with a {@link JsonParser} while the stream is consumed, so only
+ * the current document is in memory. The other fields of the response, such as the bookmark and the warning, are
+ * read either before or after the documents.
+ * <p>The response is closed when the documents end or when the stream is closed, thus a stream that is not consumed
+ * up to the end must be closed to return the connection to the pool.</p>
+ */
+final class FindResultStream {
+
+    private static final JsonParserFactory FACTORY = Json.createParserFactory(Collections.emptyMap());
+
+    private FindResultStream() {
+    }
+
+    /**
+     * @param response the response whose status was already checked
+     * @param bookmark receives the bookmark of the response, if any
+     * @param warning  receives the warning of the response, if any
+     */
+    static Stream<Map<String, Object>> of(CloseableHttpResponse response, Consumer<String> bookmark,
+                                          Consumer<String> warning) throws IOException {
+        final DocumentIterator iterator = new DocumentIterator(response, bookmark, warning);
+        final Spliterator<Map<String, Object>> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    private static final class DocumentIterator implements Iterator<Map<String, Object>> {
+
+        private final CloseableHttpResponse response;
+
+        private final JsonParser parser;
+
+        private final Consumer<String> bookmark;
+
+        private final Consumer<String> warning;
+
+        private boolean started;
+
+        private boolean closed;
+
+        private Map<String, Object> next;
+
+        private DocumentIterator(CloseableHttpResponse response, Consumer<String> bookmark,
+                                 Consumer<String> warning) throws IOException {
+            this.response = response;
+            this.bookmark = bookmark;
+            this.warning = warning;
+            this.parser = FACTORY.createParser(response.getEntity().getContent());
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed) {
+                try {
+                    next = read();
+                } catch (RuntimeException exp) {
+                    close();
+                    throw new CouchDBHttpClientException("There is an error to read the documents", exp);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no document left at the CouchDB result");
+            }
+            final Map<String, Object> document = next;
+            next = null;
+            return document;
+        }
+
+        private Map<String, Object> read() {
+            if (!started) {
+                started = true;
+                parser.next();
+                if (!readFields()) {
+                    close();
+                    return null;
+                }
+            }
+            final JsonParser.Event event = parser.next();
+            if (JsonParser.Event.START_OBJECT.equals(event)) {
+                return toMap(parser.getObject());
+            }
+            readFields();
+            close();
+            return null;
+        }
+
+        /**
+         * Reads the fields of the response up to the start of the documents array.
+         *
+         * @return true when the documents array starts, false when the response ends
+         */
+        private boolean readFields() {
+            while (parser.hasNext()) {
+                final JsonParser.Event event = parser.next();
+                if (JsonParser.Event.END_OBJECT.equals(event)) {
+                    return false;
+                }
+                final String key = parser.getString();
+                final JsonParser.Event value = parser.next();
+                if (CouchDBConstant.DOCS_RESPONSE.equals(key) && JsonParser.Event.START_ARRAY.equals(value)) {
+                    return true;
+                } else if (CouchDBConstant.BOOKMARK.equals(key) && JsonParser.Event.VALUE_STRING.equals(value)) {
+                    bookmark.accept(parser.getString());
+                } else if (CouchDBConstant.WARNING_RESPONSE.equals(key) && JsonParser.Event.VALUE_STRING.equals(value)) {
+                    warning.accept(parser.getString());
+                } else if (JsonParser.Event.START_OBJECT.equals(value)) {
+                    parser.skipObject();
+                } else if (JsonParser.Event.START_ARRAY.equals(value)) {
+                    parser.skipArray();
+                }
+            }
+            return false;
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            next = null;
+            try {
+                parser.close();
+            } catch (RuntimeException exp) {
+                // the response is closed below anyway
+            }
+            try {
+                response.close();
+            } catch (IOException exp) {
+                throw new CouchDBHttpClientException("There is an error to close the response", exp);
+            }
+        }
+    }
+
+    static Map<String, Object> toMap(JsonObject json) {
+        final Map<String, Object> map = new HashMap<>(json.size());
+        for (Map.Entry<String, JsonValue> entry : json.entrySet()) {
+            map.put(entry.getKey(), toJava(entry.getValue()));
+        }
+        return map;
+    }
+
+    private static Object toJava(JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                return toMap((JsonObject) value);
+            case ARRAY:
+                final JsonArray array = (JsonArray) value;
+                final List<Object> list = new ArrayList<>(array.size());
+                for (JsonValue element : array) {
+                    list.add(toJava(element));
+                }
+                return list;
+            case STRING:
+                return ((JsonString) value).getString();
+            case NUMBER:
+                return ((JsonNumber) value).bigDecimalValue();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case NULL:
+            default:
+                return null;
+        }
+    }
+}
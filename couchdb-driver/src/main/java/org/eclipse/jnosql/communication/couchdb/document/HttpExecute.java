@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.communication.couchdb.document;
 
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
@@ -22,7 +24,6 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -36,21 +37,38 @@ import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import javax.json.JsonObject;
 import javax.json.bind.Jsonb;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 
+/**
+ * Sends the requests to CouchDB. The {@link Iterable} inserts and updates and the deletes by query send the documents
+ * through {@code _bulk_docs} in chunks of up to the batch size.
+ * The responses are parsed from the {@link InputStream}, and the {@code _find} documents one at a time while the
+ * stream returned by select is consumed. The select checks the index of the query following the
+ * {@link CouchDBIndexGuard}.
+ */
 class HttpExecute {
 
 
+    private static final Logger LOGGER = Logger.getLogger(HttpExecute.class.getName());
+
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
     private static final URLCodec CODEC = new URLCodec();
@@ -61,16 +79,22 @@ class HttpExecute {
     private static final Type JSON = new HashMap<String, Object>() {
     }.getClass().getGenericSuperclass();
 
+    private static final Type LIST_JSON = new ArrayList<Map<String, Object>>() {
+    }.getClass().getGenericSuperclass();
+
 
     private final CouchDBHttpConfiguration configuration;
 
+    private final CouchDBHttpPool pool;
+
     private final CloseableHttpClient client;
 
     private final MangoQueryConverter converter;
 
-    HttpExecute(CouchDBHttpConfiguration configuration, CloseableHttpClient client) {
+    HttpExecute(CouchDBHttpConfiguration configuration, CouchDBHttpPool pool) {
         this.configuration = configuration;
-        this.client = client;
+        this.pool = pool;
+        this.client = pool.getClient();
         this.converter = new MangoQueryConverter();
     }
 
@@ -88,9 +112,8 @@ class HttpExecute {
     }
 
     public DocumentEntity insert(String database, DocumentEntity entity) {
-        Map<String, Object> map = new HashMap<>(entity.toMap());
+        Map<String, Object> map = toJson(entity);
         String id = map.getOrDefault(CouchDBConstant.ID, "").toString();
-        map.put(CouchDBConstant.ENTITY, entity.getName());
         try {
             HttpEntityEnclosingRequestBase request;
             if (id.isEmpty()) {
@@ -114,23 +137,134 @@ class HttpExecute {
         }
     }
 
+    public List<DocumentEntity> insert(String database, Iterable<DocumentEntity> entities) {
+        List<DocumentEntity> result = new ArrayList<>();
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
+        chunks(entities, chunk -> {
+            failures.addAll(bulk(database, chunk));
+            result.addAll(chunk);
+        });
+        if (!failures.isEmpty()) {
+            throw new CouchDBBulkException(failures);
+        }
+        return result;
+    }
+
+    /**
+     * Updates with the {@code _rev} of the entity, or the current one when the entity does not have it.
+     */
     public DocumentEntity update(String database, DocumentEntity entity) {
         String id = getId(entity);
-        Map<String, Object> json = findById(database, id);
-        entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
+        if (!entity.find(CouchDBConstant.REV).isPresent()) {
+            Map<String, Object> json = findById(database, id);
+            entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
+        }
         return insert(database, entity);
     }
 
+    /**
+     * Updates the entities, the current {@code _rev} of the ones that do not have it is read with a single
+     * {@code _all_docs} request per chunk.
+     */
+    public List<DocumentEntity> update(String database, Iterable<DocumentEntity> entities) {
+        List<DocumentEntity> result = new ArrayList<>();
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
+        chunks(entities, chunk -> {
+            List<DocumentEntity> found = new ArrayList<>(chunk.size());
+            failures.addAll(setRevisions(database, chunk, found));
+            failures.addAll(bulk(database, found));
+            result.addAll(chunk);
+        });
+        if (!failures.isEmpty()) {
+            throw new CouchDBBulkException(failures);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the documents while they are read from the response, the stream must be closed when it is not
+     * consumed up to the end.
+     */
     public Stream<DocumentEntity> select(String database, DocumentQuery query) {
-        List<Map<String, Object>> entities = executeQuery(database, query);
-        return entities.stream().map(this::toEntity);
+        Consumer<String> warning = w -> {
+        };
+        switch (configuration.getIndexGuard()) {
+            case FAIL:
+                CouchDBQueryPlan plan = explain(database, query);
+                if (plan.isFullScan()) {
+                    throw new CouchDBHttpClientException(String.format("The select of %s at the database %s has no"
+                                    + " index, the selector is %s", query.getDocumentCollection(), database,
+                            plan.getPlan().get(CouchDBConstant.SELECTOR_QUERY)));
+                }
+                break;
+            case WARN:
+                warning = w -> LOGGER.log(Level.WARNING, String.format("The select of %s at the database %s: %s",
+                        query.getDocumentCollection(), database, w));
+                break;
+            default:
+                break;
+        }
+        return streamQuery(database, query, warning).map(HttpExecute::toEntity);
+    }
+
+    public boolean createIndex(String database, CouchDBIndex index) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.INDEX));
+        setHeader(request);
+        List<Map<String, String>> fields = index.getFields().stream()
+                .map(s -> Collections.singletonMap(s.getName(), s.getType().name().toLowerCase(Locale.US)))
+                .collect(Collectors.toList());
+        Map<String, Object> body = new HashMap<>();
+        body.put(CouchDBConstant.INDEX_REQUEST, Collections.singletonMap(CouchDBConstant.FIELDS_QUERY, fields));
+        body.put(CouchDBConstant.NAME, index.getName());
+        body.put(CouchDBConstant.TYPE, index.getType());
+        index.getDesignDocument().ifPresent(d -> body.put(CouchDBConstant.DDOC, d));
+        request.setEntity(new StringEntity(JSONB.toJson(body), APPLICATION_JSON));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        return CouchDBConstant.CREATED_RESULT.equals(json.get(CouchDBConstant.RESULT_RESPONSE));
+    }
+
+    public List<CouchDBIndex> listIndexes(String database) {
+        HttpGet request = new HttpGet(configuration.getUrl().concat(database).concat(CouchDBConstant.INDEX));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        List<CouchDBIndex> indexes = new ArrayList<>();
+        for (Object index : (List<?>) json.getOrDefault(CouchDBConstant.INDEXES_RESPONSE, emptyList())) {
+            indexes.add(toIndex((Map<?, ?>) index));
+        }
+        return indexes;
     }
 
+    public CouchDBQueryPlan explain(String database, DocumentQuery query) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.EXPLAIN));
+        setHeader(request);
+        JsonObject mangoQuery = converter.apply(query);
+        request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        return new CouchDBQueryPlan(toIndex((Map<?, ?>) json.get(CouchDBConstant.INDEX_RESPONSE)), json);
+    }
+
+    /**
+     * Finds the {@code _id} and {@code _rev} of a chunk of documents and deletes them with a single
+     * {@code _bulk_docs} request, until the query has no result. A document changed or deleted by another client
+     * meanwhile is skipped.
+     */
     public void delete(String database, DocumentDeleteQuery query) {
-        CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(new DeleteQuery(query));
+        CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(new DeleteQuery(query,
+                configuration.getBatchSize()));
         List<Map<String, Object>> entities = executeQuery(database, documentQuery);
         while (!entities.isEmpty()) {
-            entities.stream().map(DeleteElement::new).forEach(id -> this.delete(database, id));
+            List<Map<String, Object>> docs = new ArrayList<>(entities.size());
+            for (Map<String, Object> entity : entities) {
+                docs.add(new DeleteElement(entity).toJson());
+            }
+            for (Map<String, Object> result : bulkDocs(database, docs)) {
+                Object error = result.get(CouchDBConstant.ERROR_RESPONSE);
+                if (error != null && !CouchDBConstant.CONFLICT_ERROR.equals(error)
+                        && !CouchDBConstant.NOT_FOUND_ERROR.equals(error)) {
+                    throw new CouchDBHttpClientException("There is an error to delete the document "
+                            + result.get(CouchDBConstant.ID_RESPONSE) + ": " + error + " "
+                            + result.get(CouchDBConstant.REASON_RESPONSE));
+                }
+            }
             entities = executeQuery(database, documentQuery);
         }
     }
@@ -142,34 +276,177 @@ class HttpExecute {
         return Long.valueOf(total);
     }
 
+    /**
+     * The sequence of the last change of the database, a deterministic {@code since} for the changes feed.
+     */
+    String getUpdateSequence(String database) {
+        HttpGet request = new HttpGet(configuration.getUrl().concat(database));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        return json.get(CouchDBConstant.UPDATE_SEQ_RESPONSE).toString();
+    }
+
+
+    /**
+     * Writes the entities, setting the {@code _id} and {@code _rev} of the ones written.
+     *
+     * @return the documents not written
+     */
+    private List<CouchDBBulkFailure> bulk(String database, List<DocumentEntity> entities) {
+        if (entities.isEmpty()) {
+            return emptyList();
+        }
+        List<Map<String, Object>> docs = new ArrayList<>(entities.size());
+        for (DocumentEntity entity : entities) {
+            docs.add(toJson(entity));
+        }
+        List<Map<String, Object>> results = bulkDocs(database, docs);
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
+        for (int index = 0; index < entities.size(); index++) {
+            DocumentEntity entity = entities.get(index);
+            Map<String, Object> result = results.get(index);
+            Object error = result.get(CouchDBConstant.ERROR_RESPONSE);
+            if (error == null) {
+                entity.add(CouchDBConstant.ID, result.get(CouchDBConstant.ID_RESPONSE));
+                entity.add(CouchDBConstant.REV, result.get(CouchDBConstant.REV_RESPONSE));
+            } else {
+                failures.add(new CouchDBBulkFailure(entity, String.valueOf(result.get(CouchDBConstant.ID_RESPONSE)),
+                        error.toString(), String.valueOf(result.get(CouchDBConstant.REASON_RESPONSE))));
+            }
+        }
+        return failures;
+    }
+
+    private List<Map<String, Object>> bulkDocs(String database, List<Map<String, Object>> docs) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.BULK_DOCS));
+        setHeader(request);
+        Map<String, Object> body = Collections.singletonMap(CouchDBConstant.DOCS_REQUEST, docs);
+        request.setEntity(new StringEntity(JSONB.toJson(body), APPLICATION_JSON));
+        return execute(request, LIST_JSON, HttpStatus.SC_CREATED);
+    }
+
+    /**
+     * Reads the current {@code _rev} of the entities that do not have it, adding to found the entities ready to
+     * be written.
+     *
+     * @return the entities whose documents do not exist
+     */
+    private List<CouchDBBulkFailure> setRevisions(String database, List<DocumentEntity> entities,
+                                                  List<DocumentEntity> found) {
+        List<DocumentEntity> missing = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (DocumentEntity entity : entities) {
+            String id = getId(entity);
+            if (entity.find(CouchDBConstant.REV).isPresent()) {
+                found.add(entity);
+            } else {
+                missing.add(entity);
+                ids.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return emptyList();
+        }
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.ALL_DOCS));
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(Collections.singletonMap(CouchDBConstant.KEYS_REQUEST, ids)),
+                APPLICATION_JSON));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) json.getOrDefault(CouchDBConstant.ROWS_RESPONSE,
+                emptyList());
+        List<CouchDBBulkFailure> failures = new ArrayList<>();
+        for (int index = 0; index < missing.size(); index++) {
+            DocumentEntity entity = missing.get(index);
+            Map<String, Object> row = rows.get(index);
+            Map<String, Object> value = (Map<String, Object>) row.get(CouchDBConstant.VALUE_RESPONSE);
+            if (value == null || Boolean.TRUE.equals(value.get(CouchDBConstant.DELETED_RESPONSE))) {
+                Object error = row.getOrDefault(CouchDBConstant.ERROR_RESPONSE, CouchDBConstant.NOT_FOUND_ERROR);
+                failures.add(new CouchDBBulkFailure(entity, ids.get(index), error.toString(),
+                        "There is no document to update"));
+            } else {
+                entity.add(CouchDBConstant.REV, value.get(CouchDBConstant.REV_RESPONSE));
+                found.add(entity);
+            }
+        }
+        return failures;
+    }
+
+    private void chunks(Iterable<DocumentEntity> entities, Consumer<List<DocumentEntity>> consumer) {
+        int batchSize = configuration.getBatchSize();
+        List<DocumentEntity> chunk = new ArrayList<>(batchSize);
+        for (DocumentEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            chunk.add(entity);
+            if (chunk.size() == batchSize) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
 
-    private void delete(String database, DeleteElement id) {
-        HttpDelete request = new HttpDelete(configuration.getUrl().concat(database).concat("/").concat(id.getId()));
-        request.addHeader(CouchDBConstant.REV_HEADER, id.getRev());
-        execute(request, null, HttpStatus.SC_OK, true);
+    private Map<String, Object> toJson(DocumentEntity entity) {
+        Map<String, Object> map = new HashMap<>(entity.toMap());
+        map.put(CouchDBConstant.ENTITY, entity.getName());
+        return map;
     }
 
 
     private List<Map<String, Object>> executeQuery(String database, DocumentQuery query) {
+        try (Stream<Map<String, Object>> documents = streamQuery(database, query, w -> {
+        })) {
+            return documents.collect(Collectors.toList());
+        }
+    }
+
+    private Stream<Map<String, Object>> streamQuery(String database, DocumentQuery query,
+                                                    Consumer<String> warning) {
         HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.FIND));
         setHeader(request);
         JsonObject mangoQuery = converter.apply(query);
         request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
-        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        Consumer<String> bookmark = b -> {
+        };
         if (query instanceof CouchDBDocumentQuery) {
-            CouchDBDocumentQuery.class.cast(query).setBookmark(json);
+            bookmark = CouchDBDocumentQuery.class.cast(query)::setBookmark;
         }
-        return (List<Map<String, Object>>) json.getOrDefault(CouchDBConstant.DOCS_RESPONSE, emptyList());
+        return stream(request, HttpStatus.SC_OK, bookmark, warning);
     }
 
 
-    private DocumentEntity toEntity(Map<String, Object> jsonEntity) {
+    static DocumentEntity toEntity(Map<String, Object> jsonEntity) {
         DocumentEntity entity = DocumentEntity.of(jsonEntity.get(CouchDBConstant.ENTITY).toString());
         entity.addAll(Documents.of(jsonEntity));
         entity.remove(CouchDBConstant.ENTITY);
         return entity;
     }
 
+    public CouchDBChangesListener changes(String database, CouchDBChangesOptions options,
+                                          Consumer<CouchDBChange> consumer) {
+        return CouchDBChangesListener.start(configuration, pool, database, options, consumer);
+    }
+
+    /**
+     * The fields of a json index are an object per field, with its direction.
+     */
+    private static CouchDBIndex toIndex(Map<?, ?> json) {
+        Map<?, ?> definition = (Map<?, ?>) json.get(CouchDBConstant.DEF_RESPONSE);
+        List<Sort> fields = new ArrayList<>();
+        if (definition != null) {
+            for (Object field : (List<?>) definition.get(CouchDBConstant.FIELDS_QUERY)) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) field).entrySet()) {
+                    SortType type = "desc".equals(entry.getValue()) ? SortType.DESC : SortType.ASC;
+                    fields.add(Sort.of(entry.getKey().toString(), type));
+                }
+            }
+        }
+        Object designDocument = json.get(CouchDBConstant.DDOC);
+        return new CouchDBIndex(json.get(CouchDBConstant.NAME).toString(),
+                designDocument == null ? null : designDocument.toString(),
+                json.get(CouchDBConstant.TYPE).toString(), fields);
+    }
+
     private Map<String, Object> findById(String database, String id) {
         HttpGet request = new HttpGet(configuration.getUrl().concat(database).concat("/").concat(id));
         return execute(request, JSON, HttpStatus.SC_OK);
@@ -202,9 +479,9 @@ class HttpExecute {
                 return null;
             }
             HttpEntity entity = result.getEntity();
-            ByteArrayOutputStream stream = new ByteArrayOutputStream();
-            entity.writeTo(stream);
-            return JSONB.fromJson(new String(stream.toByteArray(), UTF_8), type);
+            try (InputStream content = entity.getContent()) {
+                return JSONB.fromJson(content, type);
+            }
         } catch (CouchDBHttpClientException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -212,6 +489,44 @@ class HttpExecute {
         }
     }
 
+    /**
+     * Executes the request and keeps the response open, it is closed by the stream.
+     */
+    private Stream<Map<String, Object>> stream(HttpUriRequest request, int expectedStatus,
+                                               Consumer<String> bookmark, Consumer<String> warning) {
+        configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
+        CloseableHttpResponse result = null;
+        try {
+            result = client.execute(request);
+            if (result.getStatusLine().getStatusCode() != expectedStatus) {
+                ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                result.getEntity().writeTo(stream);
+                String response = new String(stream.toByteArray(), UTF_8);
+                throw new CouchDBHttpClientException("There is an error when load the database status: " +
+                        result.getStatusLine().getStatusCode()
+                        + " error: " + response);
+            }
+            return FindResultStream.of(result, bookmark, warning);
+        } catch (CouchDBHttpClientException ex) {
+            close(result);
+            throw ex;
+        } catch (Exception ex) {
+            close(result);
+            throw new CouchDBHttpClientException("An error to access the database", ex);
+        }
+    }
+
+    private void close(CloseableHttpResponse response) {
+        if (response == null) {
+            return;
+        }
+        try {
+            response.close();
+        } catch (IOException exp) {
+            LOGGER.log(Level.FINEST, "There is an error to close the response", exp);
+        }
+    }
+
     private void setHeader(HttpEntityEnclosingRequestBase request) {
         request.setHeader("Accept", APPLICATION_JSON.getMimeType());
         request.setHeader("Content-type", APPLICATION_JSON.getMimeType());
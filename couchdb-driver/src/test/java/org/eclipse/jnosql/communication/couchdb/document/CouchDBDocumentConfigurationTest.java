@@ -16,12 +16,15 @@
  */
 package org.eclipse.jnosql.communication.couchdb.document;
 
+import jakarta.nosql.Settings;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CouchDBDocumentConfigurationTest {
 
@@ -54,4 +57,39 @@ class CouchDBDocumentConfigurationTest {
         Assertions.assertTrue(configuration instanceof CouchDBDocumentConfiguration);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldDefinePoolPerRoute() {
+        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        Settings settings = Settings.builder()
+                .put(CouchDBConfigurations.MAX_CONNECTIONS.get(), "200")
+                .put(CouchDBConfigurations.MAX_CONNECTIONS_PER_ROUTE.get(), "100")
+                .build();
+        CouchDBDocumentCollectionManagerFactory managerFactory = configuration.get(settings);
+        assertEquals(200, managerFactory.getPoolMetrics().getMax());
+        assertEquals(100, managerFactory.getPoolMetrics().getMaxPerRoute());
+        assertEquals(0L, managerFactory.getPoolMetrics().getLeases());
+        managerFactory.close();
+    }
+
+    @Test
+    public void shouldUseMaxConnectionsPerRouteByDefault() {
+        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        Settings settings = Settings.builder()
+                .put(CouchDBConfigurations.MAX_CONNECTIONS.get(), "50")
+                .build();
+        CouchDBDocumentCollectionManagerFactory managerFactory = configuration.get(settings);
+        assertEquals(50, managerFactory.getPoolMetrics().getMaxPerRoute());
+        managerFactory.close();
+    }
+
+    @Test
+    public void shouldParseIndexGuard() {
+        assertEquals(CouchDBIndexGuard.WARN, CouchDBIndexGuard.parse(" warn "));
+        assertEquals(CouchDBIndexGuard.FAIL, CouchDBIndexGuard.parse("FAIL"));
+        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        Settings settings = Settings.builder()
+                .put(CouchDBConfigurations.INDEX_GUARD.get(), "none_at_all")
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(settings));
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.eclipse.jnosql.communication.couchdb.document;
 
+import jakarta.nosql.CommunicationException;
+import jakarta.nosql.NonUniqueResultException;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,8 +36,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
 import static jakarta.nosql.document.DocumentQuery.select;
@@ -112,6 +122,78 @@ class DefaultCouchDBDocumentCollectionManagerTest {
     }
 
 
+    @Test
+    public void shouldInsertIterable() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entity.add("index", index);
+            entities.add(entity);
+        }
+        Iterable<DocumentEntity> inserted = entityManager.insert(entities);
+        assertEquals(entities, inserted);
+        assertTrue(entities.stream().allMatch(e -> e.find(CouchDBConstant.ID).isPresent()
+                && e.find(CouchDBConstant.REV).isPresent()));
+        DocumentQuery query = select().from(COLLECTION_NAME).where("index").in(asList(0, 1, 2, 3, 4)).build();
+        assertEquals(5, entityManager.select(query).count());
+    }
+
+    @Test
+    public void shouldUpdateIterable() {
+        DocumentEntity first = getEntity();
+        DocumentEntity second = getEntity();
+        second.add(CouchDBConstant.ID, "second");
+        entityManager.insert(asList(first, second));
+        first.remove(CouchDBConstant.REV);
+        first.add("city", "Lisbon");
+        second.add("city", "Lisbon");
+
+        entityManager.update(asList(first, second));
+        DocumentQuery query = select().from(COLLECTION_NAME).where("city").eq("Lisbon").build();
+        assertEquals(2, entityManager.select(query).count());
+    }
+
+    @Test
+    public void shouldReturnConflictOnBulk() {
+        DocumentEntity entity = getEntity();
+        entityManager.insert(entity);
+        DocumentEntity duplicated = getEntity();
+        DocumentEntity other = getEntity();
+        other.remove(CouchDBConstant.ID);
+
+        CouchDBBulkException exception = assertThrows(CouchDBBulkException.class,
+                () -> entityManager.insert(asList(duplicated, other)));
+        assertEquals(1, exception.getFailures().size());
+        CouchDBBulkFailure failure = exception.getFailures().get(0);
+        assertTrue(failure.isConflict());
+        assertEquals(duplicated, failure.getEntity());
+        assertTrue(other.find(CouchDBConstant.REV).isPresent());
+    }
+
+    @Test
+    public void shouldReturnNotFoundOnBulkUpdate() {
+        DocumentEntity entity = getEntity();
+        entity.add(CouchDBConstant.ID, "not_found");
+        CouchDBBulkException exception = assertThrows(CouchDBBulkException.class,
+                () -> entityManager.update(Collections.singletonList(entity)));
+        assertEquals("not_found", exception.getFailures().get(0).getError());
+    }
+
+    @Test
+    public void shouldDeleteInBulk() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 30; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+        entityManager.delete(delete().from(COLLECTION_NAME).where("name").eq("Poliana").build());
+        DocumentQuery query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        assertEquals(0, entityManager.select(query).count());
+    }
+
     @Test
     public void shouldSelect() {
         DocumentEntity entity = getEntity();
@@ -130,6 +212,88 @@ class DefaultCouchDBDocumentCollectionManagerTest {
         assertTrue(entities.isEmpty());
     }
 
+    @Test
+    public void shouldReturnConnectionWhenStreamIsClosed() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entity.add("index", index);
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+        DocumentQuery query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        for (int index = 0; index < 50; index++) {
+            try (Stream<DocumentEntity> stream = entityManager.select(query)) {
+                assertTrue(stream.findFirst().isPresent());
+            }
+        }
+        assertEquals(10, entityManager.select(query).count());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSingleResultIsNotUnique() {
+        DocumentEntity first = getEntity();
+        DocumentEntity second = getEntity();
+        second.add(CouchDBConstant.ID, "second");
+        entityManager.insert(asList(first, second));
+        DocumentQuery query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        for (int index = 0; index < 10; index++) {
+            assertThrows(NonUniqueResultException.class, () -> entityManager.singleResult(query));
+        }
+    }
+
+    @Test
+    public void shouldShareConnectionPoolBetweenManagers() throws Exception {
+        CouchDBDocumentCollectionManagerFactory factory = INSTANCE.get();
+        CouchDBDocumentCollectionManager first = factory.get("people");
+        CouchDBDocumentCollectionManager second = factory.get("people");
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Long>> counts = new ArrayList<>();
+            for (int index = 0; index < 40; index++) {
+                CouchDBDocumentCollectionManager manager = index % 2 == 0 ? first : second;
+                counts.add(executor.submit(manager::count));
+            }
+            for (Future<Long> count : counts) {
+                assertTrue(count.get() >= 0L);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        first.close();
+        assertTrue(second.count() >= 0L);
+        CouchDBPoolMetrics metrics = factory.getPoolMetrics();
+        assertTrue(metrics.getLeases() >= 41L);
+        assertEquals(0, metrics.getLeased());
+        factory.close();
+    }
+
+    @Test
+    public void shouldFailWhenThePoolIsExhausted() {
+        Map<CouchDBConfigurations, Object> settings = new HashMap<>();
+        settings.put(CouchDBConfigurations.MAX_CONNECTIONS, 1);
+        settings.put(CouchDBConfigurations.CONNECTION_REQUEST_TIMEOUT, 200);
+        CouchDBDocumentCollectionManagerFactory factory = INSTANCE.get(settings);
+        CouchDBDocumentCollectionManager manager = factory.get("people");
+        DocumentEntity first = getEntity();
+        DocumentEntity second = getEntity();
+        second.add(CouchDBConstant.ID, "second");
+        DocumentEntity third = getEntity();
+        third.add(CouchDBConstant.ID, "third");
+        try {
+            manager.insert(asList(first, second));
+            DocumentQuery query = select().from(COLLECTION_NAME).build();
+            try (Stream<DocumentEntity> entities = manager.select(query)) {
+                assertTrue(entities.iterator().hasNext());
+                assertThrows(CommunicationException.class, () -> manager.insert(third));
+            }
+            assertNotNull(manager.insert(third));
+        } finally {
+            factory.close();
+        }
+    }
+
     @Test
     public void shouldRemoveEntityByName() {
         DocumentEntity entity = getEntity();
@@ -252,6 +416,137 @@ class DefaultCouchDBDocumentCollectionManagerTest {
         Assertions.assertNotNull(properties);
     }
 
+    @Test
+    public void shouldListenToTheChanges() throws InterruptedException {
+        BlockingQueue<CouchDBChange> changes = new LinkedBlockingQueue<>();
+        //read before the insert, "now" would be resolved whenever the listener connects
+        String since = updateSequence();
+        CouchDBChangesOptions options = CouchDBChangesOptions.builder()
+                .withSince(since)
+                .withHeartbeat(Duration.ofSeconds(1))
+                .build();
+        try (CouchDBChangesListener listener = entityManager.changes(options, changes::add)) {
+            DocumentEntity entity = getEntity();
+            entity.add(CouchDBConstant.ID, UUID.randomUUID().toString());
+            entityManager.insert(entity);
+
+            CouchDBChange change = changes.poll(10, TimeUnit.SECONDS);
+            assertNotNull(change);
+            assertEquals(entity.find(CouchDBConstant.ID).get().get(), change.getId());
+            assertFalse(change.isDeleted());
+            DocumentEntity changed = change.getEntity().get();
+            assertEquals(COLLECTION_NAME, changed.getName());
+            assertEquals(entity.find("name").get(), changed.find("name").get());
+            assertTrue(listener.isRunning());
+        }
+    }
+
+    @Test
+    public void shouldCheckpointTheLongPollChanges() throws InterruptedException {
+        BlockingQueue<CouchDBChange> changes = new LinkedBlockingQueue<>();
+        BlockingQueue<String> checkpoints = new LinkedBlockingQueue<>();
+        String since = updateSequence();
+        CouchDBChangesOptions options = CouchDBChangesOptions.builder()
+                .withFeed(CouchDBChangesOptions.Feed.LONGPOLL)
+                .withSince(since)
+                .withIncludeDocs(false)
+                .withHeartbeat(Duration.ofSeconds(1))
+                .withCheckpoint(checkpoints::add)
+                .build();
+        CouchDBChangesListener listener = entityManager.changes(options, changes::add);
+        try {
+            DocumentEntity entity = getEntity();
+            entity.add(CouchDBConstant.ID, UUID.randomUUID().toString());
+            entityManager.insert(entity);
+
+            CouchDBChange change = changes.poll(10, TimeUnit.SECONDS);
+            assertNotNull(change);
+            assertFalse(change.getEntity().isPresent());
+            assertNotNull(checkpoints.poll(10, TimeUnit.SECONDS));
+            assertNotEquals(since, listener.getLastSequence());
+        } finally {
+            listener.close();
+        }
+        assertFalse(listener.isRunning());
+    }
+
+    private String updateSequence() {
+        return ((DefaultCouchDBDocumentCollectionManager) entityManager).getUpdateSequence();
+    }
+
+    @Test
+    public void shouldCloseTheListenersWithTheFactory() {
+        CouchDBDocumentCollectionManagerFactory factory = INSTANCE.get();
+        CouchDBDocumentCollectionManager manager = factory.get("people");
+        CouchDBChangesListener listener = manager.changes(CouchDBChangesOptions.builder().withSince("now").build(),
+                c -> {
+                });
+        assertTrue(listener.isRunning());
+        factory.close();
+        assertFalse(listener.isRunning());
+        assertThrows(IllegalStateException.class, () -> manager.changes(CouchDBChangesOptions.of(), c -> {
+        }));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenChangesHasNullParameter() {
+        assertThrows(NullPointerException.class, () -> entityManager.changes(null, c -> {
+        }));
+        assertThrows(NullPointerException.class, () -> entityManager.changes(CouchDBChangesOptions.of(), null));
+    }
+
+    @Test
+    public void shouldCreateIndex() {
+        CouchDBIndex index = CouchDBIndex.of("person_by_city", CouchDBConstant.ENTITY, "city");
+        entityManager.createIndex(index);
+        assertFalse(entityManager.createIndex(index));
+
+        List<CouchDBIndex> indexes = entityManager.listIndexes();
+        assertTrue(indexes.stream().anyMatch(i -> "_all_docs".equals(i.getName())));
+        CouchDBIndex created = indexes.stream().filter(i -> index.getName().equals(i.getName()))
+                .findFirst().get();
+        assertEquals(index.getFields(), created.getFields());
+        assertTrue(created.getDesignDocument().isPresent());
+    }
+
+    @Test
+    public void shouldExplain() {
+        CouchDBIndex index = CouchDBIndex.of("person_by_city", CouchDBConstant.ENTITY, "city");
+        entityManager.createIndex(index);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("city").eq("Salvador").build();
+        CouchDBQueryPlan plan = entityManager.explain(query);
+        assertFalse(plan.isFullScan());
+        assertEquals(index.getName(), plan.getIndex().getName());
+
+        DocumentQuery fullScan = select().from(COLLECTION_NAME).where("nickname").eq("Poli").build();
+        assertTrue(entityManager.explain(fullScan).isFullScan());
+    }
+
+    @Test
+    public void shouldFailSelectWithoutIndex() {
+        CouchDBDocumentCollectionManagerFactory factory = INSTANCE.get(CouchDBConfigurations.INDEX_GUARD, "FAIL");
+        CouchDBDocumentCollectionManager manager = factory.get("people");
+        CouchDBIndex index = CouchDBIndex.of("person_by_city", CouchDBConstant.ENTITY, "city");
+        manager.createIndex(index);
+        try {
+            DocumentQuery query = select().from(COLLECTION_NAME).where("city").eq("Salvador").build();
+            assertNotNull(manager.select(query).collect(Collectors.toList()));
+
+            DocumentQuery fullScan = select().from(COLLECTION_NAME).where("nickname").eq("Poli").build();
+            assertThrows(CommunicationException.class, () -> manager.select(fullScan));
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenIndexIsInvalid() {
+        assertThrows(NullPointerException.class, () -> entityManager.createIndex(null));
+        assertThrows(NullPointerException.class, () -> entityManager.explain(null));
+        assertThrows(IllegalArgumentException.class, () -> CouchDBIndex.of("empty"));
+    }
+
     private DocumentEntity createDocumentList() {
         DocumentEntity entity = DocumentEntity.of("AppointmentBook");
         List<List<Document>> documents = new ArrayList<>();
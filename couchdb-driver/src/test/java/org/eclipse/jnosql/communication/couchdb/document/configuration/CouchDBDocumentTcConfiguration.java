@@ -24,6 +24,7 @@ import org.eclipse.jnosql.communication.couchdb.document.CouchDBDocumentCollecti
 import org.eclipse.jnosql.communication.couchdb.document.CouchDBDocumentConfiguration;
 import org.testcontainers.containers.GenericContainer;
 
+import java.util.Map;
 import java.util.function.Supplier;
 
 public enum CouchDBDocumentTcConfiguration implements Supplier<CouchDBDocumentCollectionManagerFactory> {
@@ -39,8 +40,21 @@ public enum CouchDBDocumentTcConfiguration implements Supplier<CouchDBDocumentCo
 
     @Override
     public CouchDBDocumentCollectionManagerFactory get() {
-        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        return get(Settings.builder());
+    }
+
+    public CouchDBDocumentCollectionManagerFactory get(CouchDBConfigurations key, Object value) {
+        return get(Settings.builder().put(key.get(), value));
+    }
+
+    public CouchDBDocumentCollectionManagerFactory get(Map<CouchDBConfigurations, Object> settings) {
         SettingsBuilder builder = Settings.builder();
+        settings.forEach((k, v) -> builder.put(k.get(), v));
+        return get(builder);
+    }
+
+    private CouchDBDocumentCollectionManagerFactory get(SettingsBuilder builder) {
+        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
         builder.put(CouchDBConfigurations.PORT.get(), couchDB.getFirstMappedPort());
         builder.put(Configurations.USER.get(), "admin");
         builder.put(Configurations.PASSWORD.get(), "password");
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+/**
+ * How {@link MongoDBDocumentCollectionManager#count(String, CountMode)} counts the documents of a collection.
+ */
+public enum CountMode {
+    /**
+     * countDocuments, an aggregation that reads the collection: exact, but it scans the collection or an index.
+     */
+    EXACT,
+    /**
+     * estimatedDocumentCount, read from the collection metadata: it does not scan, but it might be stale,
+     * e.g. after an unclean shutdown or with orphaned documents in a sharded cluster.
+     */
+    ESTIMATED
+}
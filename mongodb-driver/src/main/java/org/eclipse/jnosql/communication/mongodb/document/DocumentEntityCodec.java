@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.ValueWriter;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.writer.ValueWriterDecorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
+
+/**
+ * A {@link Codec} that writes a {@link DocumentEntity} straight to a {@link BsonWriter} and reads it straight from a
+ * {@link BsonReader}, with no {@link org.bson.Document} in between. It keeps the {@link MongoDBUtils} mapping:
+ * a sub document is a {@link Document}, or an {@link Iterable} of them, and an array of sub documents is a list of
+ * lists of {@link Document}; any other value goes to the codec of its class at the {@link CodecRegistry}.
+ * As the BSON has no collection name, there is an instance per collection.
+ */
+final class DocumentEntityCodec implements CollectibleCodec<DocumentEntity> {
+
+    private static final ValueWriter VALUE_WRITER = ValueWriterDecorator.getInstance();
+
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+
+    private final String collectionName;
+
+    private final CodecRegistry registry;
+
+    DocumentEntityCodec(String collectionName, CodecRegistry registry) {
+        this.collectionName = Objects.requireNonNull(collectionName, "collectionName is required");
+        this.registry = Objects.requireNonNull(registry, "registry is required");
+    }
+
+    /**
+     * The registry of a collection whose {@link DocumentEntity} goes to this codec and any other class to the
+     * given registry, the same for the sync and the reactive collections.
+     */
+    static CodecRegistry registry(String collectionName, CodecRegistry registry) {
+        DocumentEntityCodec codec = new DocumentEntityCodec(collectionName, registry);
+        return CodecRegistries.fromRegistries(CodecRegistries.fromCodecs(codec), registry);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, DocumentEntity entity, EncoderContext context) {
+        writer.writeStartDocument();
+        for (Document document : entity.getDocuments()) {
+            writer.writeName(document.getName());
+            writeValue(writer, document.getValue(), context);
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public DocumentEntity decode(BsonReader reader, DecoderContext context) {
+        return DocumentEntity.of(collectionName, readDocument(reader, context));
+    }
+
+    @Override
+    public Class<DocumentEntity> getEncoderClass() {
+        return DocumentEntity.class;
+    }
+
+    @Override
+    public DocumentEntity generateIdIfAbsentFromDocument(DocumentEntity entity) {
+        if (!documentHasId(entity)) {
+            entity.add(Document.of(ID_FIELD, new ObjectId()));
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean documentHasId(DocumentEntity entity) {
+        return entity.find(ID_FIELD).isPresent();
+    }
+
+    @Override
+    public BsonValue getDocumentId(DocumentEntity entity) {
+        final Document id = entity.find(ID_FIELD)
+                .orElseThrow(() -> new IllegalStateException("The entity does not contain an _id"));
+        final BsonDocument document = new BsonDocument();
+        final BsonDocumentWriter writer = new BsonDocumentWriter(document);
+        writer.writeStartDocument();
+        writer.writeName(ID_FIELD);
+        writeValue(writer, id.getValue(), EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return document.get(ID_FIELD);
+    }
+
+    private void writeValue(BsonWriter writer, Object value, EncoderContext context) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof Value) {
+            writeValue(writer, ((Value) value).get(), context);
+        } else if (value instanceof Document) {
+            final Document document = (Document) value;
+            writer.writeStartDocument();
+            writer.writeName(document.getName());
+            writeValue(writer, document.getValue(), context);
+            writer.writeEndDocument();
+        } else if (value instanceof Iterable) {
+            writeIterable(writer, (Iterable<?>) value, context);
+        } else if (value instanceof Map) {
+            writer.writeStartDocument();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.writeName(entry.getKey().toString());
+                writeValue(writer, entry.getValue(), context);
+            }
+            writer.writeEndDocument();
+        } else if (VALUE_WRITER.test(value.getClass())) {
+            writeValue(writer, VALUE_WRITER.write(value), context);
+        } else {
+            writeObject(writer, value, context);
+        }
+    }
+
+    /**
+     * Iterable of {@link Document} is a sub document and an iterable of those an array of sub documents,
+     * the elements are classified in a single pass.
+     */
+    private void writeIterable(BsonWriter writer, Iterable<?> iterable, EncoderContext context) {
+        final List<Object> elements = new ArrayList<>();
+        boolean documents = true;
+        boolean documentLists = true;
+        for (Object element : iterable) {
+            final Object unwrapped = element instanceof Value ? ((Value) element).get() : element;
+            documents = documents && unwrapped instanceof Document;
+            documentLists = documentLists && isDocumentIterable(unwrapped);
+            elements.add(unwrapped);
+        }
+        if (!elements.isEmpty() && documents) {
+            writer.writeStartDocument();
+            for (Object element : elements) {
+                final Document document = (Document) element;
+                writer.writeName(document.getName());
+                writeValue(writer, document.getValue(), context);
+            }
+            writer.writeEndDocument();
+            return;
+        }
+        writer.writeStartArray();
+        for (Object element : elements) {
+            if (documentLists) {
+                writeIterable(writer, (Iterable<?>) element, context);
+            } else {
+                writeValue(writer, element, context);
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    private static boolean isDocumentIterable(Object value) {
+        if (!(value instanceof Iterable)) {
+            return false;
+        }
+        for (Object element : (Iterable<?>) value) {
+            if (!(element instanceof Document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeObject(BsonWriter writer, Object value, EncoderContext context) {
+        final Codec<Object> codec = (Codec<Object>) registry.get(value.getClass());
+        context.encodeWithChildContext(codec, writer, value);
+    }
+
+    private List<Document> readDocument(BsonReader reader, DecoderContext context) {
+        final List<Document> documents = new ArrayList<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            documents.add(Document.of(name, readValue(reader, context)));
+        }
+        reader.readEndDocument();
+        return documents;
+    }
+
+    private Object readValue(BsonReader reader, DecoderContext context) {
+        final BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case DOCUMENT:
+                return readDocument(reader, context);
+            case ARRAY:
+                return readArray(reader, context);
+            case NULL:
+                reader.readNull();
+                return null;
+            case BINARY:
+                return ((Binary) registry.get(Binary.class).decode(reader, context)).getData();
+            default:
+                return context.decodeWithChildContext(registry.get(BSON_TYPE_CLASS_MAP.get(type)), reader);
+        }
+    }
+
+    private List<Object> readArray(BsonReader reader, DecoderContext context) {
+        final List<Object> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            values.add(readValue(reader, context));
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentEntityCodec{" +
+                "collectionName='" + collectionName + '\'' +
+                '}';
+    }
+}
@@ -15,60 +15,74 @@
 
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
-import com.mongodb.client.model.Projections;
-import com.mongodb.client.model.Sorts;
-import jakarta.nosql.Sort;
-import jakarta.nosql.SortType;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.ReplaceOneModel;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
-import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
-import org.eclipse.jnosql.communication.document.Documents;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
-import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
-import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.getDocument;
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.getId;
 
 /**
  * The mongodb implementation to {@link DocumentCollectionManager} that does not support TTL methods
  * <p>{@link MongoDBDocumentCollectionManager#insert(DocumentEntity, Duration)}</p>
+ * <p>The {@link Iterable} insert and update are sent as insertMany and bulkWrite, in batches of the same collection.</p>
+ * <p>The entities are written and read by {@link DocumentEntityCodec}, with no intermediate BSON document.</p>
  */
 public class MongoDBDocumentCollectionManager implements DocumentCollectionManager {
 
-    private static final BsonDocument EMPTY = new BsonDocument();
+    private static final String COUNT_FIELD = "count";
+
+    static final int DEFAULT_BULK_BATCH_SIZE = 1_000;
 
     private final MongoDatabase mongoDatabase;
 
+    private final int bulkBatchSize;
+
+    private final boolean bulkOrdered;
+
+    private final Map<String, MongoCollection<DocumentEntity>> collections = new ConcurrentHashMap<>();
 
     MongoDBDocumentCollectionManager(MongoDatabase mongoDatabase) {
+        this(mongoDatabase, DEFAULT_BULK_BATCH_SIZE, true);
+    }
+
+    MongoDBDocumentCollectionManager(MongoDatabase mongoDatabase, int bulkBatchSize, boolean bulkOrdered) {
+        if (bulkBatchSize <= 0) {
+            throw new IllegalArgumentException("The bulk batch size must be positive: " + bulkBatchSize);
+        }
         this.mongoDatabase = mongoDatabase;
+        this.bulkBatchSize = bulkBatchSize;
+        this.bulkOrdered = bulkOrdered;
     }
 
 
     @Override
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        String collectionName = entity.getName();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document document = getDocument(entity);
-        collection.insertOne(document);
-        boolean hasNotId = entity.getDocuments().stream()
-                .map(jakarta.nosql.document.Document::getName).noneMatch(k -> k.equals(ID_FIELD));
-        if (hasNotId) {
-            entity.add(Documents.of(ID_FIELD, document.get(ID_FIELD)));
-        }
+        //the codec adds the generated _id to the entity
+        getCollection(entity.getName()).insertOne(entity);
         return entity;
     }
 
@@ -81,9 +95,8 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(toList());
+        return bulk(entities, (collection, batch) ->
+                collection.insertMany(batch, new InsertManyOptions().ordered(bulkOrdered)));
     }
 
     @Override
@@ -100,24 +113,20 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     public DocumentEntity update(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
-        DocumentEntity copy = entity.copy();
-        String collectionName = entity.getName();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document id = copy.find(ID_FIELD)
-                .map(d -> new Document(d.getName(), d.getValue().get()))
-                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
-                        "the field `id` is required"));
-        copy.remove(ID_FIELD);
-        collection.findOneAndReplace(id, getDocument(entity));
+        Document id = getId(entity);
+        getCollection(entity.getName()).replaceOne(id, entity);
         return entity;
     }
 
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(toList());
+        return bulk(entities, (collection, batch) -> {
+            List<ReplaceOneModel<DocumentEntity>> replaces = batch.stream()
+                    .map(e -> new ReplaceOneModel<>(getId(e), e))
+                    .collect(toList());
+            collection.bulkWrite(replaces, new BulkWriteOptions().ordered(bulkOrdered));
+        });
     }
 
 
@@ -127,46 +136,110 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
 
         String collectionName = query.getDocumentCollection();
         MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
-        collection.deleteMany(mongoDBQuery);
+        collection.deleteMany(MongoDBFind.filter(query));
     }
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
         String collectionName = query.getDocumentCollection();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        MongoCollection<DocumentEntity> source = MongoDBFind.readPreference(query)
+                .map(collection::withReadPreference).orElse(collection);
+        FindIterable<DocumentEntity> documents = source.find(MongoDBFind.filter(query));
+        MongoDBFind.configure(query, MongoDBFind.of(documents));
+        return stream(documents.spliterator(), false).map(MongoDBFind.onRead(query));
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
+        return collection.countDocuments();
+    }
 
-        FindIterable<Document> documents = collection.find(mongoDBQuery);
-        documents.projection(Projections.include(query.getDocuments()));
+    /**
+     * Returns the number of documents matching the query, counted at the server by a $match and a $count stages,
+     * the skip and limit of the query are applied before the count
+     *
+     * @param query the query
+     * @return the number of documents
+     * @throws NullPointerException when query is null
+     */
+    public long count(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        List<Bson> pipeline = new ArrayList<>();
+        query.getCondition().map(DocumentQueryConversor::convert).map(Aggregates::match).ifPresent(pipeline::add);
         if (query.getSkip() > 0) {
-            documents.skip((int) query.getSkip());
+            pipeline.add(Aggregates.skip((int) query.getSkip()));
         }
-
         if (query.getLimit() > 0) {
-            documents.limit((int) query.getLimit());
+            pipeline.add(Aggregates.limit((int) query.getLimit()));
         }
+        pipeline.add(Aggregates.count(COUNT_FIELD));
+        MongoCollection<Document> collection = mongoDatabase.getCollection(query.getDocumentCollection());
+        Document result = collection.aggregate(pipeline).first();
+        //$count returns no document when there is no match
+        return result == null ? 0L : result.get(COUNT_FIELD, Number.class).longValue();
+    }
 
-        query.getSorts().stream().map(this::getSort).forEach(documents::sort);
-
+    /**
+     * Runs an aggregation pipeline, the result documents are read as the stream is consumed
+     *
+     * @param collection the collection name
+     * @param pipeline   the aggregation stages, e.g. {@link Aggregates#group(Object, com.mongodb.client.model.BsonField...)}
+     * @return the documents returned by the last stage as entities of the collection
+     * @throws NullPointerException when there is null parameter
+     */
+    public Stream<DocumentEntity> aggregate(String collection, List<Bson> pipeline) {
+        Objects.requireNonNull(collection, "collection is required");
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        AggregateIterable<Document> documents = mongoDatabase.getCollection(collection).aggregate(pipeline);
         return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
-
+                .map(ds -> DocumentEntity.of(collection, ds));
     }
 
-    @Override
-    public long count(String documentCollection) {
+    /**
+     * Returns the number of documents of a collection
+     *
+     * @param documentCollection the collection name
+     * @param mode               whether the count is exact or estimated from the collection metadata
+     * @return the number of documents
+     * @throws NullPointerException when there is null parameter
+     */
+    public long count(String documentCollection, CountMode mode) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
+        Objects.requireNonNull(mode, "mode is required");
         MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
+        if (CountMode.ESTIMATED.equals(mode)) {
+            return collection.estimatedDocumentCount();
+        }
         return collection.countDocuments();
     }
 
-    private Bson getSort(Sort sort) {
-        boolean isAscending = SortType.ASC.equals(sort.getType());
-        return isAscending?Sorts.ascending(sort.getName()): Sorts.descending(sort.getName());
+    /**
+     * The collection whose codec reads and writes {@link DocumentEntity} straight from and to BSON.
+     */
+    private MongoCollection<DocumentEntity> getCollection(String collectionName) {
+        return collections.computeIfAbsent(collectionName, name ->
+                mongoDatabase.getCollection(name, DocumentEntity.class)
+                        .withCodecRegistry(DocumentEntityCodec.registry(name, mongoDatabase.getCodecRegistry())));
     }
 
+    /**
+     * Runs the operation on batches of the same collection, up to the bulk batch size, keeping their order.
+     */
+    private List<DocumentEntity> bulk(Iterable<DocumentEntity> entities,
+                                      BiConsumer<MongoCollection<DocumentEntity>, List<DocumentEntity>> operation) {
+        List<DocumentEntity> result = new ArrayList<>();
+        for (List<DocumentEntity> batch : MongoDBUtils.batches(entities, bulkBatchSize)) {
+            operation.accept(getCollection(batch.get(0).getName()), batch);
+            result.addAll(batch);
+        }
+        return result;
+    }
+
+
     @Override
     public void close() {
 
@@ -15,9 +15,13 @@
 
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * The mongodb implementation to {@link DocumentCollectionManagerFactory}
  */
@@ -25,25 +29,80 @@ public class MongoDBDocumentCollectionManagerFactory implements DocumentCollecti
 
     private final MongoClient mongoClient;
 
+    private final MongoClientSettings mongoClientSettings;
+
+    private final int bulkBatchSize;
+
+    private final boolean bulkOrdered;
+
+    private volatile com.mongodb.reactivestreams.client.MongoClient reactiveClient;
+
     MongoDBDocumentCollectionManagerFactory(MongoClient mongoClient) {
+        this(mongoClient, null, MongoDBDocumentCollectionManager.DEFAULT_BULK_BATCH_SIZE, true);
+    }
+
+    MongoDBDocumentCollectionManagerFactory(MongoClient mongoClient, MongoClientSettings mongoClientSettings,
+                                            int bulkBatchSize, boolean bulkOrdered) {
         this.mongoClient = mongoClient;
+        this.mongoClientSettings = mongoClientSettings;
+        this.bulkBatchSize = bulkBatchSize;
+        this.bulkOrdered = bulkOrdered;
     }
 
     @Override
     public MongoDBDocumentCollectionManager get(String database) {
-        return new MongoDBDocumentCollectionManager(mongoClient.getDatabase(database));
+        return new MongoDBDocumentCollectionManager(mongoClient.getDatabase(database), bulkBatchSize, bulkOrdered);
     }
 
 
+    /**
+     * Returns a {@link ReactiveMongoDBDocumentCollectionManager} of the database. The reactive client is created,
+     * from the same settings of this factory, on the first call and is shared by all the reactive managers.
+     *
+     * @param database the database name
+     * @return a reactive manager
+     * @throws NullPointerException          when database is null
+     * @throws UnsupportedOperationException when this factory was created from a {@link MongoClient} instance,
+     *                                       so there are no settings to create the reactive client
+     */
+    public ReactiveMongoDBDocumentCollectionManager getReactive(String database) {
+        requireNonNull(database, "database is required");
+        return new ReactiveMongoDBDocumentCollectionManager(getReactiveClient().getDatabase(database),
+                bulkBatchSize, bulkOrdered);
+    }
+
+    private com.mongodb.reactivestreams.client.MongoClient getReactiveClient() {
+        if (mongoClientSettings == null) {
+            throw new UnsupportedOperationException("The reactive manager requires a factory created from " +
+                    "settings, not from a MongoClient instance");
+        }
+        com.mongodb.reactivestreams.client.MongoClient client = reactiveClient;
+        if (client == null) {
+            synchronized (this) {
+                client = reactiveClient;
+                if (client == null) {
+                    client = MongoClients.create(mongoClientSettings);
+                    reactiveClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
     @Override
     public void close() {
         mongoClient.close();
+        if (reactiveClient != null) {
+            reactiveClient.close();
+        }
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("MongoDBDocumentCollectionManagerFactory{");
         sb.append("mongoClient=").append(mongoClient);
+        sb.append(", bulkBatchSize=").append(bulkBatchSize);
+        sb.append(", bulkOrdered=").append(bulkOrdered);
         sb.append('}');
         return sb.toString();
     }
@@ -40,6 +40,8 @@ import static java.util.Objects.requireNonNull;
  * that returns  {@link MongoDBDocumentCollectionManagerFactory}
  * It tries to read the diana-mongodb.properties file whose has the following properties
  * <p>mongodb.server.host.: as prefix to add host client, eg: mongodb.server.host.1=host1, mongodb.server.host.2= host2</p>
+ * <p>mongodb.bulk.batch.size: the maximum number of documents sent by insertMany or bulkWrite, the default value is 1000</p>
+ * <p>mongodb.bulk.ordered: whether the bulk operations are ordered, the default value is true</p>
  */
 public class MongoDBDocumentConfiguration implements DocumentConfiguration {
 
@@ -99,12 +101,11 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
                     .get(MongoDBDocumentConfigurations.URL.get(), String.class)
                     .map(ConnectionString::new);
 
-            return connectionString.map(c -> MongoClientSettings.builder()
+            final MongoClientSettings mongoClientSettings = connectionString.map(c -> MongoClientSettings.builder()
                     .applyConnectionString(c)
                     .build())
-                    .map(MongoClients::create)
-                    .map(MongoDBDocumentCollectionManagerFactory::new)
-                    .orElseGet(() -> new MongoDBDocumentCollectionManagerFactory(MongoClients.create()));
+                    .orElseGet(() -> MongoClientSettings.builder().build());
+            return create(mongoClientSettings, settings);
         }
 
         Optional<MongoCredential> credential = MongoAuthentication.of(settings);
@@ -115,7 +116,18 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
                 MongoClientSettings.builder()
                         .applyToClusterSettings(builder -> builder.hosts(servers))).build();
 
-        return new MongoDBDocumentCollectionManagerFactory(MongoClients.create(mongoClientSettings));
+        return create(mongoClientSettings, settings);
+    }
+
+    private MongoDBDocumentCollectionManagerFactory create(MongoClientSettings mongoClientSettings,
+                                                           Settings settings) {
+        int bulkBatchSize = settings.get(MongoDBDocumentConfigurations.BULK_BATCH_SIZE.get())
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(MongoDBDocumentCollectionManager.DEFAULT_BULK_BATCH_SIZE);
+        boolean bulkOrdered = settings.get(MongoDBDocumentConfigurations.BULK_ORDERED.get())
+                .map(Object::toString).map(Boolean::parseBoolean).orElse(true);
+        return new MongoDBDocumentCollectionManagerFactory(MongoClients.create(mongoClientSettings),
+                mongoClientSettings, bulkBatchSize, bulkOrdered);
     }
 
     public MongoDBDocumentCollectionManagerFactory get(String pathFileConfig) throws NullPointerException {
@@ -23,7 +23,9 @@ public enum MongoDBDocumentConfigurations implements Supplier<String> {
     URL("mongodb.url"),
     PASSWORD("mongodb.password"),
     AUTHENTICATION_SOURCE("mongodb.authentication.source"),
-    AUTHENTICATION_MECHANISM("mongodb.authentication.mechanism");
+    AUTHENTICATION_MECHANISM("mongodb.authentication.mechanism"),
+    BULK_BATCH_SIZE("mongodb.bulk.batch.size"),
+    BULK_ORDERED("mongodb.bulk.ordered");
 
     private final String configuration;
 
@@ -0,0 +1,299 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.ReadPreference;
+import jakarta.nosql.Sort;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentQuery;
+import org.bson.conversions.Bson;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A MongoDB specialization of {@link DocumentQuery} that carries the cursor options of the find command:
+ * the batch size, the index hint, the maximum execution time, the read preference and the no cursor timeout flag.
+ *
+ * @see MongoDBDocumentQuery#of(DocumentQuery)
+ * @see MongoDBDocumentQuery#builder(DocumentQuery)
+ */
+public final class MongoDBDocumentQuery implements DocumentQuery {
+
+    private final DocumentQuery query;
+
+    private final int batchSize;
+
+    private final Bson hint;
+
+    private final String hintName;
+
+    private final Duration maxTime;
+
+    private final ReadPreference readPreference;
+
+    private final boolean noCursorTimeout;
+
+    private MongoDBDocumentQuery(MongoDBDocumentQueryBuilder builder) {
+        this.query = builder.query;
+        this.batchSize = builder.batchSize;
+        this.hint = builder.hint;
+        this.hintName = builder.hintName;
+        this.maxTime = builder.maxTime;
+        this.readPreference = builder.readPreference;
+        this.noCursorTimeout = builder.noCursorTimeout;
+    }
+
+    /**
+     * The number of documents per batch of the cursor, zero means the server default.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The index the query must use, as the index keys
+     *
+     * @return the hint
+     */
+    public Optional<Bson> getHint() {
+        return Optional.ofNullable(hint);
+    }
+
+    /**
+     * The index the query must use, as the index name
+     *
+     * @return the hint name
+     */
+    public Optional<String> getHintName() {
+        return Optional.ofNullable(hintName);
+    }
+
+    /**
+     * The maximum time the server spends on the query before aborting it
+     *
+     * @return the max time
+     */
+    public Optional<Duration> getMaxTime() {
+        return Optional.ofNullable(maxTime);
+    }
+
+    /**
+     * The members of the replica set the query reads from
+     *
+     * @return the read preference
+     */
+    public Optional<ReadPreference> getReadPreference() {
+        return Optional.ofNullable(readPreference);
+    }
+
+    /**
+     * Whether the server keeps the cursor open when it is idle, instead of closing it after ten minutes
+     *
+     * @return the no cursor timeout flag
+     */
+    public boolean isNoCursorTimeout() {
+        return noCursorTimeout;
+    }
+
+    @Override
+    public long getLimit() {
+        return query.getLimit();
+    }
+
+    @Override
+    public long getSkip() {
+        return query.getSkip();
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return query.getDocuments();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MongoDBDocumentQuery that = (MongoDBDocumentQuery) o;
+        return batchSize == that.batchSize &&
+                noCursorTimeout == that.noCursorTimeout &&
+                Objects.equals(query, that.query) &&
+                Objects.equals(hint, that.hint) &&
+                Objects.equals(hintName, that.hintName) &&
+                Objects.equals(maxTime, that.maxTime) &&
+                Objects.equals(readPreference, that.readPreference);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, batchSize, hint, hintName, maxTime, readPreference, noCursorTimeout);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("MongoDBDocumentQuery{");
+        sb.append("query=").append(query);
+        sb.append(", batchSize=").append(batchSize);
+        sb.append(", hint=").append(hint);
+        sb.append(", hintName='").append(hintName).append('\'');
+        sb.append(", maxTime=").append(maxTime);
+        sb.append(", readPreference=").append(readPreference);
+        sb.append(", noCursorTimeout=").append(noCursorTimeout);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * returns a new instance of {@link MongoDBDocumentQuery} with no cursor option
+     *
+     * @param query the {@link DocumentQuery}
+     * @return a new instance
+     * @throws NullPointerException when query is null
+     */
+    public static MongoDBDocumentQuery of(DocumentQuery query) {
+        return builder(query).build();
+    }
+
+    /**
+     * returns a builder of {@link MongoDBDocumentQuery}
+     *
+     * @param query the {@link DocumentQuery}
+     * @return a new builder
+     * @throws NullPointerException when query is null
+     */
+    public static MongoDBDocumentQueryBuilder builder(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required ");
+        return new MongoDBDocumentQueryBuilder(query);
+    }
+
+    /**
+     * The builder of {@link MongoDBDocumentQuery}
+     */
+    public static final class MongoDBDocumentQueryBuilder {
+
+        private final DocumentQuery query;
+
+        private int batchSize;
+
+        private Bson hint;
+
+        private String hintName;
+
+        private Duration maxTime;
+
+        private ReadPreference readPreference;
+
+        private boolean noCursorTimeout;
+
+        private MongoDBDocumentQueryBuilder(DocumentQuery query) {
+            this.query = query;
+        }
+
+        /**
+         * @param batchSize the number of documents per batch of the cursor
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is negative
+         */
+        public MongoDBDocumentQueryBuilder batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("The batch size cannot be negative: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param hint the keys of the index the query must use
+         * @return this builder
+         * @throws NullPointerException when hint is null
+         */
+        public MongoDBDocumentQueryBuilder hint(Bson hint) {
+            this.hint = Objects.requireNonNull(hint, "hint is required");
+            this.hintName = null;
+            return this;
+        }
+
+        /**
+         * @param hintName the name of the index the query must use
+         * @return this builder
+         * @throws NullPointerException when hintName is null
+         */
+        public MongoDBDocumentQueryBuilder hint(String hintName) {
+            this.hintName = Objects.requireNonNull(hintName, "hintName is required");
+            this.hint = null;
+            return this;
+        }
+
+        /**
+         * @param maxTime the maximum time the server spends on the query
+         * @return this builder
+         * @throws NullPointerException when maxTime is null
+         */
+        public MongoDBDocumentQueryBuilder maxTime(Duration maxTime) {
+            this.maxTime = Objects.requireNonNull(maxTime, "maxTime is required");
+            return this;
+        }
+
+        /**
+         * @param readPreference the members of the replica set the query reads from
+         * @return this builder
+         * @throws NullPointerException when readPreference is null
+         */
+        public MongoDBDocumentQueryBuilder readPreference(ReadPreference readPreference) {
+            this.readPreference = Objects.requireNonNull(readPreference, "readPreference is required");
+            return this;
+        }
+
+        /**
+         * @param noCursorTimeout whether the server keeps the idle cursor open
+         * @return this builder
+         */
+        public MongoDBDocumentQueryBuilder noCursorTimeout(boolean noCursorTimeout) {
+            this.noCursorTimeout = noCursorTimeout;
+            return this;
+        }
+
+        /**
+         * @return a new {@link MongoDBDocumentQuery}
+         */
+        public MongoDBDocumentQuery build() {
+            return new MongoDBDocumentQuery(this);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Converts a {@link DocumentQuery} to a find, the single place where the filter, the cursor options of
+ * {@link MongoDBDocumentQuery}, the skip, the limit, the sort and the keyset of {@link MongoDBKeysetQuery} are
+ * applied, so {@link MongoDBDocumentCollectionManager} and {@link ReactiveMongoDBDocumentCollectionManager} have
+ * the same semantics. {@link FindIterable} and {@link FindPublisher} have no common type, so each one is adapted
+ * to {@link Find}.
+ */
+final class MongoDBFind {
+
+    private static final BsonDocument EMPTY = new BsonDocument();
+
+    private MongoDBFind() {
+    }
+
+    /**
+     * The options of a find, the methods both drivers share.
+     */
+    interface Find {
+
+        void projection(Bson projection);
+
+        void batchSize(int batchSize);
+
+        void hint(Bson hint);
+
+        void hintString(String hint);
+
+        void maxTime(long maxTime, TimeUnit timeUnit);
+
+        void noCursorTimeout(boolean noCursorTimeout);
+
+        void skip(int skip);
+
+        void limit(int limit);
+
+        void sort(Bson sort);
+    }
+
+    static Bson filter(DocumentQuery query) {
+        return query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+    }
+
+    static Optional<ReadPreference> readPreference(DocumentQuery query) {
+        return options(query).flatMap(MongoDBDocumentQuery::getReadPreference);
+    }
+
+    static void configure(DocumentQuery query, Find find) {
+        find.projection(Projections.include(query.getDocuments()));
+        Optional<MongoDBDocumentQuery> options = options(query);
+        if (options.isPresent()) {
+            MongoDBDocumentQuery mongoDBDocumentQuery = options.get();
+            if (mongoDBDocumentQuery.getBatchSize() > 0) {
+                find.batchSize(mongoDBDocumentQuery.getBatchSize());
+            }
+            mongoDBDocumentQuery.getHint().ifPresent(find::hint);
+            mongoDBDocumentQuery.getHintName().ifPresent(find::hintString);
+            mongoDBDocumentQuery.getMaxTime().ifPresent(t -> find.maxTime(t.toMillis(), TimeUnit.MILLISECONDS));
+            find.noCursorTimeout(mongoDBDocumentQuery.isNoCursorTimeout());
+        }
+        if (query.getSkip() > 0) {
+            find.skip((int) query.getSkip());
+        }
+
+        if (query.getLimit() > 0) {
+            find.limit((int) query.getLimit());
+        }
+
+        if (!query.getSorts().isEmpty()) {
+            find.sort(Sorts.orderBy(query.getSorts().stream().map(MongoDBUtils::getSort).collect(toList())));
+        }
+    }
+
+    /**
+     * The {@link MongoDBDocumentQuery} with the cursor options, which a {@link MongoDBKeysetQuery} may wrap.
+     */
+    private static Optional<MongoDBDocumentQuery> options(DocumentQuery query) {
+        DocumentQuery current = query;
+        if (current instanceof MongoDBKeysetQuery) {
+            current = MongoDBKeysetQuery.class.cast(current).getQuery();
+        }
+        if (current instanceof MongoDBDocumentQuery) {
+            return Optional.of(MongoDBDocumentQuery.class.cast(current));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * What is done to every entity read, a {@link MongoDBKeysetQuery} keeps the key of the last one.
+     */
+    static UnaryOperator<DocumentEntity> onRead(DocumentQuery query) {
+        if (query instanceof MongoDBKeysetQuery) {
+            MongoDBKeysetQuery keysetQuery = MongoDBKeysetQuery.class.cast(query);
+            return e -> {
+                keysetQuery.setLastKey(e);
+                return e;
+            };
+        }
+        return UnaryOperator.identity();
+    }
+
+    static Find of(FindIterable<?> documents) {
+        return new Find() {
+            @Override
+            public void projection(Bson projection) {
+                documents.projection(projection);
+            }
+
+            @Override
+            public void batchSize(int batchSize) {
+                documents.batchSize(batchSize);
+            }
+
+            @Override
+            public void hint(Bson hint) {
+                documents.hint(hint);
+            }
+
+            @Override
+            public void hintString(String hint) {
+                documents.hintString(hint);
+            }
+
+            @Override
+            public void maxTime(long maxTime, TimeUnit timeUnit) {
+                documents.maxTime(maxTime, timeUnit);
+            }
+
+            @Override
+            public void noCursorTimeout(boolean noCursorTimeout) {
+                documents.noCursorTimeout(noCursorTimeout);
+            }
+
+            @Override
+            public void skip(int skip) {
+                documents.skip(skip);
+            }
+
+            @Override
+            public void limit(int limit) {
+                documents.limit(limit);
+            }
+
+            @Override
+            public void sort(Bson sort) {
+                documents.sort(sort);
+            }
+        };
+    }
+
+    static Find of(FindPublisher<?> documents) {
+        return new Find() {
+            @Override
+            public void projection(Bson projection) {
+                documents.projection(projection);
+            }
+
+            @Override
+            public void batchSize(int batchSize) {
+                documents.batchSize(batchSize);
+            }
+
+            @Override
+            public void hint(Bson hint) {
+                documents.hint(hint);
+            }
+
+            @Override
+            public void hintString(String hint) {
+                documents.hintString(hint);
+            }
+
+            @Override
+            public void maxTime(long maxTime, TimeUnit timeUnit) {
+                documents.maxTime(maxTime, timeUnit);
+            }
+
+            @Override
+            public void noCursorTimeout(boolean noCursorTimeout) {
+                documents.noCursorTimeout(noCursorTimeout);
+            }
+
+            @Override
+            public void skip(int skip) {
+                documents.skip(skip);
+            }
+
+            @Override
+            public void limit(int limit) {
+                documents.limit(limit);
+            }
+
+            @Override
+            public void sort(Bson sort) {
+                documents.sort(sort);
+            }
+        };
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
+
+/**
+ * A MongoDB specialization of {@link DocumentQuery} that paginates by keyset, also known as seek pagination:
+ * instead of skipping the previous pages, the next page starts after the last sort key tuple seen, so every page
+ * costs the same regardless of its depth.
+ * The limit is the page size and the skip is ignored. The sort keys are the query sorts, followed by _id when it is
+ * not one of them, so the tuple is unique; they must be top level fields present at every document.
+ * The last key is updated as the entities of a page are consumed, then the query, or a new one created from
+ * {@link MongoDBKeysetQuery#of(DocumentQuery, List)}, selects the next page.
+ *
+ * @see MongoDBKeysetQuery#of(DocumentQuery)
+ * @see MongoDBKeysetQuery#of(DocumentQuery, List)
+ */
+public final class MongoDBKeysetQuery implements DocumentQuery {
+
+    private final DocumentQuery query;
+
+    private final List<Sort> sorts;
+
+    private List<Object> lastKey;
+
+    private MongoDBKeysetQuery(DocumentQuery query) {
+        if (query.getLimit() <= 0) {
+            throw new IllegalArgumentException("The keyset pagination requires the limit as the page size");
+        }
+        this.query = query;
+        List<Sort> keys = new ArrayList<>(query.getSorts());
+        if (keys.stream().map(Sort::getName).noneMatch(ID_FIELD::equals)) {
+            keys.add(Sort.asc(ID_FIELD));
+        }
+        this.sorts = Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * The values of the sort keys, in the {@link MongoDBKeysetQuery#getSorts()} order, of the last entity read
+     *
+     * @return the last key or empty before the first page
+     */
+    public Optional<List<Object>> getLastKey() {
+        synchronized (this) {
+            return Optional.ofNullable(lastKey).map(Collections::unmodifiableList);
+        }
+    }
+
+    /**
+     * The query paginated, e.g. a {@link MongoDBDocumentQuery} whose cursor options apply to every page
+     *
+     * @return the query
+     */
+    DocumentQuery getQuery() {
+        return query;
+    }
+
+    void setLastKey(DocumentEntity entity) {
+        List<Object> key = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            key.add(entity.find(sort.getName()).map(Document::get).orElse(null));
+        }
+        synchronized (this) {
+            this.lastKey = key;
+        }
+    }
+
+    @Override
+    public long getLimit() {
+        return query.getLimit();
+    }
+
+    @Override
+    public long getSkip() {
+        return 0L;
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    /**
+     * The query condition and, after the first page, the predicate that starts after the last key:
+     * (k1 &gt; v1) OR (k1 = v1 AND k2 &gt; v2) ..., with &lt; for the descending keys.
+     *
+     * @return the condition
+     */
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        final Optional<List<Object>> key = getLastKey();
+        if (!key.isPresent()) {
+            return query.getCondition();
+        }
+        final DocumentCondition seek = seek(key.get());
+        return Optional.of(query.getCondition().map(c -> DocumentCondition.and(c, seek)).orElse(seek));
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return sorts;
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        final List<String> documents = query.getDocuments();
+        if (documents.isEmpty()) {
+            return documents;
+        }
+        List<String> projection = new ArrayList<>(documents);
+        sorts.stream().map(Sort::getName).filter(n -> !projection.contains(n)).forEach(projection::add);
+        return projection;
+    }
+
+    private DocumentCondition seek(List<Object> key) {
+        List<DocumentCondition> alternatives = new ArrayList<>(sorts.size());
+        for (int index = 0; index < sorts.size(); index++) {
+            List<DocumentCondition> conditions = new ArrayList<>(index + 1);
+            for (int previous = 0; previous < index; previous++) {
+                conditions.add(DocumentCondition.eq(Document.of(sorts.get(previous).getName(), key.get(previous))));
+            }
+            final Sort sort = sorts.get(index);
+            final Document document = Document.of(sort.getName(), key.get(index));
+            conditions.add(SortType.DESC.equals(sort.getType()) ? DocumentCondition.lt(document)
+                    : DocumentCondition.gt(document));
+            alternatives.add(conditions.size() == 1 ? conditions.get(0)
+                    : DocumentCondition.and(conditions.toArray(new DocumentCondition[0])));
+        }
+        return alternatives.size() == 1 ? alternatives.get(0)
+                : DocumentCondition.or(alternatives.toArray(new DocumentCondition[0]));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MongoDBKeysetQuery that = (MongoDBKeysetQuery) o;
+        return Objects.equals(query, that.query) &&
+                Objects.equals(getLastKey(), that.getLastKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, getLastKey());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("MongoDBKeysetQuery{");
+        sb.append("query=").append(query);
+        sb.append(", sorts=").append(sorts);
+        sb.append(", lastKey=").append(getLastKey().orElse(null));
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * returns a new instance of {@link MongoDBKeysetQuery} that starts at the first page
+     *
+     * @param query the {@link DocumentQuery}, its limit is the page size
+     * @return a new instance
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when the query has no limit
+     */
+    public static MongoDBKeysetQuery of(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required ");
+        return new MongoDBKeysetQuery(query);
+    }
+
+    /**
+     * returns a new instance of {@link MongoDBKeysetQuery} that starts after the key
+     *
+     * @param query   the {@link DocumentQuery}, its limit is the page size
+     * @param lastKey {@link MongoDBKeysetQuery#getLastKey()} of the previous page
+     * @return a new instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the query has no limit or the key size is not the number of sort keys
+     */
+    public static MongoDBKeysetQuery of(DocumentQuery query, List<Object> lastKey) {
+        Objects.requireNonNull(query, "query is required ");
+        Objects.requireNonNull(lastKey, "lastKey is required ");
+        MongoDBKeysetQuery keysetQuery = new MongoDBKeysetQuery(query);
+        if (lastKey.size() != keysetQuery.sorts.size()) {
+            throw new IllegalArgumentException("The last key must have a value per sort key: " + keysetQuery.sorts);
+        }
+        keysetQuery.lastKey = new ArrayList<>(lastKey);
+        return keysetQuery;
+    }
+}
@@ -14,56 +14,64 @@
  */
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.client.model.Sorts;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
 import jakarta.nosql.Value;
 import jakarta.nosql.document.DocumentEntity;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.Binary;
-import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 import static java.util.stream.StreamSupport.stream;
 
 final class MongoDBUtils {
     static final String ID_FIELD = "_id";
 
-    private static final Function<Object, String> KEY_DOCUMENT = d -> cast(d).getName();
-    private static final Function<Object, Object> VALUE_DOCUMENT = d -> MongoDBUtils.convert(cast(d).getValue());
-
     private MongoDBUtils() {
     }
 
-    static Document getDocument(DocumentEntity entity) {
-        Document document = new Document();
-        entity.getDocuments().stream().forEach(d -> document.append(d.getName(), convert(d.getValue())));
-        return document;
-    }
-
-    private static Object convert(Value value) {
-        Object val = ValueUtil.convert(value);
-        if (val instanceof jakarta.nosql.document.Document) {
-            jakarta.nosql.document.Document subDocument = (jakarta.nosql.document.Document) val;
-            Object converted = convert(subDocument.getValue());
-            return new Document(subDocument.getName(), converted);
-        }
-        if (isSudDocument(val)) {
-            return getMap(val);
+    /**
+     * Splits the entities in batches of the same collection, up to the batch size, keeping their order.
+     */
+    static List<List<DocumentEntity>> batches(Iterable<DocumentEntity> entities, int batchSize) {
+        List<List<DocumentEntity>> batches = new ArrayList<>();
+        List<DocumentEntity> batch = new ArrayList<>();
+        for (DocumentEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            if (!batch.isEmpty() && (batch.size() == batchSize
+                    || !batch.get(0).getName().equals(entity.getName()))) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+            batch.add(entity);
         }
-        if (isSudDocumentList(val)) {
-            return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
-                    .map(MongoDBUtils::getMap).collect(toList());
+        if (!batch.isEmpty()) {
+            batches.add(batch);
         }
-        return val;
+        return batches;
+    }
+
+    static Document getId(DocumentEntity entity) {
+        return entity.find(ID_FIELD)
+                .map(d -> new Document(d.getName(), d.getValue().get()))
+                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
+                        "the field `id` is required"));
     }
 
+    static Bson getSort(Sort sort) {
+        boolean isAscending = SortType.ASC.equals(sort.getType());
+        return isAscending ? Sorts.ascending(sort.getName()) : Sorts.descending(sort.getName());
+    }
 
     public static List<jakarta.nosql.document.Document> of(Map<String, ?> values) {
         Predicate<String> isNotNull = s -> values.get(s) != null;
@@ -101,23 +109,4 @@ final class MongoDBUtils {
                 stream(Iterable.class.cast(value).spliterator(), false)
                         .allMatch(Document.class::isInstance);
     }
-
-    private static Object getMap(Object val) {
-        return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
-                .collect(toMap(KEY_DOCUMENT, VALUE_DOCUMENT));
-    }
-
-    private static jakarta.nosql.document.Document cast(Object document) {
-        return jakarta.nosql.document.Document.class.cast(document);
-    }
-
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
 }
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * The minimal reactive streams operators the reactive manager needs, so it does not depend on a reactive library.
+ */
+final class Publishers {
+
+    private Publishers() {
+    }
+
+    /**
+     * Maps every element, the demand of the subscriber goes straight to the source.
+     */
+    static <T, R> Publisher<R> map(Publisher<T> source, Function<T, R> mapper) {
+        return subscriber -> source.subscribe(new MapSubscriber<>(subscriber, mapper));
+    }
+
+    /**
+     * Requests all the elements and completes with the last one, or with null when the source is empty.
+     */
+    static <T> CompletionStage<T> last(Publisher<T> source) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        source.subscribe(new Subscriber<T>() {
+
+            private T last;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T element) {
+                last = element;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(last);
+            }
+        });
+        return future;
+    }
+
+    private static final class MapSubscriber<T, R> implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super R> actual;
+
+        private final Function<T, R> mapper;
+
+        private Subscription upstream;
+
+        private boolean done;
+
+        private MapSubscriber(Subscriber<? super R> actual, Function<T, R> mapper) {
+            this.actual = actual;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            actual.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T element) {
+            if (done) {
+                return;
+            }
+            final R mapped;
+            try {
+                mapped = mapper.apply(element);
+            } catch (RuntimeException exp) {
+                upstream.cancel();
+                onError(exp);
+                return;
+            }
+            actual.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            actual.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
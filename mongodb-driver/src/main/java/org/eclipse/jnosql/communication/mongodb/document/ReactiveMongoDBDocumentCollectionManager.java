@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.getId;
+
+/**
+ * The mongodb implementation on top of the reactive streams driver, the counterpart of
+ * {@link MongoDBDocumentCollectionManager} that never blocks a thread: the select returns a {@link Publisher},
+ * whose subscriber demand drives the cursor batch size, and the writes return a {@link CompletionStage}.
+ * The entities are read and written by {@link DocumentEntityCodec} and the queries are converted by the same
+ * {@link MongoDBFind} as {@link MongoDBDocumentCollectionManager}, so both have the same semantics,
+ * including the cursor options of {@link MongoDBDocumentQuery}.
+ *
+ * @see MongoDBDocumentCollectionManagerFactory#getReactive(String)
+ */
+public class ReactiveMongoDBDocumentCollectionManager implements AutoCloseable {
+
+    private final MongoDatabase mongoDatabase;
+
+    private final int bulkBatchSize;
+
+    private final boolean bulkOrdered;
+
+    private final Map<String, MongoCollection<DocumentEntity>> collections = new ConcurrentHashMap<>();
+
+    ReactiveMongoDBDocumentCollectionManager(MongoDatabase mongoDatabase, int bulkBatchSize, boolean bulkOrdered) {
+        if (bulkBatchSize <= 0) {
+            throw new IllegalArgumentException("The bulk batch size must be positive: " + bulkBatchSize);
+        }
+        this.mongoDatabase = mongoDatabase;
+        this.bulkBatchSize = bulkBatchSize;
+        this.bulkOrdered = bulkOrdered;
+    }
+
+    /**
+     * Saves the entity, the generated _id is added to the entity
+     *
+     * @param entity the entity to be saved
+     * @return the entity saved
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<DocumentEntity> insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        //the codec adds the generated _id to the entity
+        return Publishers.last(getCollection(entity.getName()).insertOne(entity)).thenApply(r -> entity);
+    }
+
+    /**
+     * Saves the entities as insertMany in batches of the same collection, up to the bulk batch size, one batch
+     * after the other; the generated _ids are added to the entities
+     *
+     * @param entities the entities to be saved
+     * @return the entities saved
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> result = new ArrayList<>();
+        CompletionStage<?> stage = CompletableFuture.completedFuture(null);
+        for (List<DocumentEntity> batch : MongoDBUtils.batches(entities, bulkBatchSize)) {
+            MongoCollection<DocumentEntity> collection = getCollection(batch.get(0).getName());
+            stage = stage.thenCompose(r -> Publishers.last(collection.insertMany(batch,
+                    new InsertManyOptions().ordered(bulkOrdered))));
+            result.addAll(batch);
+        }
+        return stage.thenApply(r -> result);
+    }
+
+    /**
+     * Replaces the entity by its _id
+     *
+     * @param entity the entity to be updated
+     * @return the entity updated
+     * @throws NullPointerException          when entity is null
+     * @throws UnsupportedOperationException when the entity has no _id
+     */
+    public CompletionStage<DocumentEntity> update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Document id = getId(entity);
+        return Publishers.last(getCollection(entity.getName()).replaceOne(id, entity)).thenApply(r -> entity);
+    }
+
+    /**
+     * Deletes the entities matching the query
+     *
+     * @param query the query
+     * @return the number of the documents deleted
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(query.getDocumentCollection());
+        return Publishers.last(collection.deleteMany(MongoDBFind.filter(query))).thenApply(r -> r.getDeletedCount());
+    }
+
+    /**
+     * Finds the entities matching the query, the documents are fetched from the cursor as the subscriber requests
+     * them
+     *
+     * @param query the query
+     * @return the entities found
+     * @throws NullPointerException when query is null
+     */
+    public Publisher<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MongoCollection<DocumentEntity> collection = getCollection(query.getDocumentCollection());
+        MongoCollection<DocumentEntity> source = MongoDBFind.readPreference(query)
+                .map(collection::withReadPreference).orElse(collection);
+        FindPublisher<DocumentEntity> documents = source.find(MongoDBFind.filter(query));
+        MongoDBFind.configure(query, MongoDBFind.of(documents));
+        return Publishers.map(documents, MongoDBFind.onRead(query));
+    }
+
+    /**
+     * Counts the documents of a collection
+     *
+     * @param documentCollection the collection name
+     * @return the number of documents
+     * @throws NullPointerException when documentCollection is null
+     */
+    public CompletionStage<Long> count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
+        return Publishers.last(collection.countDocuments());
+    }
+
+    /**
+     * The collection whose codec reads and writes {@link DocumentEntity} straight from and to BSON.
+     */
+    private MongoCollection<DocumentEntity> getCollection(String collectionName) {
+        return collections.computeIfAbsent(collectionName, name ->
+                mongoDatabase.getCollection(name, DocumentEntity.class)
+                        .withCodecRegistry(DocumentEntityCodec.registry(name, mongoDatabase.getCodecRegistry())));
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    @Override
+    public String toString() {
+        return "ReactiveMongoDBDocumentCollectionManager{" +
+                "mongoDatabase=" + mongoDatabase.getName() +
+                ", bulkBatchSize=" + bulkBatchSize +
+                ", bulkOrdered=" + bulkOrdered +
+                '}';
+    }
+}
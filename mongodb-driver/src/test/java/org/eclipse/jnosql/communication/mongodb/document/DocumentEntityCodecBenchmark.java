@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DocumentEntityCodec} with the {@link MongoDBUtils} path, an intermediate
+ * {@link org.bson.Document} encoded by the driver codec, to write and read a {@link DocumentEntity} as BSON.
+ * It does not need a database, run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentEntityCodecBenchmark {
+
+    private static final CodecRegistry REGISTRY = MongoClientSettings.getDefaultCodecRegistry();
+
+    private static final Codec<org.bson.Document> DOCUMENT_CODEC = REGISTRY.get(org.bson.Document.class);
+
+    @Param({"FLAT", "NESTED", "ARRAYS"})
+    private Shape shape;
+
+    private DocumentEntityCodec codec;
+
+    private DocumentEntity entity;
+
+    private byte[] bson;
+
+    @Setup
+    public void setUp() {
+        codec = new DocumentEntityCodec("person", REGISTRY);
+        entity = shape.create();
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        bson = buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeWithCodec() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeWithDocument() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        DOCUMENT_CODEC.encode(new BsonBinaryWriter(buffer), MongoDBDocuments.getDocument(entity),
+                EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public DocumentEntity decodeWithCodec() {
+        return codec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build());
+    }
+
+    @Benchmark
+    public DocumentEntity decodeWithDocument() {
+        org.bson.Document document = DOCUMENT_CODEC.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)),
+                DecoderContext.builder().build());
+        return DocumentEntity.of("person", MongoDBUtils.of(document));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DocumentEntityCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    public enum Shape {
+        FLAT {
+            @Override
+            DocumentEntity create() {
+                DocumentEntity entity = DocumentEntity.of("person");
+                for (int index = 0; index < 20; index++) {
+                    entity.add(Document.of("field" + index, index % 2 == 0 ? "value" + index : index));
+                }
+                return entity;
+            }
+        },
+        NESTED {
+            @Override
+            DocumentEntity create() {
+                DocumentEntity entity = DocumentEntity.of("person");
+                entity.add(Document.of("name", "Ada"));
+                for (int index = 0; index < 5; index++) {
+                    entity.add(Document.of("address" + index, Arrays.asList(Document.of("street", "street" + index),
+                            Document.of("city", "London"), Document.of("number", index),
+                            Document.of("geo", Arrays.asList(Document.of("lat", 51.5), Document.of("lng", -0.1))))));
+                }
+                return entity;
+            }
+        },
+        ARRAYS {
+            @Override
+            DocumentEntity create() {
+                DocumentEntity entity = DocumentEntity.of("person");
+                List<Integer> numbers = new ArrayList<>();
+                List<List<Document>> phones = new ArrayList<>();
+                for (int index = 0; index < 100; index++) {
+                    numbers.add(index);
+                    phones.add(Arrays.asList(Document.of("type", "home"), Document.of("number", "n" + index)));
+                }
+                entity.add(Document.of("numbers", numbers));
+                entity.add(Document.of("phones", phones));
+                return entity;
+            }
+        };
+
+        abstract DocumentEntity create();
+    }
+}
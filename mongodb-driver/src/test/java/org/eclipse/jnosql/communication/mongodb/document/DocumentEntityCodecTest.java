@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DocumentEntityCodecTest {
+
+    private final DocumentEntityCodec codec = new DocumentEntityCodec("person",
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    @Test
+    public void shouldEncodeAsMongoDBDocuments() {
+        DocumentEntity entity = createEntity();
+        BsonDocument expected = MongoDBDocuments.getDocument(entity)
+                .toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+        assertEquals(expected, encode(entity));
+    }
+
+    @Test
+    public void shouldDecode() {
+        DocumentEntity entity = createEntity();
+        DocumentEntity decoded = codec.decode(new BsonDocumentReader(encode(entity)), DecoderContext.builder().build());
+
+        assertEquals("person", decoded.getName());
+        assertEquals("Ada", decoded.find("name").get().get());
+        assertEquals(36, decoded.find("age").get().get());
+        List<Document> address = (List<Document>) decoded.find("address").get().get();
+        assertTrue(address.contains(Document.of("city", "London")));
+        List<List<Document>> phones = (List<List<Document>>) decoded.find("phones").get().get();
+        assertEquals(2, phones.size());
+        assertEquals(Arrays.asList("a", "b"), decoded.find("tags").get().get());
+        assertArrayEquals(new byte[]{1, 2}, (byte[]) decoded.find("data").get().get());
+    }
+
+    @Test
+    public void shouldGenerateId() {
+        DocumentEntity entity = createEntity();
+        assertFalse(codec.documentHasId(entity));
+        codec.generateIdIfAbsentFromDocument(entity);
+        assertTrue(codec.documentHasId(entity));
+        ObjectId id = entity.find("_id").get().get(ObjectId.class);
+        assertEquals(id, codec.getDocumentId(entity).asObjectId().getValue());
+    }
+
+    private BsonDocument encode(DocumentEntity entity) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        return document;
+    }
+
+    private static DocumentEntity createEntity() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("name", "Ada"));
+        entity.add(Document.of("age", 36));
+        entity.add(Document.of("address", Arrays.asList(Document.of("city", "London"),
+                Document.of("country", "UK"))));
+        entity.add(Document.of("phones", Arrays.asList(
+                Arrays.asList(Document.of("type", "home"), Document.of("number", "123")),
+                Arrays.asList(Document.of("type", "work"), Document.of("number", "456")))));
+        entity.add(Document.of("tags", Arrays.asList("a", "b")));
+        entity.add(Document.of("data", new byte[]{1, 2}));
+        return entity;
+    }
+}
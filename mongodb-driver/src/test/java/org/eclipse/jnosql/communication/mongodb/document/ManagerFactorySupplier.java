@@ -16,6 +16,8 @@
 package org.eclipse.jnosql.communication.mongodb.document;
 
 
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
 import jakarta.nosql.Settings;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
@@ -38,13 +40,21 @@ public enum ManagerFactorySupplier  {
     }
 
     public MongoDBDocumentCollectionManager get(String database) {
+        return getFactory().get(database);
+    }
+
+    public MongoDBDocumentCollectionManagerFactory getFactory() {
         Settings settings = getSettings();
         MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
-        MongoDBDocumentCollectionManagerFactory factory = configuration.get(settings);
-        return factory.get(database);
+        return configuration.get(settings);
     }
 
 
+    public MongoDatabase getDatabase(String database) {
+        String host = mongodb.getContainerIpAddress() + ":" + mongodb.getFirstMappedPort();
+        return MongoClients.create("mongodb://" + host).getDatabase(database);
+    }
+
     private Settings getSettings() {
         Map<String,Object> settings = new HashMap<>();
         String host = mongodb.getContainerIpAddress() + ":" + mongodb.getFirstMappedPort();
@@ -15,12 +15,17 @@
 
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.bson.conversions.Bson;
 import org.eclipse.jnosql.communication.document.Documents;
 import org.eclipse.jnosql.communication.mongodb.document.type.Money;
 import org.junit.jupiter.api.Assertions;
@@ -81,6 +86,116 @@ public class MongoDBDocumentCollectionManagerTest {
         assertEquals(newField, updated.find("newField").get());
     }
 
+    @Test
+    public void shouldInsertAndUpdateIterable() {
+        List<DocumentEntity> entities = asList(getEntity(), getEntity(), getEntity());
+        entityManager.insert(entities);
+        assertTrue(entities.stream().allMatch(e -> e.find("_id").isPresent()));
+
+        entities.forEach(e -> e.add(Documents.of("newField", "bulk")));
+        entityManager.update(entities);
+        for (DocumentEntity entity : entities) {
+            DocumentQuery query = select().from(COLLECTION_NAME)
+                    .where("_id").eq(entity.find("_id").get().get())
+                    .build();
+            DocumentEntity updated = entityManager.singleResult(query).get();
+            assertEquals("bulk", updated.find("newField").get().get());
+        }
+    }
+
+    @Test
+    public void shouldInsertIterableInBatches() {
+        MongoDBDocumentCollectionManager manager = new MongoDBDocumentCollectionManager(
+                ManagerFactorySupplier.INSTANCE.getDatabase("database"), 2, false);
+        List<DocumentEntity> entities = asList(getEntity(), getEntity(), getEntity(), getEntity(), getEntity());
+        manager.insert(entities);
+        assertEquals(5L, entities.stream().map(e -> e.find("_id").get().get()).distinct().count());
+    }
+
+    @Test
+    public void shouldSelectWithCursorOptions() {
+        entityManager.insert(asList(getEntity(), getEntity(), getEntity()));
+        DocumentQuery query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        MongoDBDocumentQuery mongoDBQuery = MongoDBDocumentQuery.builder(query)
+                .batchSize(1)
+                .hint("_id_")
+                .maxTime(Duration.ofSeconds(10))
+                .readPreference(ReadPreference.primaryPreferred())
+                .noCursorTimeout(true)
+                .build();
+        assertEquals(entityManager.select(query).count(), entityManager.select(mongoDBQuery).count());
+    }
+
+    @Test
+    public void shouldCountEstimated() {
+        entityManager.insert(getEntity());
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+        assertTrue(manager.count(COLLECTION_NAME, CountMode.ESTIMATED) > 0);
+        assertEquals(manager.count(COLLECTION_NAME), manager.count(COLLECTION_NAME, CountMode.EXACT));
+    }
+
+    @Test
+    public void shouldCountQuery() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("type").eq("V").build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("age").gt(22).and("type").eq("V").build();
+        assertEquals(2L, manager.count(query));
+        DocumentQuery noMatch = select().from(COLLECTION_NAME).where("type").eq("NONE").build();
+        assertEquals(0L, manager.count(noMatch));
+    }
+
+    @Test
+    public void shouldAggregate() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("type").eq("V").build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+
+        List<Bson> pipeline = asList(Aggregates.match(Filters.eq("type", "V")),
+                Aggregates.group("$location", Accumulators.sum("total", 1)));
+        Map<Object, Object> totals = manager.aggregate(COLLECTION_NAME, pipeline)
+                .collect(Collectors.toMap(e -> e.find("_id").get().get(), e -> e.find("total").get().get()));
+        assertEquals(3, totals.values().stream().mapToInt(Integer.class::cast).sum());
+    }
+
+    @Test
+    public void shouldPaginateByKeyset() {
+        DocumentDeleteQuery deleteQuery = delete().from("keyset").build();
+        entityManager.delete(deleteQuery);
+        for (int index = 0; index < 10; index++) {
+            DocumentEntity entity = DocumentEntity.of("keyset");
+            entity.add(Document.of("group", index % 3));
+            entity.add(Document.of("index", index));
+            entityManager.insert(entity);
+        }
+
+        DocumentQuery query = select().from("keyset").orderBy("group").desc().limit(4).build();
+        MongoDBKeysetQuery keysetQuery = MongoDBKeysetQuery.of(query);
+        List<DocumentEntity> firstPage = entityManager.select(keysetQuery).collect(Collectors.toList());
+        assertEquals(4, firstPage.size());
+        List<Object> lastKey = keysetQuery.getLastKey().get();
+        assertEquals(asList(firstPage.get(3).find("group").get().get(), firstPage.get(3).find("_id").get().get()),
+                lastKey);
+
+        List<Object> indexes = new ArrayList<>();
+        firstPage.forEach(e -> indexes.add(e.find("index").get().get()));
+        List<DocumentEntity> page;
+        do {
+            page = entityManager.select(keysetQuery).collect(Collectors.toList());
+            page.forEach(e -> indexes.add(e.find("index").get().get()));
+        } while (page.size() == 4);
+        assertEquals(10, indexes.size());
+        assertEquals(10L, indexes.stream().distinct().count());
+
+        List<DocumentEntity> resumed = entityManager.select(MongoDBKeysetQuery.of(query, lastKey))
+                .collect(Collectors.toList());
+        assertEquals(indexes.subList(4, 8), resumed.stream().map(e -> e.find("index").get().get())
+                .collect(Collectors.toList()));
+    }
+
     @Test
     public void shouldRemoveEntity() {
         DocumentEntity documentEntity = entityManager.insert(getEntity());
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.Document;
+import org.eclipse.jnosql.communication.driver.ValueUtil;
+
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * The conversion of a {@link DocumentEntity} to a BSON {@link Document} used before {@link DocumentEntityCodec},
+ * the reference the codec is checked and measured against.
+ */
+final class MongoDBDocuments {
+
+    private static final Function<Object, String> KEY_DOCUMENT = d -> cast(d).getName();
+    private static final Function<Object, Object> VALUE_DOCUMENT = d -> convert(cast(d).getValue());
+
+    private MongoDBDocuments() {
+    }
+
+    static Document getDocument(DocumentEntity entity) {
+        Document document = new Document();
+        entity.getDocuments().forEach(d -> document.append(d.getName(), convert(d.getValue())));
+        return document;
+    }
+
+    private static Object convert(Value value) {
+        Object val = ValueUtil.convert(value);
+        if (val instanceof jakarta.nosql.document.Document) {
+            jakarta.nosql.document.Document subDocument = (jakarta.nosql.document.Document) val;
+            Object converted = convert(subDocument.getValue());
+            return new Document(subDocument.getName(), converted);
+        }
+        if (isSudDocument(val)) {
+            return getMap(val);
+        }
+        if (isSudDocumentList(val)) {
+            return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
+                    .map(MongoDBDocuments::getMap).collect(toList());
+        }
+        return val;
+    }
+
+    private static Object getMap(Object val) {
+        return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
+                .collect(toMap(KEY_DOCUMENT, VALUE_DOCUMENT));
+    }
+
+    private static jakarta.nosql.document.Document cast(Object document) {
+        return jakarta.nosql.document.Document.class.cast(document);
+    }
+
+    private static boolean isSudDocument(Object value) {
+        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
+                allMatch(jakarta.nosql.document.Document.class::isInstance);
+    }
+
+    private static boolean isSudDocumentList(Object value) {
+        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
+                allMatch(d -> d instanceof Iterable && isSudDocument(d));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Indexes;
+import jakarta.nosql.document.DocumentQuery;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static jakarta.nosql.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MongoDBFindTest {
+
+    @Test
+    public void shouldKeepTheOptionsOfTheQueryWrappedByTheKeyset() {
+        Bson hint = Indexes.ascending("name");
+        DocumentQuery query = MongoDBDocumentQuery.builder(select().from("person").limit(10).build())
+                .batchSize(5)
+                .hint(hint)
+                .maxTime(Duration.ofSeconds(2))
+                .readPreference(ReadPreference.secondaryPreferred())
+                .noCursorTimeout(true)
+                .build();
+        MongoDBKeysetQuery keysetQuery = MongoDBKeysetQuery.of(query);
+
+        assertEquals(ReadPreference.secondaryPreferred(), MongoDBFind.readPreference(keysetQuery).get());
+        RecordingFind find = new RecordingFind();
+        MongoDBFind.configure(keysetQuery, find);
+        assertEquals(5, find.batchSize);
+        assertEquals(hint, find.hint);
+        assertEquals(2_000L, find.maxTime);
+        assertTrue(find.noCursorTimeout);
+        assertEquals(10, find.limit);
+    }
+
+    private static final class RecordingFind implements MongoDBFind.Find {
+
+        private int batchSize;
+
+        private Bson hint;
+
+        private long maxTime;
+
+        private boolean noCursorTimeout;
+
+        private int limit;
+
+        @Override
+        public void projection(Bson projection) {
+        }
+
+        @Override
+        public void batchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void hint(Bson hint) {
+            this.hint = hint;
+        }
+
+        @Override
+        public void hintString(String hint) {
+        }
+
+        @Override
+        public void maxTime(long maxTime, TimeUnit timeUnit) {
+            this.maxTime = timeUnit.toMillis(maxTime);
+        }
+
+        @Override
+        public void noCursorTimeout(boolean noCursorTimeout) {
+            this.noCursorTimeout = noCursorTimeout;
+        }
+
+        @Override
+        public void skip(int skip) {
+        }
+
+        @Override
+        public void limit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void sort(Bson sort) {
+        }
+    }
+}
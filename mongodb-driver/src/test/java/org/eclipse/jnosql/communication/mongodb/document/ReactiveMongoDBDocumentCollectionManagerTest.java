@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static jakarta.nosql.document.DocumentDeleteQuery.delete;
+import static jakarta.nosql.document.DocumentQuery.select;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReactiveMongoDBDocumentCollectionManagerTest {
+
+    private static final String COLLECTION_NAME = "reactive";
+
+    private static ReactiveMongoDBDocumentCollectionManager entityManager;
+
+    @BeforeAll
+    public static void setUp() {
+        entityManager = ManagerFactorySupplier.INSTANCE.getFactory().getReactive("database");
+    }
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        DocumentDeleteQuery query = delete().from(COLLECTION_NAME).build();
+        get(entityManager.delete(query));
+    }
+
+    @Test
+    public void shouldInsert() throws Exception {
+        DocumentEntity entity = get(entityManager.insert(getEntity("Poliana", 20)));
+        assertTrue(entity.find("_id").isPresent());
+    }
+
+    @Test
+    public void shouldUpdate() throws Exception {
+        DocumentEntity entity = get(entityManager.insert(getEntity("Poliana", 20)));
+        entity.add(Document.of("age", 21));
+        get(entityManager.update(entity));
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("_id").eq(entity.find("_id").get().get()).build();
+        List<DocumentEntity> entities = collect(entityManager.select(query));
+        assertEquals(1, entities.size());
+        assertEquals(21, entities.get(0).find("age").get().get(Integer.class));
+    }
+
+    @Test
+    public void shouldSelectOneByOne() throws Exception {
+        Iterable<DocumentEntity> entities = get(entityManager.insert(asList(getEntity("Lucas", 22),
+                getEntity("Otavio", 25), getEntity("Luna", 23))));
+        entities.forEach(e -> assertTrue(e.find("_id").isPresent()));
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("age").gt(22).build();
+        assertEquals(2, collect(entityManager.select(query)).size());
+        assertEquals(3L, get(entityManager.count(COLLECTION_NAME)));
+    }
+
+    @Test
+    public void shouldInsertEntitiesOfManyCollections() throws Exception {
+        String otherCollection = COLLECTION_NAME + "_other";
+        get(entityManager.delete(delete().from(otherCollection).build()));
+        DocumentEntity other = DocumentEntity.of(otherCollection);
+        other.add(Document.of("name", "Ada"));
+
+        Iterable<DocumentEntity> entities = get(entityManager.insert(asList(getEntity("Lucas", 22), other,
+                getEntity("Luna", 23))));
+        entities.forEach(e -> assertTrue(e.find("_id").isPresent()));
+        assertEquals(2L, get(entityManager.count(COLLECTION_NAME)));
+        assertEquals(1L, get(entityManager.count(otherCollection)));
+    }
+
+    @Test
+    public void shouldDelete() throws Exception {
+        get(entityManager.insert(getEntity("Lucas", 22)));
+        DocumentDeleteQuery query = delete().from(COLLECTION_NAME).where("name").eq("Lucas").build();
+        assertEquals(1L, get(entityManager.delete(query)));
+        assertEquals(0L, get(entityManager.count(COLLECTION_NAME)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> entityManager.insert((DocumentEntity) null));
+        assertThrows(NullPointerException.class, () -> entityManager.select(null));
+        assertThrows(NullPointerException.class, () -> entityManager.count(null));
+    }
+
+    private static DocumentEntity getEntity(String name, int age) {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
+        entity.add(Document.of("name", name));
+        entity.add(Document.of("age", age));
+        return entity;
+    }
+
+    private static <T> T get(CompletionStage<T> stage) throws Exception {
+        return stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static List<DocumentEntity> collect(Publisher<DocumentEntity> publisher) throws Exception {
+        CompletableFuture<List<DocumentEntity>> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<DocumentEntity>() {
+
+            private final List<DocumentEntity> entities = new ArrayList<>();
+
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(DocumentEntity entity) {
+                entities.add(entity);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(entities);
+            }
+        });
+        return get(future);
+    }
+}
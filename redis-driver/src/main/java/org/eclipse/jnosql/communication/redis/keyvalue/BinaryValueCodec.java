@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.TypeSupplier;
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+
+import javax.json.bind.Jsonb;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes a one byte tag followed by the value: the integral numbers as zigzag variable length integers, the floating
+ * point numbers with their fixed size, the text as UTF-8 and any other type as JSON-B.
+ */
+final class BinaryValueCodec implements RedisValueCodec {
+
+    static final BinaryValueCodec INSTANCE = new BinaryValueCodec();
+
+    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+
+    private static final byte STRING = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte FLOAT = 4;
+    private static final byte SHORT = 5;
+    private static final byte BYTE = 6;
+    private static final byte BOOLEAN = 7;
+    private static final byte BYTES = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte BIG_INTEGER = 10;
+    private static final byte CHARACTER = 11;
+    private static final byte JSON = 12;
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        PRIMITIVES.put(int.class, Integer.class);
+        PRIMITIVES.put(long.class, Long.class);
+        PRIMITIVES.put(double.class, Double.class);
+        PRIMITIVES.put(float.class, Float.class);
+        PRIMITIVES.put(short.class, Short.class);
+        PRIMITIVES.put(byte.class, Byte.class);
+        PRIMITIVES.put(boolean.class, Boolean.class);
+        PRIMITIVES.put(char.class, Character.class);
+    }
+
+    private BinaryValueCodec() {
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        requireNonNull(value, "value is required");
+        if (value instanceof String) {
+            return tagged(STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            return varint(INTEGER, (Integer) value);
+        } else if (value instanceof Long) {
+            return varint(LONG, (Long) value);
+        } else if (value instanceof Short) {
+            return varint(SHORT, (Short) value);
+        } else if (value instanceof Byte) {
+            return new byte[]{BYTE, (Byte) value};
+        } else if (value instanceof Double) {
+            return ByteBuffer.allocate(9).put(DOUBLE).putDouble((Double) value).array();
+        } else if (value instanceof Float) {
+            return ByteBuffer.allocate(5).put(FLOAT).putFloat((Float) value).array();
+        } else if (value instanceof Boolean) {
+            return new byte[]{BOOLEAN, (byte) ((Boolean) value ? 1 : 0)};
+        } else if (value instanceof Character) {
+            return varint(CHARACTER, (Character) value);
+        } else if (value instanceof byte[]) {
+            return tagged(BYTES, (byte[]) value);
+        } else if (value instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) value;
+            final byte[] unscaled = decimal.unscaledValue().toByteArray();
+            return ByteBuffer.allocate(5 + unscaled.length).put(BIG_DECIMAL).putInt(decimal.scale())
+                    .put(unscaled).array();
+        } else if (value instanceof BigInteger) {
+            return tagged(BIG_INTEGER, ((BigInteger) value).toByteArray());
+        }
+        return tagged(JSON, JSONB.toJson(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Object decode(byte[] value) {
+        requireNonNull(value, "value is required");
+        if (value.length == 0) {
+            throw new IllegalArgumentException("The binary value has no type tag");
+        }
+        switch (value[0]) {
+            case STRING:
+                return new String(value, 1, value.length - 1, StandardCharsets.UTF_8);
+            case INTEGER:
+                return (int) readVarint(value);
+            case LONG:
+                return readVarint(value);
+            case SHORT:
+                return (short) readVarint(value);
+            case BYTE:
+                return value[1];
+            case DOUBLE:
+                return ByteBuffer.wrap(value, 1, 8).getDouble();
+            case FLOAT:
+                return ByteBuffer.wrap(value, 1, 4).getFloat();
+            case BOOLEAN:
+                return value[1] != 0;
+            case CHARACTER:
+                return (char) readVarint(value);
+            case BYTES:
+                return Arrays.copyOfRange(value, 1, value.length);
+            case BIG_DECIMAL:
+                final ByteBuffer buffer = ByteBuffer.wrap(value, 1, value.length - 1);
+                final int scale = buffer.getInt();
+                return new BigDecimal(new BigInteger(Arrays.copyOfRange(value, 5, value.length)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(Arrays.copyOfRange(value, 1, value.length));
+            case JSON:
+                return new String(value, 1, value.length - 1, StandardCharsets.UTF_8);
+            default:
+                throw new IllegalArgumentException("Unknown binary value type tag: " + value[0]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T decode(byte[] value, Class<T> type) {
+        requireNonNull(value, "value is required");
+        requireNonNull(type, "type is required");
+        if (value.length > 0 && value[0] == JSON) {
+            return JSONB.fromJson(new String(value, 1, value.length - 1, StandardCharsets.UTF_8), type);
+        }
+        final Object decoded = decode(value);
+        final Class<?> boxed = PRIMITIVES.getOrDefault(type, type);
+        if (boxed.isInstance(decoded)) {
+            return (T) decoded;
+        }
+        return Value.of(decoded).get(type);
+    }
+
+    @Override
+    public <T> T decode(byte[] value, TypeSupplier<T> type) {
+        requireNonNull(value, "value is required");
+        requireNonNull(type, "type is required");
+        if (value.length > 0 && value[0] == JSON) {
+            return JSONB.fromJson(new String(value, 1, value.length - 1, StandardCharsets.UTF_8), type.get());
+        }
+        return Value.of(decode(value)).get(type);
+    }
+
+    private static byte[] tagged(byte tag, byte[] bytes) {
+        final byte[] value = new byte[bytes.length + 1];
+        value[0] = tag;
+        System.arraycopy(bytes, 0, value, 1, bytes.length);
+        return value;
+    }
+
+    private static byte[] varint(byte tag, long number) {
+        final byte[] buffer = new byte[11];
+        buffer[0] = tag;
+        long zigzag = (number << 1) ^ (number >> 63);
+        int index = 1;
+        while ((zigzag & ~0x7FL) != 0L) {
+            buffer[index++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[index++] = (byte) zigzag;
+        return Arrays.copyOf(buffer, index);
+    }
+
+    private static long readVarint(byte[] value) {
+        long zigzag = 0L;
+        int shift = 0;
+        for (int index = 1; index < value.length; index++) {
+            final byte current = value[index];
+            zigzag |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    @Override
+    public String toString() {
+        return "binary";
+    }
+}
@@ -14,8 +14,6 @@
  */
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import redis.clients.jedis.Jedis;
-
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
@@ -32,17 +30,17 @@ class DefaultCounter implements Counter {
 
     private final String key;
 
-    private Jedis jedis;
+    private final RedisConnections connections;
 
-    DefaultCounter(String key, Jedis jedis) {
+    DefaultCounter(String key, RedisConnections connections) {
         this.key = key;
-        this.jedis = jedis;
+        this.connections = connections;
     }
 
 
     @Override
     public Number get() {
-        return Optional.ofNullable(jedis.get(key))
+        return Optional.ofNullable(connections.apply(jedis -> jedis.get(key)))
                 .filter(IS_NOT_EMPTY)
                 .map(Double::valueOf)
                 .orElse(0D);
@@ -56,7 +54,7 @@ class DefaultCounter implements Counter {
     @Override
     public Number increment(Number value) throws NullPointerException {
         Objects.requireNonNull(value, "value is required");
-        return jedis.incrByFloat(key, value.doubleValue());
+        return connections.apply(jedis -> jedis.incrByFloat(key, value.doubleValue()));
     }
 
     @Override
@@ -67,23 +65,23 @@ class DefaultCounter implements Counter {
     @Override
     public Number decrement(Number value) {
         Objects.requireNonNull(value, "value is required");
-        return jedis.incrByFloat(key, -value.doubleValue());
+        return connections.apply(jedis -> jedis.incrByFloat(key, -value.doubleValue()));
     }
 
     @Override
     public void delete() {
-        jedis.del(key);
+        connections.accept(jedis -> jedis.del(key));
     }
 
     @Override
     public void expire(Duration ttl) throws NullPointerException {
         Objects.requireNonNull(ttl, "ttl is required");
-        jedis.expire(key, (int) ttl.getSeconds());
+        connections.accept(jedis -> jedis.expire(key, (int) ttl.getSeconds()));
     }
 
     @Override
     public void persist() {
-        jedis.persist(key);
+        connections.accept(jedis -> jedis.persist(key));
     }
 
     @Override
@@ -14,85 +14,130 @@
  */
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import redis.clients.jedis.JedisPool;
 
-import javax.json.bind.Jsonb;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
 class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
 
-    private static final Jsonb JSON = JsonbSupplier.getInstance().get();
+    private final RedisConnections connections;
 
-    private final JedisPool jedisPool;
+    private final int batchSize;
+
+    private final NearCacheSettings nearCacheSettings;
+
+    private final RedisValueCodec codec;
+
+    private final Map<String, RedisValueCodec> bucketCodecs;
+
+    private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
 
     DefaultRedisBucketManagerFactory(JedisPool jedisPool) {
-        this.jedisPool = jedisPool;
+        this(jedisPool, RedisBucketManager.DEFAULT_BATCH_SIZE, NearCacheSettings.DISABLED, RedisValueCodec.json(),
+                Collections.emptyMap());
+    }
+
+    DefaultRedisBucketManagerFactory(JedisPool jedisPool, int batchSize, NearCacheSettings nearCacheSettings,
+                                     RedisValueCodec codec, Map<String, RedisValueCodec> bucketCodecs) {
+        this.connections = new RedisConnections(jedisPool);
+        this.batchSize = batchSize;
+        this.nearCacheSettings = requireNonNull(nearCacheSettings, "nearCacheSettings is required");
+        this.codec = requireNonNull(codec, "codec is required");
+        this.bucketCodecs = requireNonNull(bucketCodecs, "bucketCodecs is required");
     }
 
 
     @Override
     public RedisBucketManager getBucketManager(String bucketName) {
         requireNonNull(bucketName, "bucket name is required");
+        return getBucketManager(bucketName, getCodec(bucketName));
+    }
+
+    @Override
+    public RedisBucketManager getBucketManager(String bucketName, RedisValueCodec codec) {
+        requireNonNull(bucketName, "bucket name is required");
+        requireNonNull(codec, "codec is required");
+
+        NearCache nearCache = null;
+        if (nearCacheSettings.isEnabled()) {
+            nearCache = nearCaches.computeIfAbsent(bucketName,
+                    b -> NearCache.of(nearCacheSettings, connections, b));
+        }
+        return new RedisBucketManager(bucketName, codec, connections, batchSize, nearCache);
+    }
 
-        return new RedisBucketManager(bucketName, JSON, jedisPool.getResource());
+    RedisValueCodec getCodec(String bucketName) {
+        return bucketCodecs.getOrDefault(bucketName, codec);
     }
 
     @Override
     public <T> List<T> getList(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisList<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisList<>(connections, getCodec(bucketName), clazz, bucketName, batchSize);
     }
 
     @Override
     public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisSet<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisSet<>(connections, getCodec(bucketName), clazz, bucketName, batchSize);
     }
 
     @Override
     public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisQueue<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisQueue<>(connections, getCodec(bucketName), clazz, bucketName, batchSize);
     }
 
     @Override
     public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(valueValue, "Class type is required");
-        return new RedisMap<>(jedisPool.getResource(), keyValue, valueValue, bucketName);
+        return new RedisMap<>(connections, getCodec(bucketName), keyValue, valueValue, bucketName, batchSize);
     }
 
     @Override
     public SortedSet getSortedSet(String key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        return new DefaultSortedSet(jedisPool.getResource(), key);
+        return new DefaultSortedSet(connections, key);
     }
 
     @Override
     public Counter getCounter(String key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        return new DefaultCounter(key, jedisPool.getResource());
+        return new DefaultCounter(key, connections);
     }
 
 
+    @Override
+    public RedisPoolMetrics getPoolMetrics() {
+        return connections.getMetrics();
+    }
+
     @Override
     public void close() {
-        jedisPool.close();
+        nearCaches.values().forEach(NearCache::close);
+        nearCaches.clear();
+        connections.close();
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("RedisBucketManagerFactory{");
-        sb.append("jedisPool=").append(jedisPool);
+        sb.append("connections=").append(connections);
+        sb.append(", batchSize=").append(batchSize);
+        sb.append(", nearCache=").append(nearCacheSettings);
+        sb.append(", codec=").append(codec);
+        sb.append(", bucketCodecs=").append(bucketCodecs);
         sb.append('}');
         return sb.toString();
     }
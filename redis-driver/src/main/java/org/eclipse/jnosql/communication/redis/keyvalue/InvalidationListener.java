@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a {@link NearCache} coherent with Redis client-side caching. One connection subscribes to the
+ * invalidation channel and another one turns CLIENT TRACKING on in broadcasting mode, for the keys of the bucket,
+ * redirecting the messages to the first one. Both connections are taken from the pool for the listener lifetime
+ * and destroyed when it stops, so the tracking state never goes back to the pool.
+ * <p>While the connection is lost the cache is deactivated, and it comes back empty on reconnection.
+ * When the server does not support tracking, the cache stays with the TTL only, while any other error replied to
+ * the tracking commands disables it.</p>
+ */
+final class InvalidationListener implements Runnable {
+
+    private static final Logger LOGGER = Logger.getLogger(InvalidationListener.class.getName());
+
+    static final String CHANNEL = "__redis__:invalidate";
+
+    private static final String MESSAGE = "message";
+
+    private static final long RECONNECT_DELAY = TimeUnit.SECONDS.toMillis(1L);
+
+    private final NearCache cache;
+
+    private final JedisPool pool;
+
+    private final String prefix;
+
+    private volatile boolean running = true;
+
+    private volatile Jedis subscriber;
+
+    private InvalidationListener(NearCache cache, JedisPool pool, String prefix) {
+        this.cache = cache;
+        this.pool = pool;
+        this.prefix = prefix;
+    }
+
+    static InvalidationListener start(NearCache cache, JedisPool pool, String prefix) {
+        InvalidationListener listener = new InvalidationListener(cache, pool, prefix);
+        Thread thread = new Thread(listener, "jnosql-redis-invalidation-" + prefix);
+        thread.setDaemon(true);
+        thread.start();
+        return listener;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (JedisDataException exp) {
+                running = false;
+                if (isTrackingUnsupported(exp)) {
+                    LOGGER.log(Level.WARNING, "Redis does not support client tracking, the near cache of "
+                            + prefix + " uses the TTL only", exp);
+                    cache.activate();
+                } else {
+                    LOGGER.log(Level.SEVERE, "Redis refused the client tracking, the near cache of "
+                            + prefix + " is disabled", exp);
+                }
+            } catch (RuntimeException exp) {
+                cache.deactivate();
+                if (running) {
+                    LOGGER.log(Level.WARNING, "The invalidation connection of the near cache of " + prefix
+                            + " was lost, reconnecting", exp);
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void listen() {
+        Jedis tracker = null;
+        try {
+            subscriber = pool.getResource();
+            final Long id = (Long) subscriber.sendCommand(Protocol.Command.CLIENT, "ID");
+            final Client client = subscriber.getClient();
+            client.sendCommand(Protocol.Command.SUBSCRIBE, CHANNEL);
+            client.setTimeoutInfinite();
+            client.getRawObjectMultiBulkReply();
+
+            tracker = pool.getResource();
+            tracker.sendCommand(Protocol.Command.CLIENT, "TRACKING", "ON", "REDIRECT", String.valueOf(id),
+                    "BCAST", "PREFIX", prefix);
+            cache.activate();
+            while (running) {
+                onReply(client.getRawObjectMultiBulkReply());
+            }
+        } finally {
+            cache.deactivate();
+            destroy(tracker);
+            destroy(subscriber);
+            subscriber = null;
+        }
+    }
+
+    /**
+     * Only a server that does not know CLIENT TRACKING, or CLIENT ID that is a syntax error before Redis 5, makes
+     * the TTL enough; an error such as NOAUTH, an ACL denial or OOM leaves the cache disabled, since nobody would
+     * tell it about the changes.
+     */
+    static boolean isTrackingUnsupported(JedisDataException exp) {
+        final String message = exp.getMessage();
+        if (message == null) {
+            return false;
+        }
+        final String error = message.toLowerCase(Locale.ENGLISH);
+        return error.startsWith("err unknown command") || error.startsWith("err unknown subcommand")
+                || error.startsWith("err syntax error, try client");
+    }
+
+    private void onReply(List<Object> reply) {
+        if (reply.size() < 3 || !MESSAGE.equals(SafeEncoder.encode((byte[]) reply.get(0)))) {
+            return;
+        }
+        final Object keys = reply.get(2);
+        if (keys == null) {
+            cache.invalidateAll();
+        } else if (keys instanceof byte[]) {
+            cache.onInvalidation(SafeEncoder.encode((byte[]) keys));
+        } else if (keys instanceof List) {
+            for (Object key : (List<?>) keys) {
+                cache.onInvalidation(SafeEncoder.encode((byte[]) key));
+            }
+        }
+    }
+
+    private void destroy(Jedis jedis) {
+        if (jedis != null) {
+            pool.returnBrokenResource(jedis);
+        }
+    }
+
+    private void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY);
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    void close() {
+        running = false;
+        final Jedis current = subscriber;
+        if (current != null) {
+            current.getClient().disconnect();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InvalidationListener{" +
+                "prefix='" + prefix + '\'' +
+                ", running=" + running +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.TypeSupplier;
+import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+
+import javax.json.bind.Jsonb;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNull;
+
+final class JsonValueCodec implements RedisValueCodec {
+
+    static final JsonValueCodec INSTANCE = new JsonValueCodec();
+
+    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+
+    private JsonValueCodec() {
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        requireNonNull(value, "value is required");
+        return JSONB.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object decode(byte[] value) {
+        requireNonNull(value, "value is required");
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <T> T decode(byte[] value, Class<T> type) {
+        requireNonNull(value, "value is required");
+        requireNonNull(type, "type is required");
+        return JSONB.fromJson(new String(value, StandardCharsets.UTF_8), type);
+    }
+
+    @Override
+    public <T> T decode(byte[] value, TypeSupplier<T> type) {
+        requireNonNull(value, "value is required");
+        requireNonNull(type, "type is required");
+        return JSONB.fromJson(new String(value, StandardCharsets.UTF_8), type.get());
+    }
+
+    @Override
+    public String toString() {
+        return "json";
+    }
+}
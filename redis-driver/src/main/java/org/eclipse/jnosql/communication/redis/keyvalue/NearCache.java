@@ -0,0 +1,307 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded cache of the values read by a {@link RedisBucketManager}, keyed by the Redis key.
+ * <p>A read that misses takes the {@link #stamp(String)} of the key before going to Redis and the value is only
+ * kept when no invalidation of a key of the same stripe happened meanwhile, so a value changed during the read
+ * never stays at the cache, while the writes of the other keys seldom drop a fill.</p>
+ * <p>It keeps the raw bytes, so the managers of a bucket share it whatever their {@link RedisValueCodec}.</p>
+ * <p>When it is not active, e.g. the invalidation connection is lost, it neither answers nor keeps values.</p>
+ */
+final class NearCache {
+
+    private final int maximumSize;
+
+    private final long ttl;
+
+    private final Eviction eviction;
+
+    private static final int STRIPES = 64;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    private final NearCacheMetrics metrics = new NearCacheMetrics();
+
+    private volatile boolean active;
+
+    private volatile InvalidationListener listener;
+
+    NearCache(NearCacheSettings settings) {
+        this.maximumSize = settings.getMaximumSize();
+        this.ttl = settings.getTtl().toNanos();
+        this.eviction = NearCachePolicy.LFU.equals(settings.getPolicy()) ? new Lfu() : new Lru();
+        this.active = NearCacheMode.TTL.equals(settings.getMode());
+    }
+
+    static NearCache of(NearCacheSettings settings, RedisConnections connections, String nameSpace) {
+        NearCache cache = new NearCache(settings);
+        if (NearCacheMode.TRACKING.equals(settings.getMode())) {
+            cache.listener = InvalidationListener.start(cache, connections.getPool(),
+                    RedisUtils.createNameSpacePrefix(nameSpace));
+        }
+        return cache;
+    }
+
+    NearCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the cached value or null
+     */
+    byte[] get(String key) {
+        if (!active) {
+            metrics.onMiss();
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() <= 0L) {
+                remove(key);
+                metrics.onExpiration();
+                entry = null;
+            }
+            if (entry == null) {
+                metrics.onMiss();
+                return null;
+            }
+            eviction.onAccess(key);
+            metrics.onHit();
+            return entry.value;
+        }
+    }
+
+    long stamp(String key) {
+        return stamps.get(stripe(key));
+    }
+
+    void put(String key, byte[] value, long stamp) {
+        if (!active) {
+            return;
+        }
+        synchronized (entries) {
+            if (stamp != stamps.get(stripe(key))) {
+                return;
+            }
+            final Entry entry = new Entry(value, System.nanoTime() + ttl);
+            if (entries.containsKey(key)) {
+                entries.put(key, entry);
+                eviction.onAccess(key);
+                return;
+            }
+            if (entries.size() >= maximumSize) {
+                remove(eviction.victim());
+                metrics.onEviction();
+            }
+            entries.put(key, entry);
+            eviction.onInsert(key);
+        }
+    }
+
+    /**
+     * Removes a key changed by this client.
+     */
+    void invalidate(String key) {
+        stamps.incrementAndGet(stripe(key));
+        synchronized (entries) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Removes a key from an invalidation message.
+     */
+    void onInvalidation(String key) {
+        metrics.onInvalidation();
+        invalidate(key);
+    }
+
+    void invalidateAll() {
+        for (int index = 0; index < STRIPES; index++) {
+            stamps.incrementAndGet(index);
+        }
+        synchronized (entries) {
+            entries.clear();
+            eviction.clear();
+        }
+    }
+
+    void activate() {
+        invalidateAll();
+        active = true;
+    }
+
+    void deactivate() {
+        active = false;
+        invalidateAll();
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    void close() {
+        final InvalidationListener current = listener;
+        if (current != null) {
+            current.close();
+        }
+        deactivate();
+    }
+
+    private static int stripe(String key) {
+        final int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private void remove(String key) {
+        if (entries.remove(key) != null) {
+            eviction.onRemove(key);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NearCache{" +
+                "maximumSize=" + maximumSize +
+                ", size=" + size() +
+                ", eviction=" + eviction.getClass().getSimpleName() +
+                ", active=" + active +
+                ", metrics=" + metrics +
+                '}';
+    }
+
+    private static final class Entry {
+
+        private final byte[] value;
+
+        private final long expiresAt;
+
+        private Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * The eviction order, always called holding the entries lock.
+     */
+    private interface Eviction {
+
+        void onInsert(String key);
+
+        void onAccess(String key);
+
+        void onRemove(String key);
+
+        String victim();
+
+        void clear();
+    }
+
+    private static final class Lru implements Eviction {
+
+        private final LinkedHashSet<String> order = new LinkedHashSet<>();
+
+        @Override
+        public void onInsert(String key) {
+            order.add(key);
+        }
+
+        @Override
+        public void onAccess(String key) {
+            order.remove(key);
+            order.add(key);
+        }
+
+        @Override
+        public void onRemove(String key) {
+            order.remove(key);
+        }
+
+        @Override
+        public String victim() {
+            return order.iterator().next();
+        }
+
+        @Override
+        public void clear() {
+            order.clear();
+        }
+    }
+
+    private static final class Lfu implements Eviction {
+
+        private final Map<String, Long> frequencies = new HashMap<>();
+
+        private final TreeMap<Long, LinkedHashSet<String>> buckets = new TreeMap<>();
+
+        @Override
+        public void onInsert(String key) {
+            frequencies.put(key, 1L);
+            buckets.computeIfAbsent(1L, f -> new LinkedHashSet<>()).add(key);
+        }
+
+        @Override
+        public void onAccess(String key) {
+            final long frequency = frequencies.get(key);
+            removeFromBucket(key, frequency);
+            frequencies.put(key, frequency + 1);
+            buckets.computeIfAbsent(frequency + 1, f -> new LinkedHashSet<>()).add(key);
+        }
+
+        @Override
+        public void onRemove(String key) {
+            final Long frequency = frequencies.remove(key);
+            if (frequency != null) {
+                removeFromBucket(key, frequency);
+            }
+        }
+
+        @Override
+        public String victim() {
+            return buckets.firstEntry().getValue().iterator().next();
+        }
+
+        @Override
+        public void clear() {
+            frequencies.clear();
+            buckets.clear();
+        }
+
+        private void removeFromBucket(String key, long frequency) {
+            final LinkedHashSet<String> bucket = buckets.get(frequency);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                buckets.remove(frequency);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the near cache of a {@link RedisBucketManager}.
+ */
+public final class NearCacheMetrics {
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    NearCacheMetrics() {
+    }
+
+    void onHit() {
+        hits.increment();
+    }
+
+    void onMiss() {
+        misses.increment();
+    }
+
+    void onEviction() {
+        evictions.increment();
+    }
+
+    void onExpiration() {
+        expirations.increment();
+    }
+
+    void onInvalidation() {
+        invalidations.increment();
+    }
+
+    /**
+     * @return the number of the reads answered by the near cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of the reads sent to Redis
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the hits divided by the reads, or zero when there is no read
+     */
+    public double getHitRatio() {
+        final long hit = hits.sum();
+        final long total = hit + misses.sum();
+        if (total == 0L) {
+            return 0D;
+        }
+        return (double) hit / total;
+    }
+
+    /**
+     * @return the number of the entries removed to respect the maximum size
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of the entries removed because the TTL was reached
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * @return the number of the invalidation messages received from Redis
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheMetrics{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", hitRatio=" + getHitRatio() +
+                ", evictions=" + evictions +
+                ", expirations=" + expirations +
+                ", invalidations=" + invalidations +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+/**
+ * How the near cache of a {@link RedisBucketManager} stays coherent with the keys changed by other clients.
+ *
+ * @see RedisConfigurations#NEAR_CACHE_MODE
+ */
+public enum NearCacheMode {
+    /**
+     * Redis client-side caching: the server sends an invalidation message whenever a key of the bucket changes,
+     * through CLIENT TRACKING in broadcasting mode redirected to a subscribed connection. The entries still expire
+     * after the TTL. When the server does not support tracking, Redis 6 or later, the cache works as {@link #TTL}.
+     */
+    TRACKING,
+    /**
+     * The entries are only removed by the TTL, or when this client changes them, so a value changed by another
+     * client may be read until it expires.
+     */
+    TTL
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+/**
+ * The entry chosen to leave the near cache of a {@link RedisBucketManager} when it is full.
+ *
+ * @see RedisConfigurations#NEAR_CACHE_POLICY
+ */
+public enum NearCachePolicy {
+    /**
+     * Removes the least recently used entry.
+     */
+    LRU,
+    /**
+     * Removes the least frequently used entry, between the ones with the same frequency the oldest one.
+     */
+    LFU
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The near cache definition of a {@link RedisBucketManagerFactory}, a maximum size of zero disables it.
+ */
+final class NearCacheSettings {
+
+    static final NearCacheSettings DISABLED = new NearCacheSettings(0, NearCachePolicy.LRU, Duration.ZERO,
+            NearCacheMode.TTL);
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(1L);
+
+    private final int maximumSize;
+
+    private final NearCachePolicy policy;
+
+    private final Duration ttl;
+
+    private final NearCacheMode mode;
+
+    NearCacheSettings(int maximumSize, NearCachePolicy policy, Duration ttl, NearCacheMode mode) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The near cache size cannot be negative: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.policy = requireNonNull(policy, "policy is required");
+        this.ttl = requireNonNull(ttl, "ttl is required");
+        this.mode = requireNonNull(mode, "mode is required");
+        if (maximumSize > 0 && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("The near cache TTL must be positive: " + ttl);
+        }
+    }
+
+    boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    NearCachePolicy getPolicy() {
+        return policy;
+    }
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    NearCacheMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheSettings{" +
+                "maximumSize=" + maximumSize +
+                ", policy=" + policy +
+                ", ttl=" + ttl +
+                ", mode=" + mode +
+                '}';
+    }
+}
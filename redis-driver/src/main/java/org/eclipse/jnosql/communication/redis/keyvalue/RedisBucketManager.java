@@ -19,31 +19,76 @@ package org.eclipse.jnosql.communication.redis.keyvalue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.util.SafeEncoder;
 
-import javax.json.bind.Jsonb;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
-
-import static java.util.stream.Collectors.toList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
- * The redis implementation to {@link BucketManager}
+ * The redis implementation to {@link BucketManager}.
+ * The {@link Iterable} operations are sent as MGET, MSET and DEL with many keys, or as a pipeline when there is TTL,
+ * in chunks of up to the batch size keys.
+ * Each operation, or chunk, borrows a connection from the pool and returns it right after, so an instance is safe
+ * to share between threads and {@link #close()} has nothing to release.
+ * <p>The values are written as bytes by the {@link RedisValueCodec} of the bucket, JSON-B by default.</p>
+ * <p>When the near cache is enabled, the values read are kept at the client, see {@link NearCacheMode}, and the
+ * writes of this manager remove their keys from it.</p>
+ *
+ * @see RedisConfigurations#NEAR_CACHE_SIZE
+ * @see RedisConfigurations#VALUE_CODEC
  */
 public class RedisBucketManager implements BucketManager {
 
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+
     private final String nameSpace;
-    private final Jsonb jsonB;
+    private final RedisValueCodec codec;
+
+    private final RedisConnections connections;
+
+    private final int batchSize;
 
-    private final Jedis jedis;
+    private final NearCache nearCache;
 
-    RedisBucketManager(String nameSpace, Jsonb provider, Jedis jedis) {
+    RedisBucketManager(String nameSpace, RedisValueCodec codec, RedisConnections connections) {
+        this(nameSpace, codec, connections, DEFAULT_BATCH_SIZE, null);
+    }
+
+    RedisBucketManager(String nameSpace, RedisValueCodec codec, RedisConnections connections, int batchSize,
+                       NearCache nearCache) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
         this.nameSpace = nameSpace;
-        this.jsonB = provider;
-        this.jedis = jedis;
+        this.codec = Objects.requireNonNull(codec, "codec is required");
+        this.connections = connections;
+        this.batchSize = batchSize;
+        this.nearCache = nearCache;
+    }
+
+    /**
+     * Returns the codec of the values of this bucket
+     *
+     * @return the {@link RedisValueCodec} instance
+     */
+    public RedisValueCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the counters of the near cache, such as the hit ratio and the invalidations
+     *
+     * @return the {@link NearCacheMetrics} or {@link Optional#empty()} when the near cache is disabled
+     */
+    public Optional<NearCacheMetrics> getNearCacheMetrics() {
+        return Optional.ofNullable(nearCache).map(NearCache::getMetrics);
     }
 
     @Override
@@ -51,7 +96,9 @@ public class RedisBucketManager implements BucketManager {
         Objects.requireNonNull(value, "Value is required");
         Objects.requireNonNull(key, "key is required");
         String valideKey = RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace);
-        jedis.set(valideKey, jsonB.toJson(value));
+        byte[] bytes = codec.encode(value);
+        connections.accept(jedis -> jedis.set(SafeEncoder.encode(valideKey), bytes));
+        invalidate(valideKey);
     }
 
     @Override
@@ -61,53 +108,197 @@ public class RedisBucketManager implements BucketManager {
 
     @Override
     public void put(KeyValueEntity entity, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        put(entity);
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(entity.getValue(), "Value is required");
+        SetParams params = toParams(ttl);
         String valideKey = RedisUtils.createKeyWithNameSpace(entity.getKey().toString(), nameSpace);
-        jedis.expire(valideKey, (int) ttl.getSeconds());
+        byte[] bytes = codec.encode(entity.getValue());
+        connections.accept(jedis -> jedis.set(SafeEncoder.encode(valideKey), bytes, params));
+        invalidate(valideKey);
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        Objects.requireNonNull(entities, "entities is required");
+        chunks(entities, chunk -> {
+            String[] names = new String[chunk.size()];
+            byte[][] keysValues = new byte[chunk.size() * 2][];
+            for (int index = 0; index < names.length; index++) {
+                KeyValueEntity entity = chunk.get(index);
+                Objects.requireNonNull(entity.getValue(), "Value is required");
+                names[index] = RedisUtils.createKeyWithNameSpace(entity.getKey().toString(), nameSpace);
+                keysValues[index * 2] = SafeEncoder.encode(names[index]);
+                keysValues[index * 2 + 1] = codec.encode(entity.getValue());
+            }
+            connections.accept(jedis -> jedis.mset(keysValues));
+            for (String name : names) {
+                invalidate(name);
+            }
+        });
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
-        StreamSupport.stream(entities.spliterator(), false).map(KeyValueEntity::getKey)
-                .map(k -> RedisUtils.createKeyWithNameSpace(k.toString(), nameSpace))
-                .forEach(k -> jedis.expire(k, (int) ttl.getSeconds()));
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        SetParams params = toParams(ttl);
+        chunks(entities, chunk -> {
+            String[] names = toKeys(chunk.stream().map(KeyValueEntity::getKey).collect(Collectors.toList()));
+            //the whole chunk is encoded before the pipeline, closing the connection flushes the commands queued
+            byte[][] values = new byte[names.length][];
+            for (int index = 0; index < names.length; index++) {
+                KeyValueEntity entity = chunk.get(index);
+                Objects.requireNonNull(entity.getValue(), "Value is required");
+                values[index] = codec.encode(entity.getValue());
+            }
+            connections.accept(jedis -> {
+                Pipeline pipeline = jedis.pipelined();
+                for (int index = 0; index < names.length; index++) {
+                    pipeline.set(SafeEncoder.encode(names[index]), values[index], params);
+                }
+                pipeline.sync();
+            });
+            for (String name : names) {
+                invalidate(name);
+            }
+        });
+    }
+
+    /**
+     * The TTL is sent in milliseconds, Redis rejects an expire time of zero.
+     */
+    private static SetParams toParams(Duration ttl) {
+        if (ttl.isNegative() || ttl.toMillis() <= 0) {
+            throw new IllegalArgumentException("The ttl must be of at least one millisecond: " + ttl);
+        }
+        return SetParams.setParams().px(ttl.toMillis());
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
-        String value = jedis.get(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace));
-        if (value != null && !value.isEmpty()) {
-            return Optional.of(ValueJSON.of(value));
+        String valideKey = RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace);
+        if (nearCache == null) {
+            byte[] value = connections.apply(jedis -> jedis.get(SafeEncoder.encode(valideKey)));
+            if (value != null && value.length > 0) {
+                return Optional.of(RedisValue.of(value, codec));
+            }
+            return Optional.empty();
+        }
+        byte[] cached = nearCache.get(valideKey);
+        if (cached != null) {
+            return Optional.of(RedisValue.of(cached, codec));
+        }
+        long stamp = nearCache.stamp(valideKey);
+        byte[] value = connections.apply(jedis -> jedis.get(SafeEncoder.encode(valideKey)));
+        if (value != null && value.length > 0) {
+            nearCache.put(valideKey, value, stamp);
+            return Optional.of(RedisValue.of(value, codec));
         }
         return Optional.empty();
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> jedis.get(RedisUtils.createKeyWithNameSpace(k.toString(), nameSpace)))
-                .filter(value -> value != null && !value.isEmpty())
-                .map(ValueJSON::of).collect(toList());
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        if (nearCache == null) {
+            chunks(keys, chunk -> connections.apply(jedis -> jedis.mget(SafeEncoder.encodeMany(toKeys(chunk))))
+                    .stream()
+                    .filter(value -> value != null && value.length > 0)
+                    .map(value -> RedisValue.of(value, codec))
+                    .forEach(values::add));
+            return values;
+        }
+        chunks(keys, chunk -> getCached(toKeys(chunk), values));
+        return values;
+    }
+
+    /**
+     * Reads the keys from the near cache and sends a single MGET with the ones that missed, keeping the key order.
+     */
+    private void getCached(String[] names, List<Value> values) {
+        byte[][] found = new byte[names.length][];
+        long[] stamps = new long[names.length];
+        List<String> missed = new ArrayList<>();
+        for (int index = 0; index < names.length; index++) {
+            found[index] = nearCache.get(names[index]);
+            if (found[index] == null) {
+                stamps[index] = nearCache.stamp(names[index]);
+                missed.add(names[index]);
+            }
+        }
+        if (!missed.isEmpty()) {
+            List<byte[]> read = connections.apply(jedis -> jedis.mget(SafeEncoder.encodeMany(
+                    missed.toArray(new String[0]))));
+            int position = 0;
+            for (int index = 0; index < names.length; index++) {
+                if (found[index] != null) {
+                    continue;
+                }
+                byte[] value = read.get(position++);
+                if (value != null && value.length > 0) {
+                    found[index] = value;
+                    nearCache.put(names[index], value, stamps[index]);
+                }
+            }
+        }
+        for (byte[] value : found) {
+            if (value != null) {
+                values.add(RedisValue.of(value, codec));
+            }
+        }
     }
 
     @Override
     public <K> void delete(K key) {
-        jedis.del(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace));
+        String valideKey = RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace);
+        connections.accept(jedis -> jedis.del(valideKey));
+        invalidate(valideKey);
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        chunks(keys, chunk -> {
+            String[] names = toKeys(chunk);
+            connections.accept(jedis -> jedis.del(names));
+            for (String name : names) {
+                invalidate(name);
+            }
+        });
     }
 
     @Override
     public void close() {
-        jedis.close();
+    }
+
+    private void invalidate(String key) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private <K> String[] toKeys(List<K> keys) {
+        String[] names = new String[keys.size()];
+        for (int index = 0; index < names.length; index++) {
+            names[index] = RedisUtils.createKeyWithNameSpace(keys.get(index).toString(), nameSpace);
+        }
+        return names;
+    }
+
+    private <T> void chunks(Iterable<T> elements, Consumer<List<T>> consumer) {
+        List<T> chunk = new ArrayList<>(batchSize);
+        for (T element : elements) {
+            Objects.requireNonNull(element, "element is required");
+            chunk.add(element);
+            if (chunk.size() == batchSize) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
     }
 }
@@ -19,9 +19,23 @@ import jakarta.nosql.keyvalue.BucketManagerFactory;
 
 /**
  * The redis implementation to {@link BucketManagerFactory} where returns {@link RedisBucketManager}
+ * <p>The bucket managers and the structures borrow a connection from the pool for each operation and return it
+ * right after, thus they are thread-safe and can be shared as singletons.</p>
  */
 public interface RedisBucketManagerFactory extends BucketManagerFactory {
 
+    /**
+     * Creates a {@link RedisBucketManager} whose values are written and read by the codec instead of the one
+     * defined at the configuration. The same codec must be used by every manager of a bucket. The near cache of a
+     * bucket keeps the raw values, so it is shared by the managers of that bucket whatever their codec.
+     *
+     * @param bucketName the bucket name
+     * @param codec      the codec of the values
+     * @return the {@link RedisBucketManager} instance
+     * @throws NullPointerException when either bucketName or codec is null
+     * @see RedisConfigurations#VALUE_CODEC
+     */
+    RedisBucketManager getBucketManager(String bucketName, RedisValueCodec codec) throws NullPointerException;
 
     /**
      * Creates a {@link SortedSet} from key
@@ -40,4 +54,11 @@ public interface RedisBucketManagerFactory extends BucketManagerFactory {
      */
     Counter getCounter(String key) throws NullPointerException;
 
+    /**
+     * Returns the counters of the connections borrowed from the pool, such as the borrows and the wait time.
+     *
+     * @return the {@link RedisPoolMetrics} instance
+     */
+    RedisPoolMetrics getPoolMetrics();
+
 }
@@ -15,51 +15,87 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.SafeEncoder;
 
-import javax.json.bind.Jsonb;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
+/**
+ * The base of the Redis structures. The elements are read in chunks of up to the batch size, so iterating a
+ * structure borrows one connection per chunk rather than one per element, and {@link #addAll(Collection)} sends the
+ * elements with a single variadic command per chunk.
+ * <p>The elements are written by the {@link RedisValueCodec} of the bucket, but the {@link String} ones that are
+ * kept as UTF-8 whatever the codec is.</p>
+ */
 abstract class RedisCollection<T> implements Collection<T> {
 
-    protected static final  Jsonb JSONB = JsonbSupplier.getInstance().get();
-
     protected final Class<T> clazz;
 
     protected final String keyWithNameSpace;
 
-    protected final Jedis jedis;
+    protected final byte[] key;
 
-    protected final boolean isString;
+    protected final RedisValueCodec codec;
 
+    protected final RedisConnections connections;
 
+    protected final boolean isString;
 
-    RedisCollection(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
+    protected final int batchSize;
+
+    RedisCollection(RedisConnections connections, RedisValueCodec codec, Class<T> clazz, String keyWithNameSpace,
+                    int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
         this.clazz = clazz;
         this.keyWithNameSpace = keyWithNameSpace;
-        this.jedis = jedis;
+        this.key = SafeEncoder.encode(keyWithNameSpace);
+        this.codec = codec;
+        this.connections = connections;
         this.isString = String.class.equals(clazz);
+        this.batchSize = batchSize;
     }
 
     @Override
     public boolean addAll(Collection<? extends T> c) {
         Objects.requireNonNull(c);
+        List<byte[]> chunk = new ArrayList<>(batchSize);
         for (T bean : c) {
             if (bean != null) {
-                add(bean);
+                chunk.add(serialize(bean));
+            }
+            if (chunk.size() == batchSize) {
+                send(chunk);
+                chunk = new ArrayList<>(batchSize);
             }
         }
+        if (!chunk.isEmpty()) {
+            send(chunk);
+        }
         return true;
     }
 
+    private void send(List<byte[]> chunk) {
+        byte[][] values = chunk.toArray(new byte[0][]);
+        connections.accept(jedis -> add(jedis, values));
+    }
+
+    /**
+     * Adds the serialized values with a single command
+     */
+    protected abstract void add(Jedis jedis, byte[][] values);
+
     @Override
     public int size() {
-        return jedis.llen(keyWithNameSpace).intValue();
+        return connections.apply(jedis -> jedis.llen(key)).intValue();
     }
 
     @Override
@@ -74,7 +110,7 @@ abstract class RedisCollection<T> implements Collection<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return toArrayList().iterator();
+        return new RangeIterator();
     }
 
     @Override
@@ -135,9 +171,14 @@ abstract class RedisCollection<T> implements Collection<T> {
     }
 
     protected T remove(int index) {
-        String value = jedis.lindex(keyWithNameSpace, (long) index);
-        if (value != null && !value.isEmpty()) {
-            jedis.lrem(keyWithNameSpace, 1, value);
+        byte[] value = connections.apply(jedis -> {
+            byte[] element = jedis.lindex(key, (long) index);
+            if (element != null && element.length > 0) {
+                jedis.lrem(key, 1, element);
+            }
+            return element;
+        });
+        if (value != null && value.length > 0) {
             return serialize(value);
         }
         return null;
@@ -149,49 +190,42 @@ abstract class RedisCollection<T> implements Collection<T> {
             return -1;
         }
 
-        String value = serialize(o);
-        for (int index = 0; index < size(); index++) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
-                return index;
-            }
+        byte[] value = serialize(o);
+        Long index = connections.apply(jedis -> jedis.lpos(key, value));
+        if (index == null) {
+            return -1;
         }
-        return -1;
+        return index.intValue();
     }
 
 
     protected List<T> toArrayList() {
         List<T> list = new ArrayList<>();
-        for (int index = 0; index < size(); index++) {
-            T element = get(index);
-            if (element != null) {
-                list.add(element);
-            }
-        }
+        iterator().forEachRemaining(list::add);
         return list;
     }
 
     protected T get(int index) {
-        String value = jedis.lindex(keyWithNameSpace, index);
-        if (value == null || value.isEmpty()) {
+        byte[] value = connections.apply(jedis -> jedis.lindex(key, index));
+        if (value == null || value.length == 0) {
             return null;
         }
         return serialize(value);
     }
 
 
-    protected T serialize(String value) {
+    protected T serialize(byte[] value) {
         if(isString) {
-            return (T) value;
+            return (T) new String(value, StandardCharsets.UTF_8);
         }
-        return JSONB.fromJson(value,clazz);
+        return codec.decode(value, clazz);
     }
 
-    protected String serialize(Object value) {
+    protected byte[] serialize(Object value) {
         if(value instanceof String) {
-            return value.toString();
+            return value.toString().getBytes(StandardCharsets.UTF_8);
         }
-        return JSONB.toJson(value);
+        return codec.encode(value);
     }
 
 
@@ -213,4 +247,37 @@ abstract class RedisCollection<T> implements Collection<T> {
         return false;
     }
 
+    /**
+     * Reads the list with LRANGE, a chunk at a time, while it is iterated. It is weakly consistent: the elements
+     * added or removed by another client during the iteration may be seen or not.
+     */
+    private final class RangeIterator implements Iterator<T> {
+
+        private long start;
+
+        private Iterator<byte[]> chunk = Collections.emptyIterator();
+
+        private boolean last;
+
+        @Override
+        public boolean hasNext() {
+            while (!chunk.hasNext() && !last) {
+                final long end = start + batchSize - 1;
+                List<byte[]> values = connections.apply(jedis -> jedis.lrange(key, start, end));
+                start += values.size();
+                last = values.size() < batchSize;
+                chunk = values.iterator();
+            }
+            return chunk.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no element left at the Redis list");
+            }
+            return serialize(chunk.next());
+        }
+    }
+
 }
@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
 
+import jakarta.nosql.CommunicationException;
 import jakarta.nosql.Configurations;
 import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
@@ -24,6 +25,8 @@ import org.eclipse.jnosql.communication.driver.ConfigurationReader;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -42,6 +45,16 @@ import static java.util.Arrays.asList;
  * <p>redis.max.idle: The max idle {@link JedisPoolConfig}, the default value 10 </p>
  * <p>redis.min.idle: The min idle {@link JedisPoolConfig}, the default value 1 </p>
  * <p>redis.max.wait.millis: The max wait on millis on {@link JedisPoolConfig}, the default value 3000 </p>
+ * <p>redis.batch.size: The maximum number of keys sent by a multi key command or pipeline, the default value 1000</p>
+ * <p>redis.near.cache.size: The maximum number of values kept at the near cache of each bucket, the default value
+ * 0 disables it</p>
+ * <p>redis.near.cache.policy: The {@link NearCachePolicy} of the near cache, the default value LRU</p>
+ * <p>redis.near.cache.ttl.millis: The time on millis a value stays at the near cache, the default value 60000</p>
+ * <p>redis.near.cache.mode: The {@link NearCacheMode} of the near cache, the default value TRACKING. On TRACKING,
+ * each bucket with a near cache holds a thread and two connections of the pool until the factory is closed</p>
+ * <p>redis.value.codec: The {@link RedisValueCodec} of the values: json, string, binary or the name of a class with
+ * a public no-arg constructor, the default value json. It is defined per bucket with the bucket name as suffix,
+ * e.g. redis.value.codec.counters</p>
  */
 public final class RedisConfiguration implements KeyValueConfiguration {
 
@@ -54,6 +67,7 @@ public final class RedisConfiguration implements KeyValueConfiguration {
     private static final int DEFAULT_MAX_IDLE = 10;
     private static final int DEFAULT_MIN_IDLE = 1;
     private static final int DEFAULT_MAX_WAIT_MILLIS = 3000;
+    private static final String VALUE_CODEC_PREFIX = RedisConfigurations.VALUE_CODEC.get() + '.';
 
     /**
      * Creates a {@link RedisConfiguration} from map configuration
@@ -90,7 +104,57 @@ public final class RedisConfiguration implements KeyValueConfiguration {
 
         JedisPoolConfig poolConfig = getJedisPoolConfig(settings);
         JedisPool jedisPool = getJedisPool(settings, poolConfig);
-        return new DefaultRedisBucketManagerFactory(jedisPool);
+        int batchSize = settings.get(RedisConfigurations.BATCH_SIZE.get())
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(RedisBucketManager.DEFAULT_BATCH_SIZE);
+        RedisValueCodec codec = settings.get(RedisConfigurations.VALUE_CODEC.get())
+                .map(Object::toString).map(RedisConfiguration::getCodec)
+                .orElse(RedisValueCodec.json());
+        Map<String, RedisValueCodec> bucketCodecs = new HashMap<>();
+        settings.forEach((key, value) -> {
+            if (key.startsWith(VALUE_CODEC_PREFIX) && value != null) {
+                bucketCodecs.put(key.substring(VALUE_CODEC_PREFIX.length()), getCodec(value.toString()));
+            }
+        });
+        return new DefaultRedisBucketManagerFactory(jedisPool, batchSize, getNearCacheSettings(settings), codec,
+                bucketCodecs);
+    }
+
+    static RedisValueCodec getCodec(String codec) {
+        switch (codec.trim().toLowerCase()) {
+            case "json":
+                return RedisValueCodec.json();
+            case "string":
+                return RedisValueCodec.string();
+            case "binary":
+                return RedisValueCodec.binary();
+            default:
+                try {
+                    return Class.forName(codec.trim()).asSubclass(RedisValueCodec.class)
+                            .getConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException exp) {
+                    throw new CommunicationException("The Redis value codec is not valid: " + codec, exp);
+                }
+        }
+    }
+
+    private NearCacheSettings getNearCacheSettings(Settings settings) {
+        int size = settings.get(RedisConfigurations.NEAR_CACHE_SIZE.get())
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(0);
+        if (size == 0) {
+            return NearCacheSettings.DISABLED;
+        }
+        NearCachePolicy policy = settings.get(RedisConfigurations.NEAR_CACHE_POLICY.get())
+                .map(Object::toString).map(String::toUpperCase).map(NearCachePolicy::valueOf)
+                .orElse(NearCachePolicy.LRU);
+        Duration ttl = settings.get(RedisConfigurations.NEAR_CACHE_TTL.get())
+                .map(Object::toString).map(Long::parseLong).map(Duration::ofMillis)
+                .orElse(NearCacheSettings.DEFAULT_TTL);
+        NearCacheMode mode = settings.get(RedisConfigurations.NEAR_CACHE_MODE.get())
+                .map(Object::toString).map(String::toUpperCase).map(NearCacheMode::valueOf)
+                .orElse(NearCacheMode.TRACKING);
+        return new NearCacheSettings(size, policy, ttl, mode);
     }
 
 
@@ -27,7 +27,13 @@ public enum RedisConfigurations implements Supplier<String> {
     MAX_TOTAL("redis.max.total"),
     MAX_IDLE("redis.max.idle"),
     MIN_IDLE("redis.min.idle"),
-    MAX_WAIT_MILLIS("redis.max.wait.millis");
+    MAX_WAIT_MILLIS("redis.max.wait.millis"),
+    BATCH_SIZE("redis.batch.size"),
+    NEAR_CACHE_SIZE("redis.near.cache.size"),
+    NEAR_CACHE_POLICY("redis.near.cache.policy"),
+    NEAR_CACHE_TTL("redis.near.cache.ttl.millis"),
+    NEAR_CACHE_MODE("redis.near.cache.mode"),
+    VALUE_CODEC("redis.value.codec");
 
     private final String configuration;
 
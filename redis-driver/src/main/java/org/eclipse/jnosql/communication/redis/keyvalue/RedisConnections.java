@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs the Redis commands borrowing a {@link Jedis} from the {@link JedisPool} and returning it right after,
+ * so the bucket managers and the structures never hold a connection and are safe to share between threads.
+ * A function must not borrow another connection, a pool at its maximum would wait forever.
+ */
+final class RedisConnections {
+
+    private final JedisPool pool;
+
+    private final RedisPoolMetrics metrics;
+
+    RedisConnections(JedisPool pool) {
+        this.pool = requireNonNull(pool, "pool is required");
+        this.metrics = new RedisPoolMetrics(pool);
+    }
+
+    RedisPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    JedisPool getPool() {
+        return pool;
+    }
+
+    <T> T apply(Function<Jedis, T> function) {
+        try (Jedis jedis = borrow()) {
+            return function.apply(jedis);
+        }
+    }
+
+    void accept(Consumer<Jedis> consumer) {
+        try (Jedis jedis = borrow()) {
+            consumer.accept(jedis);
+        }
+    }
+
+    void close() {
+        pool.close();
+    }
+
+    private Jedis borrow() {
+        final long start = System.nanoTime();
+        try {
+            final Jedis jedis = pool.getResource();
+            metrics.onBorrow(System.nanoTime() - start);
+            return jedis;
+        } catch (RuntimeException exp) {
+            metrics.onFailure(System.nanoTime() - start);
+            throw exp;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RedisConnections{" +
+                "pool=" + pool +
+                ", metrics=" + metrics +
+                '}';
+    }
+}
@@ -17,10 +17,10 @@ package org.eclipse.jnosql.communication.redis.keyvalue;
 
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.ListPosition;
+import redis.clients.jedis.params.LPosParams;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
@@ -28,13 +28,14 @@ import java.util.Objects;
 class RedisList<T> extends RedisCollection<T> implements List<T> {
 
 
-    RedisList(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisList(RedisConnections connections, RedisValueCodec codec, Class<T> clazz, String keyWithNameSpace,
+              int batchSize) {
+        super(connections, codec, clazz, keyWithNameSpace, batchSize);
     }
 
     @Override
     public int size() {
-        return jedis.llen(keyWithNameSpace).intValue();
+        return connections.apply(jedis -> jedis.llen(key)).intValue();
     }
 
     @Override
@@ -53,33 +54,20 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
         return toArrayList().listIterator(index);
     }
 
-    @Override
-    public Iterator<T> iterator() {
-        return toArrayList().iterator();
-    }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        int index = size();
-        if (index == 0) {
-            if(isString) {
-                jedis.lpush(keyWithNameSpace, e.toString());
-            } else {
-                jedis.lpush(keyWithNameSpace, JSONB.toJson(e));
-            }
-        } else {
-            String previewValue = jedis.lindex(keyWithNameSpace, index - 1);
-            if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue, e.toString());
-            }else {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue,
-                        JSONB.toJson(e));
-            }
-        }
+        byte[] value = serialize(e);
+        connections.accept(jedis -> jedis.rpush(key, value));
         return true;
     }
 
+    @Override
+    protected void add(Jedis jedis, byte[][] values) {
+        jedis.rpush(key, values);
+    }
+
     @Override
     public boolean addAll(int index, Collection<? extends T> elements) {
         Objects.requireNonNull(elements);
@@ -91,7 +79,7 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        connections.accept(jedis -> jedis.del(key));
     }
 
     @Override
@@ -102,11 +90,8 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     @Override
     public T set(int index, T element) {
         Objects.requireNonNull(element);
-        if(isString) {
-            jedis.lset(keyWithNameSpace, index, element.toString());
-        } else {
-            jedis.lset(keyWithNameSpace, index, JSONB.toJson(element));
-        }
+        byte[] value = serialize(element);
+        connections.accept(jedis -> jedis.lset(key, index, value));
 
         return element;
     }
@@ -114,15 +99,16 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     @Override
     public void add(int index, T element) {
         Objects.requireNonNull(element);
-        String previewValue = jedis.lindex(keyWithNameSpace, index);
-        if (previewValue != null && !previewValue.isEmpty()) {
-            if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, element.toString());
-            } else {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, JSONB.toJson(element));
+        byte[] value = serialize(element);
+        boolean inserted = connections.apply(jedis -> {
+            byte[] previewValue = jedis.lindex(key, index);
+            if (previewValue != null && previewValue.length > 0) {
+                jedis.linsert(key, ListPosition.BEFORE, previewValue, value);
+                return true;
             }
-
-        } else {
+            return false;
+        });
+        if (!inserted) {
             add(element);
         }
 
@@ -142,26 +128,21 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     public int lastIndexOf(Object o) {
         Objects.requireNonNull(o);
 
-        String value = serialize(o);
-        for (int index = size(); index > 0; --index) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
-                return index;
-            }
+        byte[] value = serialize(o);
+        Long index = connections.apply(jedis -> jedis.lpos(key, value,
+                LPosParams.lPosParams().rank(-1)));
+        if (index == null) {
+            return -1;
         }
-        return -1;
+        return index.intValue();
     }
 
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
         List<T> subList = new ArrayList<>();
-        List<String> elements = jedis.lrange(keyWithNameSpace, fromIndex, toIndex);
-        for (String element : elements) {
-            if(isString) {
-                subList.add((T) element);
-            } else {
-                subList.add(JSONB.fromJson(element, clazz));
-            }
+        List<byte[]> elements = connections.apply(jedis -> jedis.lrange(key, fromIndex, toIndex));
+        for (byte[] element : elements) {
+            subList.add(serialize(element));
         }
         return subList;
     }
@@ -15,50 +15,70 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
-import redis.clients.jedis.Jedis;
-
-import javax.json.bind.Jsonb;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * The Redis hash as a {@link Map}. The size is HLEN, {@link #putAll(Map)} sends HMSET in chunks of up to the batch
+ * size and the {@link #keySet()}, {@link #values()} and {@link #entrySet()} are views that read the hash with HSCAN
+ * while they are iterated; removing through them, or their iterators, sends HDEL.
+ * <p>The fields and values are written by the {@link RedisValueCodec} of the bucket, but the {@link String} ones
+ * that are kept as UTF-8 whatever the codec is.</p>
+ */
 class RedisMap<K, V> implements Map<K, V> {
 
-
-    protected static final Jsonb JSONB = JsonbSupplier.getInstance().get();
-
     private final Class<K> keyClass;
 
     private final Class<V> valueClass;
 
     private final String nameSpace;
 
-    private final Jedis jedis;
+    private final byte[] key;
+
+    private final RedisValueCodec codec;
+
+    private final RedisConnections connections;
 
     private final boolean isKeyString;
 
     private final boolean isValueString;
 
+    private final int batchSize;
 
-    RedisMap(Jedis jedis, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace) {
+    RedisMap(RedisConnections connections, RedisValueCodec codec, Class<K> keyValue, Class<V> valueClass,
+             String keyWithNameSpace, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
         this.keyClass = keyValue;
         this.valueClass = valueClass;
         this.nameSpace = keyWithNameSpace;
-        this.jedis = jedis;
+        this.key = SafeEncoder.encode(keyWithNameSpace);
+        this.codec = codec;
+        this.connections = connections;
         this.isKeyString = String.class.equals(keyClass);
         this.isValueString = String.class.equals(valueClass);
     }
 
     @Override
     public int size() {
-        return jedis.hgetAll(nameSpace).size();
+        return connections.apply(jedis -> jedis.hlen(key)).intValue();
     }
 
     @Override
@@ -69,82 +89,59 @@ class RedisMap<K, V> implements Map<K, V> {
     @Override
     public boolean containsKey(Object key) {
         requireNonNull(key, "key is required");
-        if (isKeyString) {
-            return jedis.hexists(nameSpace, key.toString());
-        } else {
-            return jedis.hexists(nameSpace, JSONB.toJson(key));
-        }
+        byte[] field = toField(key);
+        return connections.apply(jedis -> jedis.hexists(this.key, field));
     }
 
     @Override
     public boolean containsValue(Object value) {
         requireNonNull(value);
-        String valueString;
-        if (isValueString) {
-            valueString = value.toString();
-        } else {
-            valueString = JSONB.toJson(value);
+        byte[] bytes = toField(value, isValueString);
+        Iterator<byte[]> values = scan(Entry::getValue);
+        while (values.hasNext()) {
+            if (Arrays.equals(bytes, values.next())) {
+                return true;
+            }
         }
-
-        Map<String, String> map = createRedisMap();
-        return map.containsValue(valueString);
+        return false;
     }
 
     @Override
     public V get(Object key) {
         requireNonNull(key, "Key is required");
 
-        String value = jedis.hget(nameSpace, JSONB.toJson(key));
-        if (isKeyString) {
-            value = jedis.hget(nameSpace, key.toString());
-        } else {
-            value = jedis.hget(nameSpace, JSONB.toJson(key));
-        }
-        if (value != null && !value.isEmpty()) {
-            if (isValueString) {
-                return (V) value;
-            } else {
-                return JSONB.fromJson(value, valueClass);
-            }
-
+        byte[] field = toField(key);
+        byte[] value = connections.apply(jedis -> jedis.hget(this.key, field));
+        if (value != null && value.length > 0) {
+            return toValue(value);
         }
         return null;
     }
 
     @Override
     public V put(K key, V value) {
+        requireNonNull(key, "Key is required");
         requireNonNull(value, "Value is required");
-        requireNonNull(value, "Key is required");
-
-        String keyJson;
-        if(isKeyString) {
-            keyJson = key.toString();
-        } else {
-             keyJson = JSONB.toJson(key);
-        }
-        String valueJSON;
 
-        if(isValueString) {
-            valueJSON = value.toString();
-        } else {
-            valueJSON = JSONB.toJson(value);
-        }
-        jedis.hset(nameSpace, keyJson, valueJSON);
+        byte[] field = toField(key);
+        byte[] bytes = toField(value, isValueString);
+        connections.accept(jedis -> jedis.hset(this.key, field, bytes));
         return value;
     }
 
     @Override
     public V remove(Object key) {
         requireNonNull(key, "Key is required");
-        V value = get(key);
-        if (value != null) {
-            if (isKeyString) {
-                jedis.hdel(nameSpace, key.toString());
-            } else {
-                jedis.hdel(nameSpace, JSONB.toJson(key));
+        byte[] field = toField(key);
+        byte[] value = connections.apply(jedis -> {
+            byte[] current = jedis.hget(this.key, field);
+            if (current != null) {
+                jedis.hdel(this.key, field);
             }
-
-            return value;
+            return current;
+        });
+        if (value != null && value.length > 0) {
+            return toValue(value);
         }
         return null;
     }
@@ -152,61 +149,161 @@ class RedisMap<K, V> implements Map<K, V> {
     @Override
     public void putAll(Map<? extends K, ? extends V> map) {
         requireNonNull(map, "map is required");
-
-        for (K key : map.keySet()) {
-            V value = map.get(key);
-            if (value != null) {
-                put(key, value);
+        Map<byte[], byte[]> hash = new HashMap<>();
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                hash.put(toField(entry.getKey()), toField(entry.getValue(), isValueString));
+            }
+            if (hash.size() == batchSize) {
+                Map<byte[], byte[]> chunk = hash;
+                connections.accept(jedis -> jedis.hmset(key, chunk));
+                hash = new HashMap<>();
             }
         }
+        if (!hash.isEmpty()) {
+            Map<byte[], byte[]> chunk = hash;
+            connections.accept(jedis -> jedis.hmset(key, chunk));
+        }
     }
 
     @Override
     public void clear() {
-        jedis.del(nameSpace);
+        connections.accept(jedis -> jedis.del(key));
     }
 
     @Override
     public Set<K> keySet() {
-        return createHashMap().keySet();
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return scan(e -> toKey(e.getKey()));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return RedisMap.this.containsKey(key);
+            }
+
+            @Override
+            public boolean remove(Object key) {
+                requireNonNull(key, "key is required");
+                byte[] field = toField(key);
+                return connections.apply(jedis -> jedis.hdel(RedisMap.this.key, field)) > 0;
+            }
+
+            @Override
+            public void clear() {
+                RedisMap.this.clear();
+            }
+        };
     }
 
     @Override
     public Collection<V> values() {
-        return createHashMap().values();
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return scan(e -> toValue(e.getValue()));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object value) {
+                return RedisMap.this.containsValue(value);
+            }
+
+            @Override
+            public void clear() {
+                RedisMap.this.clear();
+            }
+        };
     }
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return createHashMap().entrySet();
-    }
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return scan(e -> new AbstractMap.SimpleImmutableEntry<>(toKey(e.getKey()), toValue(e.getValue())));
+            }
 
-    private Map<String, String> createRedisMap() {
-        Map<String, String> map = jedis.hgetAll(nameSpace);
-        return map;
-    }
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
 
-    private Map<K, V> createHashMap() {
-        Map<K, V> values = new HashMap<>();
-        Map<String, String> redisMap = createRedisMap();
-        final Function<String, K> keyFunction = k -> {
-            if(isKeyString) {
-                return (K) k;
-            } else {
-                return JSONB.fromJson(k, keyClass);
+            @Override
+            public void clear() {
+                RedisMap.this.clear();
             }
         };
-        final Function<String, V> valueFunction = k -> {
-            if(isValueString) {
-                return (V) redisMap.get(k);
-            } else {
-                return JSONB.fromJson(redisMap.get(k), valueClass);
+    }
+
+    private <E> Iterator<E> scan(Function<Entry<byte[], byte[]>, E> mapper) {
+        ScanParams params = ScanIterator.params(batchSize);
+        Iterator<Entry<byte[], byte[]>> entries = new ScanIterator<>(connections,
+                (jedis, cursor) -> jedis.hscan(key, SafeEncoder.encode(cursor), params), Function.identity());
+        return new Iterator<E>() {
+
+            private byte[] field;
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public E next() {
+                Entry<byte[], byte[]> entry = entries.next();
+                field = entry.getKey();
+                return mapper.apply(entry);
+            }
+
+            @Override
+            public void remove() {
+                if (field == null) {
+                    throw new IllegalStateException("There is no element to remove, call next first");
+                }
+                byte[] current = field;
+                field = null;
+                connections.accept(jedis -> jedis.hdel(key, current));
             }
         };
-        return redisMap.keySet().stream().collect(Collectors
-                .toMap(keyFunction, valueFunction));
     }
 
+    private byte[] toField(Object key) {
+        return toField(key, isKeyString);
+    }
+
+    private byte[] toField(Object value, boolean isString) {
+        if (isString) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return codec.encode(value);
+    }
+
+    private K toKey(byte[] field) {
+        if (isKeyString) {
+            return (K) new String(field, StandardCharsets.UTF_8);
+        }
+        return codec.decode(field, keyClass);
+    }
+
+    private V toValue(byte[] value) {
+        if (isValueString) {
+            return (V) new String(value, StandardCharsets.UTF_8);
+        }
+        return codec.decode(value, valueClass);
+    }
 
     @Override
     public String toString() {
@@ -214,8 +311,7 @@ class RedisMap<K, V> implements Map<K, V> {
         sb.append("keyClass=").append(keyClass);
         sb.append(", valueClass=").append(valueClass);
         sb.append(", nameSpace='").append(nameSpace).append('\'');
-        sb.append(", jedis=").append(jedis);
-        sb.append(", JsonB=").append(JSONB);
+        sb.append(", codec=").append(codec);
         sb.append('}');
         return sb.toString();
     }
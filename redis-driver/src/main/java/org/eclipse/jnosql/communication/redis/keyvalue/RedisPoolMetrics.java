@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import redis.clients.jedis.JedisPool;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the connections borrowed from the {@link JedisPool} of a {@link RedisBucketManagerFactory}.
+ * Every operation, or batch of operations, borrows one connection and returns it as soon as it finishes.
+ */
+public final class RedisPoolMetrics {
+
+    private final JedisPool pool;
+
+    private final LongAdder borrows = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder waitTime = new LongAdder();
+
+    private final LongAccumulator maxWaitTime = new LongAccumulator(Long::max, 0L);
+
+    RedisPoolMetrics(JedisPool pool) {
+        this.pool = pool;
+    }
+
+    void onBorrow(long nanos) {
+        this.borrows.increment();
+        this.waitTime.add(nanos);
+        this.maxWaitTime.accumulate(nanos);
+    }
+
+    void onFailure(long nanos) {
+        this.failures.increment();
+        this.maxWaitTime.accumulate(nanos);
+    }
+
+    /**
+     * @return the number of connections borrowed from the pool
+     */
+    public long getBorrows() {
+        return borrows.sum();
+    }
+
+    /**
+     * @return the number of times the pool could not give a connection, e.g. the max wait was reached
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the average time waiting for a connection from the pool
+     */
+    public Duration getAverageWaitTime() {
+        final long count = borrows.sum();
+        if (count == 0L) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(waitTime.sum() / count);
+    }
+
+    /**
+     * @return the highest time waiting for a connection from the pool
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitTime.get());
+    }
+
+    /**
+     * @return the number of connections currently borrowed
+     */
+    public int getActive() {
+        return pool.getNumActive();
+    }
+
+    /**
+     * @return the number of connections idle at the pool
+     */
+    public int getIdle() {
+        return pool.getNumIdle();
+    }
+
+    /**
+     * @return the number of threads waiting for a connection
+     */
+    public int getWaiters() {
+        return pool.getNumWaiters();
+    }
+
+    @Override
+    public String toString() {
+        return "RedisPoolMetrics{" +
+                "borrows=" + borrows +
+                ", failures=" + failures +
+                ", averageWaitTime=" + getAverageWaitTime() +
+                ", maxWaitTime=" + getMaxWaitTime() +
+                ", active=" + getActive() +
+                ", idle=" + getIdle() +
+                ", waiters=" + getWaiters() +
+                '}';
+    }
+}
@@ -23,26 +23,29 @@ import java.util.Queue;
 
 class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
-    RedisQueue(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisQueue(RedisConnections connections, RedisValueCodec codec, Class<T> clazz, String keyWithNameSpace,
+               int batchSize) {
+        super(connections, codec, clazz, keyWithNameSpace, batchSize);
     }
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        connections.accept(jedis -> jedis.del(key));
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        if(isString){
-            jedis.rpush(keyWithNameSpace, e.toString());
-        } else {
-            jedis.rpush(keyWithNameSpace, JSONB.toJson(e));
-        }
+        byte[] value = serialize(e);
+        connections.accept(jedis -> jedis.rpush(key, value));
         return true;
     }
 
+    @Override
+    protected void add(Jedis jedis, byte[][] values) {
+        jedis.rpush(key, values);
+    }
+
     @Override
     public boolean offer(T e) {
         return add(e);
@@ -59,14 +62,9 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
     @Override
     public T poll() {
-        String value = jedis.lpop(keyWithNameSpace);
-        if (value != null && !value.isEmpty()) {
-            if(isString){
-                return (T) value;
-            } else {
-                return JSONB.fromJson(value, clazz);
-            }
-
+        byte[] value = connections.apply(jedis -> jedis.lpop(key));
+        if (value != null && value.length > 0) {
+            return serialize(value);
         }
         return null;
     }
@@ -82,17 +80,17 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
     @Override
     public T peek() {
-        int index = size();
-        if (index == 0) {
+        byte[] value = connections.apply(jedis -> {
+            long index = jedis.llen(key);
+            if (index == 0) {
+                return null;
+            }
+            return jedis.lindex(key, index - 1);
+        });
+        if (value == null) {
             return null;
         }
-        if(isString) {
-            return (T) jedis.lindex(keyWithNameSpace, (long) index - 1);
-        } else {
-            return JSONB.fromJson(jedis.lindex(keyWithNameSpace, (long) index - 1), clazz);
-        }
-
-
+        return serialize(value);
     }
 
 }
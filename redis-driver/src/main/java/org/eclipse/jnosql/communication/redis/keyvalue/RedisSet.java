@@ -16,53 +16,67 @@
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.util.SafeEncoder;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * The Redis set, the membership and removal are SISMEMBER and SREM and the iteration reads the set with SSCAN
+ * in chunks of about the batch size.
+ */
 class RedisSet<T> extends RedisCollection<T> implements Set<T> {
 
-    RedisSet(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisSet(RedisConnections connections, RedisValueCodec codec, Class<T> clazz, String keyWithNameSpace,
+             int batchSize) {
+        super(connections, codec, clazz, keyWithNameSpace, batchSize);
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        if (isString) {
-            jedis.sadd(keyWithNameSpace, e.toString());
-        } else {
-            jedis.sadd(keyWithNameSpace, JSONB.toJson(e));
-        }
+        byte[] value = serialize(e);
+        connections.accept(jedis -> jedis.sadd(key, value));
         return true;
     }
 
+    @Override
+    protected void add(Jedis jedis, byte[][] values) {
+        jedis.sadd(key, values);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        ScanParams params = ScanIterator.params(batchSize);
+        return new ScanIterator<byte[], T>(connections,
+                (jedis, cursor) -> jedis.sscan(key, SafeEncoder.encode(cursor), params), this::serialize);
+    }
+
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        connections.accept(jedis -> jedis.del(key));
     }
 
     @Override
     public int size() {
-        return jedis.scard(keyWithNameSpace).intValue();
+        return connections.apply(jedis -> jedis.scard(key)).intValue();
     }
 
     @Override
-    protected int indexOf(Object o) {
+    public boolean contains(Object o) {
         Objects.requireNonNull(o);
-
-        String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
-        int index = 0;
-        for (String value : values) {
-            if (value.contains(find)) {
-                return index;
-            }
-            index++;
+        if (!clazz.isInstance(o)) {
+            return false;
         }
-        return -1;
+        byte[] value = serialize(o);
+        return connections.apply(jedis -> jedis.sismember(key, value));
+    }
+
+    @Override
+    protected int indexOf(Object o) {
+        throw new UnsupportedOperationException("Index is not supported on Redis Set");
     }
 
     @Override
@@ -75,30 +89,8 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
         if (!clazz.isInstance(o)) {
             throw new ClassCastException("The object required is " + clazz.getName());
         }
-        String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
-        for (String value : values) {
-            if (value.contains(find)) {
-                jedis.srem(keyWithNameSpace, value);
-                return true;
-            }
-        }
-        return false;
-    }
-
-    @Override
-    protected List<T> toArrayList() {
-        Set<String> redisValues = jedis.smembers(keyWithNameSpace);
-        List<T> list = new ArrayList<>();
-        for (String redisValue : redisValues) {
-            if (isString) {
-                list.add((T) redisValue);
-            } else {
-                list.add(JSONB.fromJson(redisValue, clazz));
-            }
-
-        }
-        return list;
+        byte[] value = serialize(o);
+        return connections.apply(jedis -> jedis.srem(key, value)) > 0;
     }
 
 }
@@ -22,7 +22,11 @@ abstract class RedisUtils {
         if (key == null || key.isEmpty()) {
             throw new IrregularKeyValue("Key in KeyvalueStructure cannont be empty");
         }
-        return nameSpace + ":" + key;
+        return createNameSpacePrefix(nameSpace) + key;
+    }
+
+    static String createNameSpacePrefix(String nameSpace) {
+        return nameSpace + ":";
     }
 
 }
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.TypeSupplier;
+import jakarta.nosql.Value;
+
+import java.util.Objects;
+
+/**
+ * A {@link Value} read from Redis, it keeps the bytes and converts them through the {@link RedisValueCodec}
+ * of the bucket on each get.
+ */
+final class RedisValue implements Value {
+
+    private final byte[] value;
+
+    private final RedisValueCodec codec;
+
+    private RedisValue(byte[] value, RedisValueCodec codec) {
+        this.value = value;
+        this.codec = codec;
+    }
+
+    static Value of(byte[] value, RedisValueCodec codec) {
+        Objects.requireNonNull(value, "value is required");
+        Objects.requireNonNull(codec, "codec is required");
+        return new RedisValue(value, codec);
+    }
+
+    @Override
+    public Object get() {
+        return codec.decode(value);
+    }
+
+    @Override
+    public <T> T get(Class<T> type) throws NullPointerException, UnsupportedOperationException {
+        Objects.requireNonNull(type, "type is required");
+        return codec.decode(value, type);
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> typeSupplier) throws NullPointerException, UnsupportedOperationException {
+        Objects.requireNonNull(typeSupplier, "typeSupplier is required");
+        return codec.decode(value, typeSupplier);
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isInstance(get());
+    }
+
+    @Override
+    public String toString() {
+        return "RedisValue{" +
+                "value=" + get() +
+                ", codec=" + codec +
+                '}';
+    }
+}
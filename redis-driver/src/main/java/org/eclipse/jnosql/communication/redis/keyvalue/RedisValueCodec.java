@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.TypeSupplier;
+
+/**
+ * Converts the values of a bucket to the bytes stored at Redis and back. The same codec must be used to read and
+ * write a bucket. An implementation must be thread-safe and have a public no-arg constructor to be defined by
+ * class name at {@link RedisConfigurations#VALUE_CODEC}.
+ * <p>The available implementations are {@link #json()}, the default, {@link #string()} and {@link #binary()}.</p>
+ */
+public interface RedisValueCodec {
+
+    /**
+     * Converts the value to bytes
+     *
+     * @param value the value
+     * @return the bytes
+     * @throws NullPointerException when value is null
+     */
+    byte[] encode(Object value) throws NullPointerException;
+
+    /**
+     * Converts the bytes to the value as it is stored, e.g. the JSON text for {@link #json()}
+     *
+     * @param value the bytes
+     * @return the value
+     * @throws NullPointerException when value is null
+     */
+    Object decode(byte[] value) throws NullPointerException;
+
+    /**
+     * Converts the bytes to an instance of type
+     *
+     * @param value the bytes
+     * @param type  the type
+     * @param <T>   the type
+     * @return the instance
+     * @throws NullPointerException when either value or type is null
+     */
+    <T> T decode(byte[] value, Class<T> type) throws NullPointerException;
+
+    /**
+     * Converts the bytes to an instance of a generic type
+     *
+     * @param value the bytes
+     * @param type  the type
+     * @param <T>   the type
+     * @return the instance
+     * @throws NullPointerException          when either value or type is null
+     * @throws UnsupportedOperationException when the codec does not support generic types
+     */
+    default <T> T decode(byte[] value, TypeSupplier<T> type) throws NullPointerException,
+            UnsupportedOperationException {
+        throw new UnsupportedOperationException("The codec " + getClass().getName()
+                + " does not support generic types");
+    }
+
+    /**
+     * The JSON-B codec, the values are the JSON text on UTF-8
+     *
+     * @return the JSON-B codec
+     */
+    static RedisValueCodec json() {
+        return JsonValueCodec.INSTANCE;
+    }
+
+    /**
+     * The string codec, the values are their {@link Object#toString()} on UTF-8, that are converted back through
+     * {@link jakarta.nosql.Value#get(Class)}. It fits the text and numeric values.
+     *
+     * @return the string codec
+     */
+    static RedisValueCodec string() {
+        return StringValueCodec.INSTANCE;
+    }
+
+    /**
+     * The compact binary codec, the strings, numbers, booleans and byte arrays are written after a one byte type tag,
+     * the integral numbers as variable length integers. Any other type is written as JSON-B after its tag.
+     *
+     * @return the binary codec
+     */
+    static RedisValueCodec binary() {
+        return BinaryValueCodec.INSTANCE;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Iterates a structure with a SCAN family command, such as SSCAN and HSCAN, borrowing one connection per call while
+ * it is consumed. It follows the SCAN guarantees: the elements that are there during the whole iteration are
+ * returned, but an element may be returned more than once when the structure changes meanwhile.
+ */
+final class ScanIterator<R, E> implements Iterator<E> {
+
+    private final RedisConnections connections;
+
+    private final BiFunction<Jedis, String, ScanResult<R>> scan;
+
+    private final Function<R, E> mapper;
+
+    private String cursor = ScanParams.SCAN_POINTER_START;
+
+    private Iterator<R> chunk = Collections.emptyIterator();
+
+    private boolean last;
+
+    ScanIterator(RedisConnections connections, BiFunction<Jedis, String, ScanResult<R>> scan,
+                 Function<R, E> mapper) {
+        this.connections = connections;
+        this.scan = scan;
+        this.mapper = mapper;
+    }
+
+    static ScanParams params(int count) {
+        return new ScanParams().count(count);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!chunk.hasNext() && !last) {
+            ScanResult<R> result = connections.apply(jedis -> scan.apply(jedis, cursor));
+            cursor = result.getCursor();
+            last = ScanParams.SCAN_POINTER_START.equals(cursor);
+            chunk = result.getResult().iterator();
+        }
+        return chunk.hasNext();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no element left at the Redis structure");
+        }
+        return mapper.apply(chunk.next());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.Value;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNull;
+
+final class StringValueCodec implements RedisValueCodec {
+
+    static final StringValueCodec INSTANCE = new StringValueCodec();
+
+    private StringValueCodec() {
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        requireNonNull(value, "value is required");
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object decode(byte[] value) {
+        requireNonNull(value, "value is required");
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T decode(byte[] value, Class<T> type) {
+        requireNonNull(value, "value is required");
+        requireNonNull(type, "type is required");
+        final String text = new String(value, StandardCharsets.UTF_8);
+        if (String.class.equals(type)) {
+            return (T) text;
+        }
+        return Value.of(text).get(type);
+    }
+
+    @Override
+    public String toString() {
+        return "string";
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InvalidationListenerTest {
+
+    @Test
+    public void shouldFallBackToTTLWhenTrackingIsUnknown() {
+        assertTrue(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "ERR Unknown subcommand or wrong number of arguments for 'TRACKING'. Try CLIENT HELP")));
+        assertTrue(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "ERR unknown subcommand 'TRACKING'. Try CLIENT HELP.")));
+        assertTrue(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "ERR unknown command `CLIENT`, with args beginning with: `ID`, ")));
+        assertTrue(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "ERR Syntax error, try CLIENT (LIST | KILL | GETNAME | SETNAME | PAUSE | REPLY)")));
+    }
+
+    @Test
+    public void shouldNotFallBackToTTLOnOtherErrors() {
+        assertFalse(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "NOAUTH Authentication required.")));
+        assertFalse(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "WRONGPASS invalid username-password pair")));
+        assertFalse(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "NOPERM this user has no permissions to run the 'client' command or its subcommand")));
+        assertFalse(InvalidationListener.isTrackingUnsupported(new JedisDataException(
+                "OOM command not allowed when used memory > 'maxmemory'.")));
+        assertFalse(InvalidationListener.isTrackingUnsupported(new JedisDataException((String) null)));
+    }
+}
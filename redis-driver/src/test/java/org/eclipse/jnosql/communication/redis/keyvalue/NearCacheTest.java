@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NearCacheTest {
+
+    private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        NearCache cache = new NearCache(new NearCacheSettings(2, NearCachePolicy.LRU, Duration.ofMinutes(1L),
+                NearCacheMode.TTL));
+        cache.put("a", VALUE, cache.stamp("a"));
+        cache.put("b", VALUE, cache.stamp("b"));
+        assertNotNull(cache.get("a"));
+        cache.put("c", VALUE, cache.stamp("c"));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(1L, cache.getMetrics().getEvictions());
+    }
+
+    @Test
+    public void shouldEvictLeastFrequentlyUsed() {
+        NearCache cache = new NearCache(new NearCacheSettings(2, NearCachePolicy.LFU, Duration.ofMinutes(1L),
+                NearCacheMode.TTL));
+        cache.put("a", VALUE, cache.stamp("a"));
+        cache.put("b", VALUE, cache.stamp("b"));
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.put("c", VALUE, cache.stamp("c"));
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    public void shouldExpire() throws InterruptedException {
+        NearCache cache = new NearCache(new NearCacheSettings(10, NearCachePolicy.LRU, Duration.ofMillis(50L),
+                NearCacheMode.TTL));
+        cache.put("a", VALUE, cache.stamp("a"));
+        assertNotNull(cache.get("a"));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertNull(cache.get("a"));
+        assertEquals(1L, cache.getMetrics().getExpirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldIgnoreValueReadBeforeInvalidation() {
+        NearCache cache = new NearCache(new NearCacheSettings(10, NearCachePolicy.LRU, Duration.ofMinutes(1L),
+                NearCacheMode.TTL));
+        long stamp = cache.stamp("a");
+        cache.onInvalidation("a");
+        cache.put("a", VALUE, stamp);
+
+        assertNull(cache.get("a"));
+        assertEquals(1L, cache.getMetrics().getInvalidations());
+    }
+
+    @Test
+    public void shouldKeepValueReadBeforeInvalidationOfAnotherKey() {
+        NearCache cache = new NearCache(new NearCacheSettings(10, NearCachePolicy.LRU, Duration.ofMinutes(1L),
+                NearCacheMode.TTL));
+        long stamp = cache.stamp("a");
+        cache.onInvalidation("b");
+        cache.put("a", VALUE, stamp);
+
+        assertNotNull(cache.get("a"));
+        cache.invalidateAll();
+        cache.put("a", VALUE, stamp);
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void shouldCountHitRatio() {
+        NearCache cache = new NearCache(new NearCacheSettings(10, NearCachePolicy.LRU, Duration.ofMinutes(1L),
+                NearCacheMode.TTL));
+        cache.get("a");
+        cache.put("a", VALUE, cache.stamp("a"));
+        cache.get("a");
+        cache.get("a");
+        cache.get("a");
+
+        assertEquals(3L, cache.getMetrics().getHits());
+        assertEquals(1L, cache.getMetrics().getMisses());
+        assertEquals(0.75D, cache.getMetrics().getHitRatio());
+    }
+
+    @Test
+    public void shouldNotCacheWhenTrackingIsNotActive() {
+        NearCache cache = new NearCache(new NearCacheSettings(10, NearCachePolicy.LRU, Duration.ofMinutes(1L),
+                NearCacheMode.TRACKING));
+        cache.put("a", VALUE, cache.stamp("a"));
+        assertNull(cache.get("a"));
+        cache.activate();
+        cache.put("a", VALUE, cache.stamp("a"));
+        assertNotNull(cache.get("a"));
+        cache.deactivate();
+        assertNull(cache.get("a"));
+    }
+}
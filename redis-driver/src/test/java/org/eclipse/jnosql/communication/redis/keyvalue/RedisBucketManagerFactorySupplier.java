@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.redis.keyvalue;
 import jakarta.nosql.Settings;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
+import redis.clients.jedis.JedisPool;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -37,10 +38,18 @@ public enum RedisBucketManagerFactorySupplier implements Supplier<RedisBucketMan
 
     @Override
     public RedisBucketManagerFactory get() {
+        return get(new HashMap<>());
+    }
+
+    public RedisBucketManagerFactory get(Map<String, Object> configurations) {
         RedisConfiguration configuration = new RedisConfiguration();
-        Map<String, Object> settings = new HashMap<>();
+        Map<String, Object> settings = new HashMap<>(configurations);
         settings.put("redis-master-host", redis.getContainerIpAddress());
         settings.put("redis-master-port", redis.getFirstMappedPort());
         return configuration.get(Settings.of(settings));
     }
+
+    public JedisPool getPool() {
+        return new JedisPool(redis.getContainerIpAddress(), redis.getFirstMappedPort());
+    }
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 
@@ -68,4 +69,17 @@ public class RedisBucketManagerFactoryTest {
         assertNotNull(queue);
     }
 
+    @Test
+    public void shouldBorrowConnectionPerOperation() {
+        RedisBucketManagerFactory factory = RedisBucketManagerFactorySupplier.INSTANCE.get();
+        List<String> list = factory.getList(BUCKET_NAME, String.class);
+        RedisPoolMetrics metrics = factory.getPoolMetrics();
+        assertEquals(0L, metrics.getBorrows());
+        list.add("value");
+        list.clear();
+        assertEquals(2L, metrics.getBorrows());
+        assertEquals(0, metrics.getActive());
+        assertEquals(0L, metrics.getFailures());
+    }
+
 }
\ No newline at end of file
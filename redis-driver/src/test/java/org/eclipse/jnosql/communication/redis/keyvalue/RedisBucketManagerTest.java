@@ -25,9 +25,17 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -36,6 +44,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RedisBucketManagerTest {
@@ -111,6 +120,125 @@ public class RedisBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldPutGetAndDeleteInChunks() {
+        List<KeyValueEntity> entities = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            keys.add("chunk" + index);
+            entities.add(KeyValueEntity.of("chunk" + index, Value.of(new User("user" + index))));
+        }
+        BucketManager manager = RedisBucketManagerFactorySupplier.INSTANCE.get(Collections
+                .singletonMap(RedisConfigurations.BATCH_SIZE.get(), 2)).getBucketManager("users-entity");
+        manager.put(entities);
+        assertEquals(5L, StreamSupport.stream(manager.get(keys).spliterator(), false).count());
+        manager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(manager.get(keys).spliterator(), false).count());
+
+        manager.put(entities, Duration.ofSeconds(1L));
+        assertEquals(5L, StreamSupport.stream(manager.get(keys).spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldPutWithTTL() throws InterruptedException {
+        keyValueEntityManager.put(keyValueOtavio, Duration.ofSeconds(1L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        TimeUnit.MILLISECONDS.sleep(2_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldPutWithTTLUnderOneSecond() throws InterruptedException {
+        keyValueEntityManager.put(keyValueOtavio, Duration.ofMillis(500L));
+        keyValueEntityManager.put(Collections.singletonList(keyValueSoro), Duration.ofMillis(500L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        TimeUnit.MILLISECONDS.sleep(1_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+        assertFalse(keyValueEntityManager.get("soro").isPresent());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTTLIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> keyValueEntityManager.put(keyValueOtavio, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> keyValueEntityManager
+                .put(Collections.singletonList(keyValueOtavio), Duration.ofSeconds(-1L)));
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldShareManagerBetweenThreads() throws InterruptedException {
+        List<String> keys = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            keys.add("thread" + index);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (String key : keys) {
+            executor.execute(() -> {
+                keyValueEntityManager.put(key, new User(key));
+                assertEquals(new User(key), keyValueEntityManager.get(key).get().get(User.class));
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        assertEquals(100L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
+        keyValueEntityManager.delete(keys);
+    }
+
+    @Test
+    public void shouldReadFromNearCache() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(RedisConfigurations.NEAR_CACHE_SIZE.get(), 100);
+        settings.put(RedisConfigurations.NEAR_CACHE_MODE.get(), "ttl");
+        RedisBucketManager manager = (RedisBucketManager) RedisBucketManagerFactorySupplier.INSTANCE.get(settings)
+                .getBucketManager("users-entity");
+        manager.put("otavio", userOtavio);
+        assertEquals(userOtavio, manager.get("otavio").get().get(User.class));
+        assertEquals(userOtavio, manager.get("otavio").get().get(User.class));
+        assertEquals(1L, StreamSupport.stream(manager.get(asList("otavio", "soro")).spliterator(), false).count());
+
+        NearCacheMetrics metrics = manager.getNearCacheMetrics().get();
+        assertEquals(2L, metrics.getHits());
+        assertEquals(2L, metrics.getMisses());
+
+        manager.put("otavio", userSoro);
+        assertEquals(userSoro, manager.get("otavio").get().get(User.class));
+    }
+
+    @Test
+    public void shouldInvalidateNearCacheFromAnotherClient() throws InterruptedException {
+        RedisBucketManager manager = (RedisBucketManager) RedisBucketManagerFactorySupplier.INSTANCE.get(Collections
+                .singletonMap(RedisConfigurations.NEAR_CACHE_SIZE.get(), 100)).getBucketManager("users-entity");
+        TimeUnit.MILLISECONDS.sleep(500L);
+        manager.put("otavio", userOtavio);
+        assertEquals(userOtavio, manager.get("otavio").get().get(User.class));
+        assertEquals(userOtavio, manager.get("otavio").get().get(User.class));
+
+        keyValueEntityManager.put("otavio", userSoro);
+        TimeUnit.MILLISECONDS.sleep(500L);
+        assertEquals(userSoro, manager.get("otavio").get().get(User.class));
+        assertTrue(manager.getNearCacheMetrics().get().getInvalidations() > 0L);
+    }
+
+    @Test
+    public void shouldNotHaveNearCacheByDefault() {
+        RedisBucketManager manager = (RedisBucketManager) RedisBucketManagerFactorySupplier.INSTANCE.get()
+                .getBucketManager("users-entity");
+        assertFalse(manager.getNearCacheMetrics().isPresent());
+    }
+
+    @Test
+    public void shouldPutAndGetWithBinaryCodec() {
+        RedisBucketManager manager = ((RedisBucketManagerFactory) keyValueEntityManagerFactory)
+                .getBucketManager("users-entity", RedisValueCodec.binary());
+        manager.put("otavio", 10L);
+        manager.put(KeyValueEntity.of("soro", userSoro));
+
+        assertEquals(10L, manager.get("otavio").get().get(Long.class));
+        assertEquals(10, manager.get("otavio").get().get(Integer.class));
+        assertEquals(userSoro, manager.get("soro").get().get(User.class));
+        assertEquals(RedisValueCodec.binary(), manager.getCodec());
+    }
+
     @AfterEach
     public void remove() {
         keyValueEntityManager.delete(Arrays.asList("otavio", "soro"));
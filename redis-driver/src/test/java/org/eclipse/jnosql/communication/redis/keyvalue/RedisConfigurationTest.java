@@ -15,6 +15,7 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
+import jakarta.nosql.CommunicationException;
 import jakarta.nosql.keyvalue.BucketManagerFactory;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.junit.jupiter.api.Assertions;
@@ -24,7 +25,9 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RedisConfigurationTest {
 
@@ -64,4 +67,27 @@ public class RedisConfigurationTest {
         Assertions.assertTrue(configuration instanceof RedisConfiguration);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReturnValueCodec() {
+        assertEquals(RedisValueCodec.json(), RedisConfiguration.getCodec("json"));
+        assertEquals(RedisValueCodec.string(), RedisConfiguration.getCodec("String"));
+        assertEquals(RedisValueCodec.binary(), RedisConfiguration.getCodec("binary"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenValueCodecIsInvalid() {
+        assertThrows(CommunicationException.class, () -> RedisConfiguration.getCodec(String.class.getName()));
+        assertThrows(CommunicationException.class, () -> RedisConfiguration.getCodec("unknown"));
+    }
+
+    @Test
+    public void shouldDefineValueCodecPerBucket() {
+        Map<String, String> map = new HashMap<>();
+        map.put(RedisConfigurations.VALUE_CODEC.get(), "binary");
+        map.put(RedisConfigurations.VALUE_CODEC.get() + ".users", "string");
+        DefaultRedisBucketManagerFactory managerFactory = (DefaultRedisBucketManagerFactory)
+                configuration.getManagerFactory(map);
+        assertEquals(RedisValueCodec.string(), managerFactory.getCodec("users"));
+        assertEquals(RedisValueCodec.binary(), managerFactory.getCodec("products"));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.ListPosition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link RedisList} commands, chunked LRANGE, LPOS and variadic RPUSH, with the element by element
+ * LLEN and LINDEX loops, on lists of ten thousand elements.
+ * It starts a Redis container, run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisListBenchmark {
+
+    private static final String KEY = "benchmark-list";
+
+    private static final String ADD_KEY = "benchmark-list-add";
+
+    @Param({"10000"})
+    private int size;
+
+    private RedisBucketManagerFactory factory;
+
+    private JedisPool pool;
+
+    private List<String> list;
+
+    private List<String> added;
+
+    private List<String> values;
+
+    private String lastValue;
+
+    @Setup
+    public void setUp() {
+        factory = RedisBucketManagerFactorySupplier.INSTANCE.get();
+        pool = RedisBucketManagerFactorySupplier.INSTANCE.getPool();
+        list = factory.getList(KEY, String.class);
+        added = factory.getList(ADD_KEY, String.class);
+        values = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            values.add("value" + index);
+        }
+        lastValue = values.get(size - 1);
+        list.clear();
+        list.addAll(values);
+    }
+
+    @TearDown
+    public void tearDown() {
+        list.clear();
+        added.clear();
+        pool.close();
+        factory.close();
+    }
+
+    @Benchmark
+    public int iterateWithRange() {
+        int count = 0;
+        for (String value : list) {
+            count += value.length();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int iterateWithIndex() {
+        int count = 0;
+        try (Jedis jedis = pool.getResource()) {
+            for (int index = 0; index < jedis.llen(KEY); index++) {
+                count += jedis.lindex(KEY, index).length();
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int indexOfWithPosition() {
+        return list.indexOf(lastValue);
+    }
+
+    @Benchmark
+    public int indexOfWithIndex() {
+        try (Jedis jedis = pool.getResource()) {
+            for (int index = 0; index < jedis.llen(KEY); index++) {
+                if (lastValue.equals(jedis.lindex(KEY, index))) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int addAllWithPush() {
+        added.addAll(values);
+        added.clear();
+        return values.size();
+    }
+
+    @Benchmark
+    public int addAllWithInsert() {
+        try (Jedis jedis = pool.getResource()) {
+            for (String value : values) {
+                long index = jedis.llen(ADD_KEY);
+                if (index == 0) {
+                    jedis.lpush(ADD_KEY, value);
+                } else {
+                    jedis.linsert(ADD_KEY, ListPosition.AFTER, jedis.lindex(ADD_KEY, index - 1), value);
+                }
+            }
+            jedis.del(ADD_KEY);
+        }
+        return values.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RedisListBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -158,6 +159,18 @@ public class RedisListTest {
         assertTrue(count == 0);
     }
 
+    @Test
+    public void shouldAddAllAndIterateInChunks() {
+        List<ProductCart> chunked = RedisBucketManagerFactorySupplier.INSTANCE.get(Collections
+                .singletonMap(RedisConfigurations.BATCH_SIZE.get(), 2)).getList(FRUITS, ProductCart.class);
+        chunked.addAll(Arrays.asList(orange, banana, waterMelon, melon, banana));
+        assertEquals(5, fruits.size());
+        assertEquals(Arrays.asList(orange, banana, waterMelon, melon, banana), new ArrayList<>(chunked));
+        assertEquals(1, chunked.indexOf(banana));
+        assertEquals(4, chunked.lastIndexOf(banana));
+        assertEquals(melon, chunked.get(3));
+    }
+
     @Test
     public void shouldClear(){
         fruits.add(orange);
@@ -20,8 +20,12 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -32,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RedisMapTest {
@@ -107,6 +112,51 @@ public class RedisMapTest {
         assertThat(vertebrates, not(hasKey(fishes)));
     }
 
+    @Test
+    public void shouldPutAllAndScanInChunks() {
+        Map<String, Species> chunked = RedisBucketManagerFactorySupplier.INSTANCE.get(Collections
+                .singletonMap(RedisConfigurations.BATCH_SIZE.get(), 2))
+                .getMap("vertebrates", String.class, Species.class);
+        Map<String, Species> expected = new HashMap<>();
+        expected.put("mammals", mammals);
+        expected.put("fishes", fishes);
+        expected.put("amphibians", amphibians);
+        chunked.putAll(expected);
+
+        assertEquals(3, vertebrates.size());
+        assertEquals(expected.keySet(), new HashSet<>(chunked.keySet()));
+        assertEquals(3, new ArrayList<>(chunked.values()).size());
+        assertEquals(3, new HashSet<>(chunked.entrySet()).size());
+        assertTrue(chunked.keySet().contains("fishes"));
+        assertTrue(chunked.containsValue(amphibians));
+    }
+
+    @Test
+    public void shouldRemoveThroughTheViews() {
+        vertebrates.put("mammals", mammals);
+        vertebrates.put("fishes", fishes);
+        vertebrates.put("amphibians", amphibians);
+
+        Iterator<String> keys = vertebrates.keySet().iterator();
+        String removed = keys.next();
+        keys.remove();
+        assertFalse(vertebrates.containsKey(removed));
+        assertEquals(2, vertebrates.size());
+
+        String other = vertebrates.keySet().iterator().next();
+        assertTrue(vertebrates.keySet().remove(other));
+        assertFalse(vertebrates.keySet().remove(other));
+        assertEquals(1, vertebrates.size());
+
+        assertTrue(vertebrates.entrySet().removeIf(e -> true));
+        assertTrue(vertebrates.isEmpty());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeyIsNull() {
+        assertThrows(NullPointerException.class, () -> vertebrates.put(null, mammals));
+    }
+
     @Test
     public void shouldClear() {
         vertebrates.put("mammals", mammals);
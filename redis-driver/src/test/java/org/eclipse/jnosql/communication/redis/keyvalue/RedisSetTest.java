@@ -23,11 +23,14 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -104,6 +107,23 @@ public class RedisSetTest {
         assertTrue(users.size() == 2);
     }
 
+    @Test
+    public void shouldScanInChunks() {
+        Set<User> chunked = RedisBucketManagerFactorySupplier.INSTANCE.get(Collections
+                .singletonMap(RedisConfigurations.BATCH_SIZE.get(), 2)).getSet("social-media", User.class);
+        Set<User> expected = new HashSet<>();
+        for (int index = 0; index < 10; index++) {
+            expected.add(new User("user" + index));
+        }
+        chunked.addAll(expected);
+        assertEquals(expected, new HashSet<>(chunked));
+        assertTrue(chunked.contains(new User("user5")));
+        assertFalse(chunked.contains(new User("user10")));
+        assertTrue(chunked.remove(new User("user5")));
+        assertFalse(chunked.remove(new User("user5")));
+        assertEquals(9, users.size());
+    }
+
     @Test
     public void shouldClear() {
         users.add(userOtavioJava);
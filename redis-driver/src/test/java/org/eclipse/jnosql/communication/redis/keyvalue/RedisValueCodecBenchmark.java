@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link RedisValueCodec} implementations encoding and decoding the small values, a long, a double and
+ * a short text, without Redis. The encoded sizes are printed at the setup.
+ * Run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisValueCodecBenchmark {
+
+    private static final long LONG = 1_234_567L;
+
+    private static final double DOUBLE = 1_234.5678D;
+
+    private static final String TEXT = "otavio";
+
+    @Param({"json", "string", "binary"})
+    private String name;
+
+    private RedisValueCodec codec;
+
+    private byte[] longValue;
+
+    private byte[] doubleValue;
+
+    private byte[] textValue;
+
+    @Setup
+    public void setUp() {
+        codec = RedisConfiguration.getCodec(name);
+        longValue = codec.encode(LONG);
+        doubleValue = codec.encode(DOUBLE);
+        textValue = codec.encode(TEXT);
+    }
+
+    @Benchmark
+    public byte[] encodeLong() {
+        return codec.encode(LONG);
+    }
+
+    @Benchmark
+    public Long decodeLong() {
+        return codec.decode(longValue, Long.class);
+    }
+
+    @Benchmark
+    public byte[] encodeDouble() {
+        return codec.encode(DOUBLE);
+    }
+
+    @Benchmark
+    public Double decodeDouble() {
+        return codec.decode(doubleValue, Double.class);
+    }
+
+    @Benchmark
+    public byte[] encodeText() {
+        return codec.encode(TEXT);
+    }
+
+    @Benchmark
+    public String decodeText() {
+        return codec.decode(textValue, String.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RedisValueCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2021 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RedisValueCodecTest {
+
+    @Test
+    public void shouldEncodeAndDecodeJson() {
+        RedisValueCodec codec = RedisValueCodec.json();
+        User user = new User("otavio");
+        byte[] bytes = codec.encode(user);
+        assertEquals("{\"nickName\":\"otavio\"}", codec.decode(bytes));
+        assertEquals(user, codec.decode(bytes, User.class));
+        List<String> names = codec.decode(codec.encode(Arrays.asList("otavio", "soro")),
+                new TypeReference<List<String>>() {
+                });
+        assertEquals(Arrays.asList("otavio", "soro"), names);
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeString() {
+        RedisValueCodec codec = RedisValueCodec.string();
+        assertEquals("otavio", codec.decode(codec.encode("otavio")));
+        assertEquals(10L, codec.decode(codec.encode(10L), Long.class));
+        assertEquals(12.5, codec.decode(codec.encode(12.5), Double.class));
+        assertArrayEquals("10".getBytes(), codec.encode(10));
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeBinary() {
+        RedisValueCodec codec = RedisValueCodec.binary();
+        for (Object value : Arrays.asList("otavio", 10, -10, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE,
+                (short) 3, (byte) 2, 12.5D, 1.5F, true, false, 'a', new BigDecimal("-12.345"),
+                new BigInteger("123456789012345678901234567890"))) {
+            assertEquals(value, codec.decode(codec.encode(value)));
+        }
+        assertArrayEquals(new byte[]{1, 2}, (byte[]) codec.decode(codec.encode(new byte[]{1, 2})));
+        assertEquals(new User("otavio"), codec.decode(codec.encode(new User("otavio")), User.class));
+    }
+
+    @Test
+    public void shouldConvertBinaryToType() {
+        RedisValueCodec codec = RedisValueCodec.binary();
+        assertEquals(10L, codec.decode(codec.encode(10), Long.class));
+        assertEquals(10, codec.decode(codec.encode(10L), int.class));
+        assertEquals("10", codec.decode(codec.encode(10), String.class));
+        assertEquals(10, codec.decode(codec.encode("10"), Integer.class));
+    }
+
+    @Test
+    public void shouldWriteCompactBinary() {
+        RedisValueCodec codec = RedisValueCodec.binary();
+        assertEquals(2, codec.encode(10L).length);
+        assertEquals(9, codec.encode(12.5D).length);
+        assertTrue(codec.encode(1_000_000L).length < RedisValueCodec.json().encode(1_000_000L).length);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBinaryHasNoTag() {
+        assertThrows(IllegalArgumentException.class, () -> RedisValueCodec.binary().decode(new byte[0]));
+        assertThrows(NullPointerException.class, () -> RedisValueCodec.binary().encode(null));
+    }
+}